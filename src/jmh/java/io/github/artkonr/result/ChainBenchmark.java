@@ -0,0 +1,84 @@
+package io.github.artkonr.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Deep {@code map}/{@code flatMap} chains over {@code OK}, {@code ERR}
+ *  and alternating inputs. The alternating case feeds both states
+ *  through the same call sites.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ChainBenchmark {
+
+    @Param({"1", "8", "32"})
+    int depth;
+
+    private Result<Integer, RuntimeException> ok;
+
+    private Result<Integer, RuntimeException> err;
+
+    private int flip;
+
+    @Setup
+    public void setUp() {
+        ok = Result.ok(1000);
+        err = Result.err(new RuntimeException("benchmark"));
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> mapOk() {
+        return map(ok);
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> mapErr() {
+        return map(err);
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> mapMixed() {
+        return map((flip++ & 1) == 0 ? ok : err);
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> flatMapOk() {
+        return flatMap(ok);
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> flatMapErr() {
+        return flatMap(err);
+    }
+
+    @Benchmark
+    public Result<Integer, RuntimeException> flatMapMixed() {
+        return flatMap((flip++ & 1) == 0 ? ok : err);
+    }
+
+    private Result<Integer, RuntimeException> map(Result<Integer, RuntimeException> source) {
+        Result<Integer, RuntimeException> current = source;
+        for (int i = 0; i < depth; i++) {
+            current = current.map(item -> item + 1);
+        }
+        return current;
+    }
+
+    private Result<Integer, RuntimeException> flatMap(Result<Integer, RuntimeException> source) {
+        Result<Integer, RuntimeException> current = source;
+        for (int i = 0; i < depth; i++) {
+            current = current.flatMap(item -> item > 0 ? Result.ok(item + 1) : Result.err(new RuntimeException()));
+        }
+        return current;
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.artkonr.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Error path cost at different stack depths: unwrapping an {@code ERR}
+ *  with and without the stack trace, and creating a regular versus a
+ *  {@link StacklessException stackless} domain error.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class FailureBenchmark {
+
+    @Param({"0", "32", "256"})
+    int depth;
+
+    private Result<Integer, RuntimeException> err;
+
+    @Setup
+    public void setUp() {
+        err = Result.err(new RuntimeException("benchmark"));
+    }
+
+    @Benchmark
+    public Object unwrap() {
+        return atDepth(depth, () -> {
+            try {
+                return err.unwrap();
+            } catch (Failure failure) {
+                return failure;
+            }
+        });
+    }
+
+    @Benchmark
+    public Object unwrapStackless() {
+        return atDepth(depth, () -> {
+            try {
+                return err.unwrapStackless();
+            } catch (Failure failure) {
+                return failure;
+            }
+        });
+    }
+
+    @Benchmark
+    public Object taintRegular() {
+        return atDepth(depth, () -> Result.ok(1).taint(() -> new IllegalStateException("benchmark")));
+    }
+
+    @Benchmark
+    public Object taintStackless() {
+        return atDepth(depth, () -> Result.ok(1).taint(StacklessException.factory("benchmark")));
+    }
+
+    private static Object atDepth(int depth, Supplier<Object> action) {
+        return depth == 0 ? action.get() : atDepth(depth - 1, action);
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.artkonr.result;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * {@code join}/{@code chain} over collections of different sizes,
+ *  with no error or a single error at the head, in the middle or
+ *  at the tail of the input.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JoinBenchmark {
+
+    @Param({"10", "1000", "100000", "1000000"})
+    int size;
+
+    @Param({"none", "head", "middle", "tail"})
+    String errorAt;
+
+    private List<Result<Integer, RuntimeException>> results;
+
+    private List<BaseResult<RuntimeException>> flags;
+
+    private List<Supplier<Result<Integer, RuntimeException>>> invocations;
+
+    @Setup
+    public void setUp() {
+        int errorIndex = switch (errorAt) {
+            case "head" -> 0;
+            case "middle" -> size / 2;
+            case "tail" -> size - 1;
+            default -> -1;
+        };
+
+        results = new ArrayList<>(size);
+        flags = new ArrayList<>(size);
+        invocations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Result<Integer, RuntimeException> result = i == errorIndex
+                    ? Result.err(new RuntimeException("benchmark"))
+                    : Result.ok(i);
+            results.add(result);
+            flags.add(result);
+            invocations.add(() -> result);
+        }
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> joinHead() {
+        return Result.join(results, TakeFrom.HEAD);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> joinTail() {
+        return Result.join(results, TakeFrom.TAIL);
+    }
+
+    @Benchmark
+    public Result<Integer[], RuntimeException> joinToArray() {
+        return Result.joinToArray(results, Integer[]::new, TakeFrom.HEAD);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> joinView() {
+        return Result.joinView(results, TakeFrom.HEAD);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> joinParallelHead() {
+        return Result.joinParallel(results, TakeFrom.HEAD);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> joinParallelTail() {
+        return Result.joinParallel(results, TakeFrom.TAIL);
+    }
+
+    @Benchmark
+    public FlagResult<RuntimeException> flagJoinHead() {
+        return FlagResult.join(flags, TakeFrom.HEAD);
+    }
+
+    @Benchmark
+    public FlagResult<RuntimeException> flagJoinTail() {
+        return FlagResult.join(flags, TakeFrom.TAIL);
+    }
+
+    @Benchmark
+    public Result<List<Integer>, RuntimeException> chain() {
+        return Result.chain(invocations);
+    }
+}
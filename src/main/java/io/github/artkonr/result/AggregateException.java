@@ -0,0 +1,158 @@
+package io.github.artkonr.result;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An exception aggregating errors of several {@code ERR} results,
+ *  produced by {@link Result#joinAll(java.util.Collection, int, int)}
+ *  and {@link FlagResult#joinAll(java.util.Collection, int, int)}.
+ * <p>To keep the memory bounded if a whole batch fails, only the
+ *  first errors are retained in full, up to a limit. Errors past
+ *  the limit are only counted per exception class. The first error
+ *  becomes the cause; the retained errors that follow it, up to
+ *  a separate limit, are attached as {@link #getSuppressed()
+ *  suppressed} exceptions, so that they show up in the stack trace.
+ */
+public final class AggregateException extends Exception {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Retained errors, in the encounter order.
+     */
+    private final List<Exception> errors;
+
+    /**
+     * Number of errors past the limit, per exception class.
+     */
+    private final Map<Class<? extends Exception>, Integer> omitted;
+
+    /**
+     * Total number of aggregated errors.
+     */
+    private final int count;
+
+    private AggregateException(List<Exception> errors,
+                               Map<Class<? extends Exception>, Integer> omitted,
+                               int count) {
+        super(describe(errors, omitted, count), errors.isEmpty() ? null : errors.get(0));
+        this.errors = errors;
+        this.omitted = omitted;
+        this.count = count;
+    }
+
+    /**
+     * Returns the retained errors, in the encounter order.
+     * @return unmodifiable list of errors
+     */
+    public List<Exception> errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of errors not retained, per exception class.
+     * @return unmodifiable map of counts, in the order classes were
+     *  first encountered
+     */
+    public Map<Class<? extends Exception>, Integer> omitted() {
+        return omitted;
+    }
+
+    /**
+     * Returns the total number of aggregated errors,
+     *  both retained and omitted.
+     * @return number of errors
+     */
+    public int count() {
+        return count;
+    }
+
+    private static String describe(List<Exception> errors,
+                                   Map<Class<? extends Exception>, Integer> omitted,
+                                   int count) {
+        StringBuilder message = new StringBuilder()
+                .append(count).append(count == 1 ? " error" : " errors");
+        if (!omitted.isEmpty()) {
+            message.append(", ").append(count - errors.size()).append(" omitted: ");
+            String separator = "";
+            for (Map.Entry<Class<? extends Exception>, Integer> entry : omitted.entrySet()) {
+                message.append(separator).append(entry.getKey().getName()).append(" x").append(entry.getValue());
+                separator = ", ";
+            }
+        }
+        return message.toString();
+    }
+
+    /**
+     * Mutable aggregation of errors.
+     */
+    static final class Builder {
+
+        private final int limit;
+
+        private final int suppressedLimit;
+
+        private final List<Exception> errors = new ArrayList<>();
+
+        private final Map<Class<? extends Exception>, Integer> omitted = new LinkedHashMap<>();
+
+        private int count;
+
+        /**
+         * Creates a builder.
+         * @param limit maximum number of errors to retain
+         * @param suppressedLimit maximum number of errors to
+         *  attach as suppressed, besides the cause
+         * @throws IllegalArgumentException if either of the limits is negative
+         */
+        Builder(int limit, int suppressedLimit) {
+            if (limit < 0 || suppressedLimit < 0) {
+                throw new IllegalArgumentException("limits must not be negative");
+            }
+            this.limit = limit;
+            this.suppressedLimit = suppressedLimit;
+        }
+
+        /**
+         * Adds the next error.
+         * @param error error
+         */
+        void add(Exception error) {
+            count++;
+            if (errors.size() < limit) {
+                errors.add(error);
+            } else {
+                omitted.merge(error.getClass(), 1, Integer::sum);
+            }
+        }
+
+        /**
+         * Checks if any errors were added.
+         * @return {@code true} if there are errors
+         */
+        boolean isEmpty() {
+            return count == 0;
+        }
+
+        /**
+         * Builds the exception.
+         * @return aggregated exception
+         */
+        AggregateException build() {
+            AggregateException aggregated = new AggregateException(
+                    Collections.unmodifiableList(errors),
+                    Collections.unmodifiableMap(omitted),
+                    count
+            );
+            int suppressed = (int) Math.min((long) suppressedLimit + 1, errors.size());
+            for (int i = 1; i < suppressed; i++) {
+                aggregated.addSuppressed(errors.get(i));
+            }
+            return aggregated;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.artkonr.result;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Non-blocking search for the {@code ERR} result that a sequential
+ *  join would pick, over results that complete asynchronously.
+ * <p>The outcome is decided as early as the rule allows: with
+ *  {@link TakeFrom#HEAD}, once all results before an {@code ERR}
+ *  one are {@code OK}; with {@link TakeFrom#TAIL}, once all results
+ *  after an {@code ERR} one are {@code OK}; with {@link TakeFrom#ANY},
+ *  once any {@code ERR} result completes. Otherwise, once all
+ *  results complete.
+ * <p>Completions are recorded without locking: each source fills
+ *  its own slot and then advances the scanning cursor with a CAS,
+ *  so whichever thread fills the slot under the cursor carries the
+ *  scan on.
+ * @param <E> error type
+ */
+final class AsyncJoin<E extends Exception> {
+
+    private final List<CompletableFuture<? extends Result<?, E>>> sources;
+
+    private final TakeFrom rule;
+
+    private final AtomicReferenceArray<Result<?, E>> completed;
+
+    private final CompletableFuture<Result<?, E>> picked = new CompletableFuture<>();
+
+    private final AtomicInteger head = new AtomicInteger();
+
+    private final AtomicInteger tail;
+
+    private final AtomicInteger remaining;
+
+    /**
+     * Default constructor. Subscribes to all sources.
+     * @param sources asynchronous results
+     * @param rule fusing rule
+     */
+    AsyncJoin(List<CompletableFuture<? extends Result<?, E>>> sources, TakeFrom rule) {
+        this.sources = sources;
+        this.rule = rule;
+        this.completed = new AtomicReferenceArray<>(sources.size());
+        this.tail = new AtomicInteger(sources.size() - 1);
+        this.remaining = new AtomicInteger(sources.size());
+        if (sources.isEmpty()) {
+            picked.complete(null);
+            return;
+        }
+
+        for (int i = 0; i < sources.size(); i++) {
+            int index = i;
+            sources.get(i).whenComplete((result, failure) -> {
+                if (failure != null) {
+                    picked.completeExceptionally(failure);
+                } else {
+                    accept(index, result);
+                }
+            });
+        }
+    }
+
+    /**
+     * Returns the outcome: the picked {@code ERR} result, or
+     *  {@code null} once all sources complete with {@code OK}.
+     * @return future outcome
+     */
+    CompletableFuture<Result<?, E>> picked() {
+        return picked;
+    }
+
+    /**
+     * Returns the item of a source, which completed with {@code OK}.
+     * @param index source index
+     * @return item
+     */
+    Object item(int index) {
+        return sources.get(index).join().get();
+    }
+
+    private void accept(int index, Result<?, E> result) {
+        if (picked.isDone()) {
+            return;
+        }
+
+        completed.set(index, result);
+        switch (rule) {
+            case HEAD -> scan(head, 1);
+            case TAIL -> scan(tail, -1);
+            case ANY -> {
+                if (result.isErr()) {
+                    picked.complete(result);
+                }
+            }
+        }
+
+        // every scan is over before its own decrement, so if an
+        //  ERR result was due, it has been picked by now
+        if (remaining.decrementAndGet() == 0) {
+            picked.complete(null);
+        }
+    }
+
+    /**
+     * Advances the cursor over completed {@code OK} results and
+     *  picks the {@code ERR} result it stops at. Stops at an empty
+     *  slot: the slot is filled before its source scans, so the
+     *  scan is carried on by that source.
+     * @param cursor scanning cursor
+     * @param step scanning direction
+     */
+    private void scan(AtomicInteger cursor, int step) {
+        int at = cursor.get();
+        while (at >= 0 && at < completed.length()) {
+            Result<?, E> current = completed.get(at);
+            if (current == null) {
+                return;
+            }
+            if (current.isErr()) {
+                picked.complete(current);
+                return;
+            }
+            if (cursor.compareAndSet(at, at + step)) {
+                at += step;
+            } else {
+                at = cursor.get();
+            }
+        }
+    }
+}
@@ -0,0 +1,514 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that completes asynchronously, backed by a
+ *  {@link CompletionStage}.
+ * <p>Transformations ({@code map}, {@code flatMap}, {@code recover}
+ *  etc.) never block: each of them returns a new async result,
+ *  which completes once {@code this} one does, running the
+ *  transformation in the completing thread.
+ * <p>Failures of the source stage are mapped onto the {@code ERR}
+ *  state using the same rules as {@link Result#wrap(Class, Wrap.Supplier)}:
+ *  {@link CompletionException} and {@link ExecutionException} wrappers
+ *  are unwrapped, an exception of the expected type becomes the error,
+ *  and any other exception fails the async result with an
+ *  {@link IllegalStateException}. If a transformation function throws,
+ *  the async result fails with that exception, same as the strict
+ *  transformation would throw it.
+ * @param <V> item type
+ * @param <E> error type
+ */
+public final class AsyncResult<V, E extends Exception> {
+
+    private final CompletableFuture<Result<V, E>> future;
+
+    /**
+     * Runs a specified {@link Wrap.Supplier} in the executor and
+     *  wraps the outcome the same way as {@link Result#wrap(Wrap.Supplier)}.
+     * @param action fallible action
+     * @param executor executor to run the action in
+     * @return async result of the invocation
+     * @param <V> item type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V> AsyncResult<V, Exception> wrap(@NonNull Wrap.Supplier<V> action,
+                                                     @NonNull Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.wrap(action), executor));
+    }
+
+    /**
+     * Runs a specified {@link Wrap.Supplier} in the executor and
+     *  wraps the outcome the same way as {@link Result#wrap(Class,
+     *  Wrap.Supplier)}.
+     * @param errType expected type
+     * @param action fallible action
+     * @param executor executor to run the action in
+     * @return async result of the invocation
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> wrap(@NonNull Class<E> errType,
+                                                                  @NonNull Wrap.Supplier<V> action,
+                                                                  @NonNull Executor executor) {
+        return new AsyncResult<>(CompletableFuture.supplyAsync(() -> Result.wrap(errType, action), executor));
+    }
+
+    /**
+     * Wraps the outcome of a {@link CompletionStage}: the item it
+     *  completes with becomes {@code OK}, any exception it fails
+     *  with becomes {@code ERR}.
+     * @param stage source stage
+     * @return async result
+     * @param <V> item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V> AsyncResult<V, Exception> from(@NonNull CompletionStage<V> stage) {
+        return from(Exception.class, stage);
+    }
+
+    /**
+     * Wraps the outcome of a {@link CompletionStage}: the item it
+     *  completes with becomes {@code OK}, an exception of the expected
+     *  type it fails with becomes {@code ERR}. Other exceptions fail
+     *  the async result with an {@link IllegalStateException}.
+     * @param errType expected type
+     * @param stage source stage
+     * @return async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> from(@NonNull Class<E> errType,
+                                                                  @NonNull CompletionStage<V> stage) {
+        return new AsyncResult<>(stage.handle((item, failure) -> settle(errType, item, failure)).toCompletableFuture());
+    }
+
+    /**
+     * Wraps a {@link CompletionStage} of a {@link Result}.
+     * @param stage source stage
+     * @return async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> of(@NonNull CompletionStage<Result<V, E>> stage) {
+        return new AsyncResult<>(stage.thenApply(AsyncResult::requireResult).toCompletableFuture());
+    }
+
+    /**
+     * Creates an already completed async result from a strict one.
+     * @param source source result
+     * @return async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> from(@NonNull Result<V, E> source) {
+        return new AsyncResult<>(CompletableFuture.completedFuture(source));
+    }
+
+    /**
+     * Creates an already completed {@code OK} async result.
+     * @param item ok item
+     * @return async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> ok(@NonNull V item) {
+        return from(Result.ok(item));
+    }
+
+    /**
+     * Creates an already completed {@code ERR} async result.
+     * @param error error
+     * @return async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> AsyncResult<V, E> err(@NonNull E error) {
+        return from(Result.err(error));
+    }
+
+    /**
+     * Joins async results into an async {@link Result} of {@link
+     *  List} of items, taking the first error.
+     * @param results collection of async results
+     * @return joined async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see #join(Collection, TakeFrom)
+     */
+    public static <V, E extends Exception> AsyncResult<List<V>, E> join(@NonNull Collection<AsyncResult<V, E>> results) {
+        return join(results, TakeFrom.HEAD);
+    }
+
+    /**
+     * Joins async results into an async {@link Result} of {@link
+     *  List} of items without blocking. The outcome is the same as
+     *  with {@link Result#join(Collection, TakeFrom)} over the completed
+     *  results, but is known as early as the rule allows: e.g. with
+     *  {@link TakeFrom#HEAD}, as soon as all results before the first
+     *  {@code ERR} one complete. {@code null} elements are skipped.
+     * <p>If any of the async results fails, the joined one fails too.
+     * @param results collection of async results
+     * @param rule fusing rule
+     * @return joined async result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> AsyncResult<List<V>, E> join(@NonNull Collection<AsyncResult<V, E>> results,
+                                                                        @NonNull TakeFrom rule) {
+        List<CompletableFuture<? extends Result<?, E>>> sources = new ArrayList<>(results.size());
+        for (AsyncResult<V, E> result : results) {
+            if (result != null) {
+                sources.add(result.future);
+            }
+        }
+
+        AsyncJoin<E> join = new AsyncJoin<>(sources, rule);
+        return new AsyncResult<>(join.picked().thenApply(picked -> {
+            if (picked != null) {
+                return Result.errOf(picked);
+            }
+
+            List<V> items = new ArrayList<>(sources.size());
+            for (int i = 0; i < sources.size(); i++) {
+                @SuppressWarnings("unchecked")
+                V item = (V) join.item(i);
+                items.add(item);
+            }
+            return Result.ok(Collections.unmodifiableList(items));
+        }));
+    }
+
+    /**
+     * Fuses {@code this} and another async result into an async
+     *  {@link Result} of {@link Result.Fuse}, taking the error
+     *  of {@code this} if both are {@code ERR}.
+     * @param another fuse with
+     * @return fused async result
+     * @param <N> fused item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#fuse(Result)
+     */
+    public <N> AsyncResult<Result.Fuse<V, N>, E> fuse(@NonNull AsyncResult<N, E> another) {
+        return fuse(another, TakeFrom.HEAD);
+    }
+
+    /**
+     * Fuses {@code this} and another async result into an async
+     *  {@link Result} of {@link Result.Fuse} without blocking. The
+     *  error is taken as described by {@link TakeFrom}, and is known
+     *  as early as the rule allows, same as with {@link #join(Collection,
+     *  TakeFrom)}.
+     * @param another fuse with
+     * @param rule fusing rule
+     * @return fused async result
+     * @param <N> fused item type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#fuse(Result, TakeFrom)
+     */
+    public <N> AsyncResult<Result.Fuse<V, N>, E> fuse(@NonNull AsyncResult<N, E> another,
+                                                      @NonNull TakeFrom rule) {
+        AsyncJoin<E> join = new AsyncJoin<>(List.of(future, another.future), rule);
+        return new AsyncResult<>(join.picked().thenApply(picked -> {
+            if (picked != null) {
+                return Result.errOf(picked);
+            }
+
+            @SuppressWarnings("unchecked")
+            Result.Fuse<V, N> fused = new Result.Fuse<>((V) join.item(0), (N) join.item(1));
+            return Result.ok(fused);
+        }));
+    }
+
+    /**
+     * Remaps the {@code OK} item once completed.
+     * @param remap remapping function
+     * @return new async result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#map(Function)
+     */
+    public <N> AsyncResult<N, E> map(@NonNull Function<V, N> remap) {
+        return new AsyncResult<>(future.thenApply(result -> result.map(remap)));
+    }
+
+    /**
+     * Remaps the {@code OK} item into another result once completed.
+     * @param remap remapping function
+     * @return new async result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#flatMap(Function)
+     */
+    public <N> AsyncResult<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap) {
+        return new AsyncResult<>(future.thenApply(result -> result.flatMap(remap)));
+    }
+
+    /**
+     * Remaps the {@code OK} item into another async result once
+     *  completed, only starting it if {@code this} turns out {@code OK}.
+     * @param remap remapping function
+     * @return new async result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public <N> AsyncResult<N, E> flatMapAsync(@NonNull Function<V, AsyncResult<N, E>> remap) {
+        return new AsyncResult<>(future.thenCompose(result -> result.isOk()
+                ? remap.apply(result.get()).future
+                : CompletableFuture.completedFuture(Result.errOf(result))
+        ));
+    }
+
+    /**
+     * Remaps the {@code ERR} state once completed.
+     * @param remap remapping function
+     * @return new async result
+     * @param <N> new error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#mapErr(Function)
+     */
+    public <N extends Exception> AsyncResult<V, N> mapErr(@NonNull Function<E, N> remap) {
+        return new AsyncResult<>(future.thenApply(result -> result.mapErr(remap)));
+    }
+
+    /**
+     * Replaces the {@code OK} item once completed.
+     * @param item new item
+     * @return new async result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#swap(Object)
+     */
+    public <N> AsyncResult<N, E> swap(@NonNull N item) {
+        return new AsyncResult<>(future.thenApply(result -> result.swap(item)));
+    }
+
+    /**
+     * Converts {@code OK} into {@code ERR} once completed.
+     * @param factory error factory
+     * @return new async result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#fork(Supplier)
+     */
+    public AsyncResult<V, E> fork(@NonNull Supplier<E> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.fork(factory)));
+    }
+
+    /**
+     * Converts {@code OK} into {@code ERR} of a broader
+     *  type once completed.
+     * @param factory error factory
+     * @return new async result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#taint(Supplier)
+     */
+    public AsyncResult<V, Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.taint(factory)));
+    }
+
+    /**
+     * Converts {@code OK} into {@code ERR} if the condition
+     *  holds once completed.
+     * @param condition condition
+     * @param factory error factory
+     * @return new async result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#fork(Predicate, Function)
+     */
+    public AsyncResult<V, E> fork(@NonNull Predicate<V> condition,
+                                  @NonNull Function<V, E> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.fork(condition, factory)));
+    }
+
+    /**
+     * Converts {@code OK} into {@code ERR} of a broader type if
+     *  the condition holds once completed.
+     * @param condition condition
+     * @param factory error factory
+     * @return new async result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#taint(Predicate, Function)
+     */
+    public AsyncResult<V, Exception> taint(@NonNull Predicate<V> condition,
+                                           @NonNull Function<V, ? extends Exception> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.taint(condition, factory)));
+    }
+
+    /**
+     * Recovers from {@code ERR} once completed.
+     * @param factory recovery function
+     * @return new async result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#recover(Function)
+     */
+    public AsyncResult<V, E> recover(@NonNull Function<E, V> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.recover(factory)));
+    }
+
+    /**
+     * Recovers from {@code ERR} if the condition holds once completed.
+     * @param condition condition
+     * @param factory recovery function
+     * @return new async result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#recover(Predicate, Function)
+     */
+    public AsyncResult<V, E> recover(@NonNull Predicate<E> condition,
+                                     @NonNull Function<E, V> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.recover(condition, factory)));
+    }
+
+    /**
+     * Recovers from {@code ERR} of the specified type once completed.
+     * @param ifType checked type
+     * @param factory recovery function
+     * @return new async result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#recover(Class, Function)
+     */
+    public AsyncResult<V, E> recover(@NonNull Class<? extends E> ifType,
+                                     @NonNull Function<E, V> factory) {
+        return new AsyncResult<>(future.thenApply(result -> result.recover(ifType, factory)));
+    }
+
+    /**
+     * Inspects the {@code OK} item once completed.
+     * @param consumer callback
+     * @return new async result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#peek(Consumer)
+     */
+    public AsyncResult<V, E> peek(@NonNull Consumer<V> consumer) {
+        return new AsyncResult<>(future.thenApply(result -> result.peek(consumer)));
+    }
+
+    /**
+     * Inspects the {@code ERR} state once completed.
+     * @param consumer callback
+     * @return new async result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#peekErr(Consumer)
+     */
+    public AsyncResult<V, E> peekErr(@NonNull Consumer<E> consumer) {
+        return new AsyncResult<>(future.thenApply(result -> result.peekErr(consumer)));
+    }
+
+    /**
+     * Checks if completed, either with a result or with a failure.
+     * @return {@code true} if completed
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Returns a {@link CompletableFuture} of the result. Completing
+     *  it does not affect {@code this} async result.
+     * @return future result
+     */
+    public CompletableFuture<Result<V, E>> toCompletableFuture() {
+        return future.copy();
+    }
+
+    /**
+     * Waits for completion and returns the result. Blocks the
+     *  calling thread.
+     * @return strict result
+     * @throws RuntimeException if the async result failed; the
+     *  original exception is rethrown if unchecked, or wrapped
+     *  into a {@link Failure} otherwise
+     */
+    public Result<V, E> toResult() {
+        try {
+            return future.join();
+        } catch (CompletionException ex) {
+            Throwable cause = unwrap(ex);
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw Failure.of(cause);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        Result<V, E> current = future.isDone() && !future.isCompletedExceptionally() ? future.join() : null;
+        return current == null
+                ? "AsyncResult[?]"
+                : "AsyncResult[" + current + ']';
+    }
+
+    /**
+     * Maps the outcome of a stage onto a {@link Result}, following
+     *  the rules of {@link Result#wrap(Class, Wrap.Supplier)}.
+     * @param errType expected type
+     * @param item item, if completed normally
+     * @param failure exception, if completed exceptionally
+     * @return result
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private static <V, E extends Exception> Result<V, E> settle(Class<E> errType, V item, Throwable failure) {
+        if (failure == null) {
+            return Result.ok(item);
+        }
+
+        Throwable cause = unwrap(failure);
+        if (cause instanceof Exception exception) {
+            if (errType.isInstance(exception)) {
+                return Result.err(errType.cast(exception));
+            }
+            throw BaseResult.unexpectedWrappedException(errType, exception);
+        } else if (cause instanceof Error error) {
+            throw error;
+        } else {
+            throw Failure.of(cause);
+        }
+    }
+
+    private static Throwable unwrap(Throwable failure) {
+        Throwable cause = failure;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException)
+                && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+
+    private static <V, E extends Exception> Result<V, E> requireResult(Result<V, E> result) {
+        if (result == null) {
+            throw new IllegalArgumentException("stage completed with null result");
+        }
+        return result;
+    }
+
+    private AsyncResult(CompletableFuture<Result<V, E>> future) {
+        this.future = future;
+    }
+}
@@ -21,31 +21,19 @@ import java.util.function.Supplier;
  *  result is always backed by a generified {@link Exception}.
  * @param <E> type of exception held by the ERR result.
  */
-public abstract class BaseResult<E extends Exception> {
-
-    /**
-     * Contained error state.
-     * <p>Internal implementation detail: following the previous point,
-     *  this class and subclasses decide if an instance stands for
-     *  {@code OK} or {@code ERR} based
-     */
-    protected final E error;
+public abstract sealed class BaseResult<E extends Exception> permits Result, FlagResult, PrimitiveResult {
 
     /**
      * Checks if {@code this} instance is {@code OK}.
      * @return {@code true} if {@code this} is an {@code OK} result
      */
-    public final boolean isOk() {
-        return error == null;
-    }
+    public abstract boolean isOk();
 
     /**
      * Checks if {@code this} instance is {@code ERR}.
      * @return {@code true} if {@code this} is an {@code ERR} result
      */
-    public final boolean isErr() {
-        return error != null;
-    }
+    public abstract boolean isErr();
 
     /**
      * Checks if {@code this} instance is {@code ERR}
@@ -57,7 +45,7 @@ public abstract class BaseResult<E extends Exception> {
      * @throws IllegalArgumentException if no argument provided
      */
     public final boolean isErrAnd(@NonNull Class<? extends Exception> type) {
-        return isErr() && type.isAssignableFrom(error.getClass());
+        return isErr() && isErrOf(type);
     }
 
     /**
@@ -69,7 +57,7 @@ public abstract class BaseResult<E extends Exception> {
      * @throws IllegalArgumentException if no argument provided
      */
     public final boolean isErrAnd(@NonNull Predicate<E> predicate) {
-        return isErr() && predicate.test(error);
+        return isErr() && predicate.test(getErr());
     }
 
     /**
@@ -77,18 +65,12 @@ public abstract class BaseResult<E extends Exception> {
      * @return internal {@code ERR} state
      * @throws IllegalStateException if {@code this} instance is not an {@code ERR} result.
      */
-    public final E getErr() {
-        if (isErr()) {
-            return error;
-        } else {
-            throw new IllegalStateException("not an ERR result");
-        }
-    }
+    public abstract E getErr();
 
     /**
      * Applies a callback function to convert the internal
      *  error state if {@code this} instance is {@code ERR};
-     *  returns a recreated {@code OK} otherwise.
+     *  returns {@code this} {@code OK} otherwise.
      * @param remap callback
      * @return mapped result
      * @param <N> new error type
@@ -107,8 +89,8 @@ public abstract class BaseResult<E extends Exception> {
     /**
      * Converts an {@code OK} result into {@code ERR}
      *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
      * <p>Note: the resulting type parameter is up-cast
      *  to the most generic type supported: {@link Exception}.
      * @param factory exception factory
@@ -121,8 +103,8 @@ public abstract class BaseResult<E extends Exception> {
     /**
      * Converts an {@code OK} result into {@code ERR}
      *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
      * <p>Contrary to {@link BaseResult#taint(Supplier) tainting},
      *  this method implies that the type of the error
      *  created by the factory matches the type of
@@ -166,10 +148,31 @@ public abstract class BaseResult<E extends Exception> {
      */
     public void ifErr(@NonNull Consumer<E> action) {
         if (isErr()) {
-            action.accept(error);
+            action.accept(getErr());
         }
     }
 
+    /**
+     * Checks if the {@code ERR} state is of the specified type
+     *  or its subclass. Only called on {@code ERR} results.
+     * <p>Deferred {@code ERR} results override it to avoid
+     *  building the exception.
+     * @param type expected type
+     * @return {@code true} if the error is of the type
+     */
+    boolean isErrOf(Class<?> type) {
+        return type.isAssignableFrom(getErr().getClass());
+    }
+
+    /**
+     * Returns the deferred {@code ERR} state, if {@code this}
+     *  instance is a deferred {@code ERR} result.
+     * @return deferred error or {@code null}
+     */
+    DeferredError<E> deferredErr() {
+        return null;
+    }
+
     /**
      * Exception factory: creates an exception that notifies of
      *  an unexpected exception during wrapping.
@@ -187,12 +190,29 @@ public abstract class BaseResult<E extends Exception> {
     }
 
     /**
-     * Internal constructor.
-     * <p>Setting the argument to {@code null} must
-     *  follow the class contract.
-     * @param error nullable error value
+     * Exception factory: creates an exception that notifies of
+     *  an attempt to take an item out of an {@code ERR} result.
+     * @return created exception
      */
-    protected BaseResult(E error) {
-        this.error = error;
+    static IllegalStateException notOk() {
+        return new IllegalStateException("not an OK result");
     }
+
+    /**
+     * Exception factory: creates an exception that notifies of
+     *  an attempt to take an error out of an {@code OK} result.
+     * @return created exception
+     */
+    static IllegalStateException notErr() {
+        return new IllegalStateException("not an ERR result");
+    }
+
+    /**
+     * Internal constructor.
+     * <p>Implementations are sealed: a subclass of {@link Result}
+     *  or {@link FlagResult} stands for either an {@code OK} or an
+     *  {@code ERR} state; {@link PrimitiveResult primitive results}
+     *  hold both states in one class.
+     */
+    BaseResult() { }
 }
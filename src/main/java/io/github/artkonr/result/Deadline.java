@@ -0,0 +1,141 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+
+/**
+ * A point in time after which work started on behalf of a request
+ *  should stop, combined with a cancellation token: a deadline can
+ *  also be {@link #cancel() cancelled} explicitly, e.g. once the
+ *  client goes away.
+ * <p>Deadlines are measured with {@link System#nanoTime()} and
+ *  are thread-safe: the same instance is meant to be passed down
+ *  to all actions done for a request.
+ * @see Result#wrapWithin(Deadline, Wrap.Supplier)
+ * @see Result#chainWithin(java.util.Collection, Deadline)
+ */
+public final class Deadline {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final long expiresAt;
+
+    private final Set<Future<?>> running = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean cancelled;
+
+    /**
+     * Creates a deadline that expires after the specified timeout.
+     * @param timeout timeout
+     * @return deadline
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static Deadline after(@NonNull Duration timeout) {
+        long nanos = saturatedNanos(timeout);
+        long now = System.nanoTime();
+        return new Deadline(nanos >= NEVER - now ? NEVER : now + nanos);
+    }
+
+    /**
+     * Creates a deadline that never expires, but can be cancelled.
+     * @return deadline
+     */
+    public static Deadline never() {
+        return new Deadline(NEVER);
+    }
+
+    /**
+     * Cancels the deadline: it is considered expired from now on.
+     *  Actions currently bound by it are interrupted.
+     */
+    public void cancel() {
+        cancelled = true;
+        for (Future<?> future : running) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Checks if the deadline was {@link #cancel() cancelled}.
+     * @return {@code true} if cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Checks if the deadline passed or was cancelled.
+     * @return {@code true} if expired
+     */
+    public boolean isExpired() {
+        return cancelled || remainingNanos() <= 0;
+    }
+
+    /**
+     * Returns the time left until the deadline.
+     * @return remaining time in nanoseconds, {@code 0} if expired
+     *  or {@link Long#MAX_VALUE} if the deadline never expires
+     */
+    public long remainingNanos() {
+        if (cancelled) {
+            return 0;
+        } else if (expiresAt == NEVER) {
+            return NEVER;
+        }
+        return Math.max(0, expiresAt - System.nanoTime());
+    }
+
+    /**
+     * Creates the error reporting the expiry.
+     * @return stackless error
+     */
+    DeadlineExceededException exceeded() {
+        return new DeadlineExceededException(cancelled);
+    }
+
+    /**
+     * Binds a running action to the deadline, so that it is
+     *  interrupted on cancellation.
+     * @param future running action
+     */
+    void bind(Future<?> future) {
+        running.add(future);
+        if (cancelled) {
+            future.cancel(true);
+        }
+    }
+
+    /**
+     * Releases a completed action.
+     * @param future completed action
+     */
+    void release(Future<?> future) {
+        running.remove(future);
+    }
+
+    @Override
+    public String toString() {
+        if (cancelled) {
+            return "Deadline[cancelled]";
+        } else if (expiresAt == NEVER) {
+            return "Deadline[never]";
+        }
+        return "Deadline[remaining=" + Duration.ofNanos(remainingNanos()) + ']';
+    }
+
+    private static long saturatedNanos(Duration timeout) {
+        try {
+            return Math.max(0, timeout.toNanos());
+        } catch (ArithmeticException ex) {
+            return timeout.isNegative() ? 0 : NEVER;
+        }
+    }
+
+    private Deadline(long expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+}
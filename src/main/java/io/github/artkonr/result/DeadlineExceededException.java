@@ -0,0 +1,35 @@
+package io.github.artkonr.result;
+
+/**
+ * The error of an action that did not complete before its
+ *  {@link Deadline} expired or was cancelled. Does not capture
+ *  a stack trace, as it is expected and reported through the
+ *  {@code ERR} state rather than thrown.
+ */
+public class DeadlineExceededException extends StacklessException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Whether the deadline was cancelled rather than expired.
+     */
+    private final boolean cancelled;
+
+    /**
+     * Default constructor.
+     * @param cancelled whether the deadline was cancelled
+     *  rather than expired
+     */
+    public DeadlineExceededException(boolean cancelled) {
+        super(cancelled ? "deadline cancelled" : "deadline exceeded");
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * Checks if the deadline was cancelled rather than expired.
+     * @return {@code true} if cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.artkonr.result;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Executor used when none is specified: a virtual thread per
+ *  task executor if the runtime supports it, or a shared cached
+ *  pool of daemon threads otherwise. Created on first use.
+ */
+final class DefaultExecutor {
+
+    private static final Executor INSTANCE = create();
+
+    /**
+     * Returns the default executor.
+     * @return executor
+     */
+    static Executor get() {
+        return INSTANCE;
+    }
+
+    private static Executor create() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException ex) {
+            return Executors.newCachedThreadPool(task -> {
+                Thread thread = new Thread(task, "result-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    private DefaultExecutor() { }
+}
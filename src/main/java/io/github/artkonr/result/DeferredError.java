@@ -0,0 +1,87 @@
+package io.github.artkonr.result;
+
+/**
+ * An {@code ERR} state that is built on first access.
+ * <p>The exception type is declared upfront, so that type
+ *  checks can be answered without building the exception.
+ *  The exception is built at most once, even if accessed
+ *  concurrently.
+ * @param <E> type of exception
+ */
+final class DeferredError<E extends Exception> {
+
+    private final Class<? extends E> type;
+
+    private final String code;
+
+    private ErrorFactory<? extends E> factory;
+
+    private Object[] args;
+
+    private volatile E error;
+
+    /**
+     * Default constructor.
+     * @param type declared exception type
+     * @param factory exception factory
+     * @param code error code
+     * @param args error arguments
+     */
+    DeferredError(Class<? extends E> type,
+                  ErrorFactory<? extends E> factory,
+                  String code,
+                  Object[] args) {
+        this.type = type;
+        this.factory = factory;
+        this.code = code;
+        this.args = args;
+    }
+
+    /**
+     * Returns the exception, building it on first access.
+     * @return exception
+     * @throws IllegalArgumentException if the factory returns {@code null}
+     * @throws IllegalStateException if the factory returns an exception
+     *  of an undeclared type
+     */
+    E get() {
+        E current = error;
+        if (current == null) {
+            synchronized (this) {
+                current = error;
+                if (current == null) {
+                    E created = factory.create(code, args);
+                    if (created == null) {
+                        throw new IllegalArgumentException("error factory returned null");
+                    }
+                    if (!type.isInstance(created)) {
+                        throw BaseResult.unexpectedWrappedException(type, created);
+                    }
+
+                    current = created;
+                    error = created;
+                    factory = null;
+                    args = null;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Checks if the exception is of the specified type or its
+     *  subclass. Only builds the exception if the declared type
+     *  cannot answer the check on its own.
+     * @param query checked type
+     * @return {@code true} if the exception is of the type
+     */
+    boolean isInstance(Class<?> query) {
+        if (query.isAssignableFrom(type)) {
+            return true;
+        } else if (error == null && !query.isInterface() && !type.isAssignableFrom(query)) {
+            return false;
+        } else {
+            return query.isInstance(get());
+        }
+    }
+}
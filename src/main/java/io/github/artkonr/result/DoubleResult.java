@@ -0,0 +1,532 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.function.Function;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleSupplier;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A {@link BaseResult result} that contains a primitive {@code double}
+ *  item associated with the {@code OK} state.
+ * <p>This is a primitive specialization of {@link Result}: none of
+ *  the item operations box. Boxing only happens at the boundary, when
+ *  converting from a {@link Result} with {@link DoubleResult#from(Result)}
+ *  or into one with {@link DoubleResult#boxed()}.
+ * @param <E> error type
+ */
+public abstract sealed class DoubleResult<E extends Exception> extends PrimitiveResult<E, DoubleResult<E>>
+        permits DoubleResult.Ok, DoubleResult.Err {
+
+    /**
+     * Runs a specified {@link Wrap.DoubleSupplier}, catches an expected exception
+     *  and returns it as a {@link DoubleResult}.
+     * <p>The expected exception can be any {@link Exception} type.
+     * <p>If no error is thrown by the supplied function, the call
+     *  resolves to {@code OK}.
+     * @param action fallible action
+     * @return result of the invocation
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static DoubleResult<Exception> wrap(@NonNull Wrap.DoubleSupplier action) {
+        return wrap(Exception.class, action);
+    }
+
+    /**
+     * Runs a specified {@link Wrap.DoubleSupplier}, catches an expected exception
+     *  and returns it as a {@link DoubleResult}.
+     * <p>The expected exception can be any {@link Exception} type,
+     *  this method internally checks if the caught exception type
+     *  matches the expected type or its subtype. Normally, the client
+     *  code should pass the narrowest type possible.
+     * <p>If no error is thrown by the supplied function, the call
+     *  resolves to {@code OK}.
+     * @param errType expected type
+     * @param action fallible action
+     * @return result of the invocation
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws IllegalStateException if the exception during invocation is not
+     *  of an expected type or its subtype
+     */
+    public static <E extends Exception> DoubleResult<E> wrap(@NonNull Class<E> errType,
+                                                             @NonNull Wrap.DoubleSupplier action) {
+        double item;
+        try {
+            item = action.getAsDouble();
+        } catch (Exception exception) {
+            return DoubleResult.err(expected(errType, exception));
+        }
+
+        return DoubleResult.ok(item);
+    }
+
+    /**
+     * Creates a new instance from an existing {@link Result result}
+     *  by unboxing its item. The {@code OK}/{@code ERR} state is
+     *  taken from the source entity.
+     * @param source source {@link Result result}
+     * @return new instance
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> DoubleResult<E> from(@NonNull Result<Double, E> source) {
+        if (source.isOk()) {
+            return DoubleResult.ok(source.get());
+        } else {
+            return DoubleResult.errOf(source);
+        }
+    }
+
+    /**
+     * Creates an {@code OK} item with item.
+     * @param item ok item
+     * @return new {@code OK} instance
+     * @param <E> error type
+     */
+    public static <E extends Exception> DoubleResult<E> ok(double item) {
+        return new Ok<>(item);
+    }
+
+    /**
+     * Creates an {@code ERR} item with the provided error.
+     * @param error error
+     * @return new {@code ERR} instance
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> DoubleResult<E> err(@NonNull E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Creates an {@code ERR} item carrying the error of
+     *  the source {@code ERR} result, keeping it deferred
+     *  if it is.
+     * @param source {@code ERR} result
+     * @return {@code ERR} instance
+     * @param <E> error type
+     */
+    static <E extends Exception> DoubleResult<E> errOf(BaseResult<E> source) {
+        DeferredError<E> deferred = source.deferredErr();
+        return deferred == null
+                ? new Err<>(source.getErr())
+                : new DeferredErr<>(deferred);
+    }
+
+    /**
+     * Checks if {@code this} instance is {@code OK}
+     *  and the specified predicate holds.
+     * @param predicate predicate
+     * @return {@code true} if {@code this} is an {@code OK}
+     *  result and the predicate holds
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public boolean isOkAnd(@NonNull DoublePredicate predicate) {
+        return this instanceof Ok<E> ok && predicate.test(ok.item);
+    }
+
+    /**
+     * Attempts to get {@code OK} state or throws
+     *  if {@code this} instance is {@code ERR}.
+     * @return {@code OK} item
+     * @throws IllegalStateException if {@code this}
+     *  instance is {@code ERR}
+     */
+    public double get() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw BaseResult.notOk();
+    }
+
+    /**
+     * Produces a new {@link DoubleResult} out of {@code this}
+     *  and another {@link DoubleResult} by combining their
+     *  items with the specified function.
+     * <p>The eventual {@link DoubleResult} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} from the pair or from {@code this}
+     *  instance if both are {@code ERR}.
+     * @param another fuse with
+     * @param combiner item combining function
+     * @return fused {@link DoubleResult}
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public DoubleResult<E> fuse(@NonNull DoubleResult<E> another,
+                                @NonNull DoubleBinaryOperator combiner) {
+        return fuse(another, combiner, TakeFrom.HEAD);
+    }
+
+    /**
+     * Produces a new {@link DoubleResult} out of {@code this}
+     *  and another {@link DoubleResult} by combining their
+     *  items with the specified function.
+     * <p>The eventual {@link DoubleResult} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise with the error taken from
+     *  the only {@code ERR} from the pair. If both instances
+     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
+     *  to point which of the {@code ERR} items passes the
+     *  error on.
+     * @param another fuse with
+     * @param combiner item combining function
+     * @param rule fusing rule
+     * @return fused {@link DoubleResult}
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public DoubleResult<E> fuse(@NonNull DoubleResult<E> another,
+                                @NonNull DoubleBinaryOperator combiner,
+                                @NonNull TakeFrom rule) {
+        DoubleResult<E> picked = pickErr(another, rule);
+        return picked == null ? DoubleResult.ok(combiner.applyAsDouble(get(), another.get())) : picked;
+    }
+
+    /**
+     * Inspects the {@code OK} state using the specified function,
+     *  if {@code this} instance is {@code OK}.
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public DoubleResult<E> peek(@NonNull DoubleConsumer consumer) {
+        if (this instanceof Ok<E> ok) {
+            consumer.accept(ok.item);
+        }
+        return this;
+    }
+
+    /**
+     * Converts {@code this} instance into a {@link Result}
+     *  by boxing the {@code OK} item.
+     * @return new {@link Result}
+     */
+    public Result<Double, E> boxed() {
+        return this instanceof Ok<E> ok ? Result.ok(ok.item) : Result.errOf(this);
+    }
+
+    /**
+     * Applies a callback function to convert the item
+     *  if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * @param remap callback
+     * @return mapped {@link DoubleResult}
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public DoubleResult<E> map(@NonNull DoubleUnaryOperator remap) {
+        return this instanceof Ok<E> ok ? ok(remap.applyAsDouble(ok.item)) : this;
+    }
+
+    /**
+     * Applies a callback function to convert the item into
+     *  an object if {@code this} instance is {@code OK};
+     *  carries the internal error state otherwise.
+     * @param remap callback
+     * @return mapped {@link Result}
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    public <N> Result<N, E> mapToObj(@NonNull DoubleFunction<N> remap) {
+        return this instanceof Ok<E> ok ? Result.ok(remap.apply(ok.item)) : Result.errOf(this);
+    }
+
+    /**
+     * Applies a {@link DoubleResult}-returning callback function
+     *  to convert the item if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * @param remap callback
+     * @return mapped {@link DoubleResult}
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    public DoubleResult<E> flatMap(@NonNull DoubleFunction<DoubleResult<E>> remap) {
+        return this instanceof Ok<E> ok ? returnRemapped(remap.apply(ok.item)) : this;
+    }
+
+    /**
+     * Erases the {@code ERR} type information of
+     *  {@code this} result.
+     * @return result with broadened
+     */
+    @Override
+    public DoubleResult<Exception> upcast() {
+        @SuppressWarnings("unchecked")
+        DoubleResult<Exception> cast = (DoubleResult<Exception>) this;
+        return cast;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param remap callback
+     * @return mapped {@link DoubleResult}
+     * @param <N> new error type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    @Override
+    public <N extends Exception> DoubleResult<N> mapErr(@NonNull Function<E, N> remap) {
+        if (isOk()) {
+            @SuppressWarnings("unchecked")
+            DoubleResult<N> cast = (DoubleResult<N>) this;
+            return cast;
+        }
+        return err(remap.apply(getErr()));
+    }
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
+     * <p>Note: the resulting type parameter is up-cast
+     *  to the most generic type supported: {@link Exception}.
+     * @param factory exception factory
+     * @return converted instance
+     * @throws IllegalArgumentException if no argument provided or if
+     *  the factory function returns {@code null}
+     */
+    @Override
+    public DoubleResult<Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+        return isOk() ? err(factory.get()) : upcast();
+    }
+
+    /**
+     * Converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction. If {@code this}
+     *  result is already an {@code OK} result, it is
+     *  returned as-is.
+     * @param factory {@code OK} item factory
+     * @return {@code OK} result
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public DoubleResult<E> recover(@NonNull ToDoubleFunction<E> factory) {
+        return isOk() ? this : ok(factory.applyAsDouble(getErr()));
+    }
+
+    /**
+     * Conditionally converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction if the supplied predicate
+     *  holds. If {@code this} result is already an {@code OK} result,
+     *  it is returned as-is.
+     * <p>If the predicate does not hold, returns {@code this} instance.
+     * @param condition checked predicate
+     * @param factory {@code OK} item factory
+     * @return recovered result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public DoubleResult<E> recover(@NonNull Predicate<E> condition,
+                                   @NonNull ToDoubleFunction<E> factory) {
+        return isErr() && condition.test(getErr()) ? ok(factory.applyAsDouble(getErr())) : this;
+    }
+
+    /**
+     * Performs the specified callback if {@code this}
+     *  instance is {@code OK} or does nothing otherwise.
+     * @param action callback
+     * @throws IllegalArgumentException if the argument is null
+     */
+    public void ifOk(@NonNull DoubleConsumer action) {
+        if (this instanceof Ok<E> ok) {
+            action.accept(ok.item);
+        }
+    }
+
+    /**
+     * A safe take on {@link DoubleResult#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * @param another fallback
+     * @return item or fallback
+     */
+    public double unwrapOr(double another) {
+        return this instanceof Ok<E> ok ? ok.item : another;
+    }
+
+    /**
+     * A safe take on {@link DoubleResult#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * @param factory fallback factory
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public double unwrapOr(@NonNull DoubleSupplier factory) {
+        return this instanceof Ok<E> ok ? ok.item : factory.getAsDouble();
+    }
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Wraps the internal {@code ERR}
+     *  state into a {@link Failure wrapping exception} and
+     *  throws otherwise.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public double unwrap() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw Failure.of(getErr());
+    }
+
+    /**
+     * Same as {@link DoubleResult#unwrap()}, but throws a {@link
+     *  Failure#stackless(Throwable) stackless} {@link Failure}
+     *  regardless of the global setting.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public double unwrapStackless() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw Failure.stackless(getErr());
+    }
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Throws the internal {@code ERR}
+     *  state otherwise.
+     * @return item
+     * @throws E result exception
+     */
+    public double unwrapChecked() throws E {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw getErr();
+    }
+
+    @Override
+    DoubleResult<E> withError(E error) {
+        return err(error);
+    }
+
+    @Override
+    boolean sameItem(DoubleResult<E> that) {
+        return Double.compare(get(), that.get()) == 0;
+    }
+
+    @Override
+    int itemHashCode() {
+        return Double.hashCode(get());
+    }
+
+    @Override
+    String itemToString() {
+        return String.valueOf(get());
+    }
+
+    private static <E extends Exception> DoubleResult<E> returnRemapped(@NonNull DoubleResult<E> val) {
+        return val;
+    }
+
+    /**
+     * {@code OK} state of a {@link DoubleResult}: holds an item and no error.
+     * @param <E> error type
+     */
+    static final class Ok<E extends Exception> extends DoubleResult<E> {
+
+        /**
+         * Internally stored {@code OK} value.
+         */
+        final double item;
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public E getErr() {
+            throw BaseResult.notErr();
+        }
+
+        private Ok(double item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * {@code ERR} state of a {@link DoubleResult}: holds an error and no item.
+     * @param <E> error type
+     */
+    static sealed class Err<E extends Exception> extends DoubleResult<E> permits DeferredErr {
+
+        /**
+         * Internally stored {@code ERR} value. Null if deferred.
+         */
+        final E error;
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public E getErr() {
+            return error;
+        }
+
+        private Err(E error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Deferred {@code ERR} state of a {@link DoubleResult}: the
+     *  error is built on first access.
+     * @param <E> error type
+     */
+    static final class DeferredErr<E extends Exception> extends Err<E> {
+
+        /**
+         * Deferred {@code ERR} value.
+         */
+        final DeferredError<E> deferred;
+
+        @Override
+        public E getErr() {
+            return deferred.get();
+        }
+
+        @Override
+        boolean isErrOf(Class<?> type) {
+            return deferred.isInstance(type);
+        }
+
+        @Override
+        DeferredError<E> deferredErr() {
+            return deferred;
+        }
+
+        private DeferredErr(DeferredError<E> deferred) {
+            super(null);
+            this.deferred = deferred;
+        }
+    }
+
+    /**
+     * Internal constructor.
+     * <p>Instances are created through the {@code OK}
+     *  and {@code ERR} implementations only.
+     */
+    DoubleResult() { }
+}
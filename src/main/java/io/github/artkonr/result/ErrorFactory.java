@@ -0,0 +1,20 @@
+package io.github.artkonr.result;
+
+/**
+ * Creates an exception from an error code and its arguments.
+ *  Used to defer building {@code ERR} state until it is needed,
+ *  see {@link Result#err(Class, ErrorFactory, String, Object...)}.
+ * @param <E> type of created exception
+ */
+@FunctionalInterface
+public interface ErrorFactory<E extends Exception> {
+
+    /**
+     * Creates an exception.
+     * @param code error code
+     * @param args error arguments
+     * @return created exception
+     */
+    E create(String code, Object... args);
+
+}
@@ -4,9 +4,22 @@ package io.github.artkonr.result;
  * A simple {@link RuntimeException}, wrapping checked
  *  exceptions thrown from within implementations of
  *  {@link BaseResult}.
+ * <p>Capturing a stack trace is the dominant cost of throwing
+ *  under error storms, while the wrapped cause usually carries
+ *  the trace that matters. A {@link #stackless(Throwable) stackless}
+ *  variant skips the capture; {@code unwrap()} throws it either
+ *  per call via {@code unwrapStackless()} or globally once
+ *  {@link #setStackTraceEnabled(boolean) disabled} (or started
+ *  with {@code -Dio.github.artkonr.result.stackless=true}). The
+ *  global setting also applies to failures thrown while waiting
+ *  for asynchronous results, e.g. on interrupts.
  */
 public class Failure extends RuntimeException {
 
+    private static final long serialVersionUID = 1L;
+
+    private static volatile boolean stackTraceEnabled = !Boolean.getBoolean("io.github.artkonr.result.stackless");
+
     /**
      * Default constructor.
      * @param cause wrapped exception
@@ -14,4 +27,50 @@ public class Failure extends RuntimeException {
     public Failure(Throwable cause) {
         super(cause);
     }
+
+    /**
+     * Constructor allowing to skip the stack trace capture.
+     * @param cause wrapped exception
+     * @param writableStackTrace whether to capture the stack trace
+     */
+    protected Failure(Throwable cause, boolean writableStackTrace) {
+        super(cause == null ? null : cause.toString(), cause, true, writableStackTrace);
+    }
+
+    /**
+     * Creates a {@link Failure} that does not capture the stack trace.
+     * @param cause wrapped exception
+     * @return created exception
+     */
+    public static Failure stackless(Throwable cause) {
+        return new Failure(cause, false);
+    }
+
+    /**
+     * Globally decides whether {@code unwrap()} and other methods
+     *  of the library capture the stack trace of the thrown {@link
+     *  Failure}. Enabled by default.
+     * @param enabled {@code false} to throw stackless failures
+     */
+    public static void setStackTraceEnabled(boolean enabled) {
+        stackTraceEnabled = enabled;
+    }
+
+    /**
+     * Checks if {@code unwrap()} and other methods of the library
+     *  capture the stack trace of the thrown {@link Failure}.
+     * @return {@code true} if the stack trace is captured
+     */
+    public static boolean isStackTraceEnabled() {
+        return stackTraceEnabled;
+    }
+
+    /**
+     * Wraps the exception according to the global setting.
+     * @param cause wrapped exception
+     * @return created exception
+     */
+    static Failure of(Throwable cause) {
+        return stackTraceEnabled ? new Failure(cause) : new Failure(cause, false);
+    }
 }
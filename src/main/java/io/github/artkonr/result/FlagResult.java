@@ -2,20 +2,30 @@ package io.github.artkonr.result;
 
 import lombok.NonNull;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * A {@link BaseResult result} container that carries no value.
  * @param <E> error type
  */
-public class FlagResult<E extends Exception> extends BaseResult<E> {
+public abstract sealed class FlagResult<E extends Exception> extends BaseResult<E> permits FlagResult.Ok, FlagResult.Err {
+
+    /**
+     * Shared {@code OK} instance.
+     */
+    private static final FlagResult<?> OK = new Ok<>();
 
     /**
      * Runs a specified {@link Wrap.Runnable}, catches an expected exception
@@ -74,26 +84,33 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      *  The {@code OK}/{@code ERR} state is taken from the source entity.
      * <p>Note: as {@link FlagResult} doesn't contain a value in {@code OK}
      *  state, any value carried by the source {@code OK} result is dropped.
+     *  If the source is a {@link FlagResult} itself, it is returned as-is.
      * @param source source {@link BaseResult result}
      * @return new instance
      * @param <E> error type
      * @throws IllegalArgumentException if no argument provided
      */
     public static <E extends Exception> FlagResult<E> from(@NonNull BaseResult<E> source) {
-        if (source.isOk()) {
+        if (source instanceof FlagResult<E> flag) {
+            return flag;
+        } else if (source.isOk()) {
             return FlagResult.ok();
         } else {
-            return FlagResult.err(source.error);
+            return errOf(source);
         }
     }
 
     /**
      * Creates an {@code OK} item with no value.
-     * @return new {@code OK} instance
+     * <p>As an {@code OK} {@link FlagResult} carries no state, all
+     *  invocations return the same shared immutable instance.
+     * @return shared {@code OK} instance
      * @param <E> error type
      */
     public static <E extends Exception> FlagResult<E> ok() {
-        return new FlagResult<>(null);
+        @SuppressWarnings("unchecked")
+        FlagResult<E> cast = (FlagResult<E>) OK;
+        return cast;
     }
 
     /**
@@ -104,7 +121,50 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @throws IllegalArgumentException if no argument provided
      */
     public static <E extends Exception> FlagResult<E> err(@NonNull E error) {
-        return new FlagResult<>(error);
+        return new Err<>(error);
+    }
+
+    /**
+     * Creates an {@code ERR} item, which builds its error
+     *  from the error code and arguments on first access.
+     * <p>The error is only built once {@link #getErr()},
+     *  {@link #unwrapChecked()}, {@code peekErr}, {@code mapErr}
+     *  and other error-consuming operations need it. {@link
+     *  #isErr()} and {@link #isErrAnd(Class)} are answered from
+     *  the declared type.
+     * @param type type of created error
+     * @param factory error factory
+     * @param code error code
+     * @param args error arguments
+     * @return new {@code ERR} instance
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the type, factory
+     *  or code not provided
+     */
+    public static <E extends Exception> FlagResult<E> err(@NonNull Class<? extends E> type,
+                                                          @NonNull ErrorFactory<? extends E> factory,
+                                                          @NonNull String code,
+                                                          Object... args) {
+        return new DeferredErr<>(new DeferredError<>(type, factory, code, args));
+    }
+
+    /**
+     * Creates an {@code ERR} item carrying the error of
+     *  the source {@code ERR} result, keeping it deferred
+     *  if it is.
+     * @param source {@code ERR} result
+     * @return {@code ERR} instance
+     * @param <E> error type
+     */
+    static <E extends Exception> FlagResult<E> errOf(BaseResult<E> source) {
+        if (source instanceof Err<E> err) {
+            return err;
+        }
+
+        DeferredError<E> deferred = source.deferredErr();
+        return deferred == null
+                ? new Err<>(source.getErr())
+                : new DeferredErr<>(deferred);
     }
 
     /**
@@ -120,28 +180,96 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @throws IllegalArgumentException if no argument provided
      */
     public static <E extends Exception> FlagResult<E> chain(@NonNull Collection<Supplier<BaseResult<E>>> invocations) {
-        List<Supplier<BaseResult<E>>> filtered = invocations.stream()
-                .filter(Objects::nonNull)
-                .toList();
-        if (!filtered.isEmpty()) {
-            Iterator<Supplier<BaseResult<E>>> iterator = filtered.iterator();
-            E err = null;
-            while (iterator.hasNext()) {
-                BaseResult<E> curr = iterator.next().get();
-                if (curr != null && curr.isErr()) {
-                    err = curr.getErr();
-                    break;
-                }
+        return chainLazy(invocations.iterator());
+    }
+
+    /**
+     * Invokes {@link FlagResult}-producing functions in a serialized
+     *  manner and short-circuits upon the first encountered {@code
+     *  ERR} result. Encountered {@code null} elements are ignored.
+     * <p>Functions are pulled from the {@link Iterator} one at a
+     *  time; nothing is pulled after the first {@code ERR} result.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, an {@code OK} is returned.
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> FlagResult<E> chainLazy(@NonNull Iterator<Supplier<BaseResult<E>>> invocations) {
+        while (invocations.hasNext()) {
+            Supplier<BaseResult<E>> invocation = invocations.next();
+            if (invocation == null) {
+                continue;
             }
 
-            if (err == null) {
-                return FlagResult.ok();
-            } else {
-                return err(err);
+            BaseResult<E> curr = invocation.get();
+            if (curr != null && curr.isErr()) {
+                return errOf(curr);
             }
-        } else {
-            return FlagResult.ok();
         }
+
+        return FlagResult.ok();
+    }
+
+    /**
+     * Same as {@link FlagResult#chainLazy(Iterator)}, pulling functions
+     *  from the {@link Iterable}.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, an {@code OK} is returned.
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> FlagResult<E> chainLazy(@NonNull Iterable<Supplier<BaseResult<E>>> invocations) {
+        return chainLazy(invocations.iterator());
+    }
+
+    /**
+     * Same as {@link FlagResult#chainLazy(Iterator)}, pulling functions
+     *  from the sequential {@link Stream}. The stream is not closed.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, an {@code OK} is returned.
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> FlagResult<E> chainLazy(@NonNull Stream<Supplier<BaseResult<E>>> invocations) {
+        return chainLazy(invocations.iterator());
+    }
+
+    /**
+     * Invokes {@link BaseResult any result}-producing functions
+     *  speculatively in parallel on the default executor; the outcome
+     *  is the same as with {@link FlagResult#chain(Collection)}.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, an {@code OK} is returned.
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#chainParallel(Collection)
+     */
+    public static <E extends Exception> FlagResult<E> chainParallel(@NonNull Collection<Supplier<BaseResult<E>>> invocations) {
+        return chainParallel(invocations, DefaultExecutor.get());
+    }
+
+    /**
+     * Invokes {@link BaseResult any result}-producing functions
+     *  speculatively in parallel on the {@link Executor}; the outcome
+     *  is the same as with {@link FlagResult#chain(Collection)}.
+     *  Functions after the first failing one are cancelled, as
+     *  described by {@link Result#chainParallel(Collection, Executor)}.
+     * @param invocations operations to invoke
+     * @param executor executor to run the operations in
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, an {@code OK} is returned.
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws Failure if interrupted while waiting for the results
+     */
+    public static <E extends Exception> FlagResult<E> chainParallel(@NonNull Collection<Supplier<BaseResult<E>>> invocations,
+                                                                    @NonNull Executor executor) {
+        BaseResult<E> err = new ParallelChain<>(invocations, executor).await(result -> { });
+        return err == null ? FlagResult.ok() : errOf(err);
     }
 
     /**
@@ -183,16 +311,157 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      */
     public static <E extends Exception> FlagResult<E> join(@NonNull Collection<BaseResult<E>> results,
                                                            @NonNull TakeFrom rule) {
-        List<BaseResult<E>> errored = results.stream()
-                .filter(Objects::nonNull)
-                .filter(BaseResult::isErr)
-                .toList();
-        if (!errored.isEmpty()) {
-            BaseResult<E> picked = switch (rule) {
-                case HEAD -> errored.get(0);
-                case TAIL -> errored.get(errored.size() - 1);
-            };
-            return FlagResult.err(picked.error);
+        BaseResult<E> picked = null;
+        for (BaseResult<E> result : results) {
+            if (result != null && result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return errOf(result);
+                }
+                picked = result;
+            }
+        }
+
+        if (picked != null) {
+            return errOf(picked);
+        } else {
+            return FlagResult.ok();
+        }
+    }
+
+    /**
+     * Joins the values of a {@link Map} of {@link BaseResult any
+     *  result} objects into a single {@link FlagResult}, taking
+     *  the first error in the iteration order of the map.
+     * @param results map of {@link BaseResult results}
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see #joinMap(Map, TakeFrom)
+     */
+    public static <E extends Exception> FlagResult<E> joinMap(@NonNull Map<?, ? extends BaseResult<E>> results) {
+        return joinMap(results, TakeFrom.HEAD);
+    }
+
+    /**
+     * Joins the values of a {@link Map} of {@link BaseResult any
+     *  result} objects into a single {@link FlagResult}. The error
+     *  is taken as described by {@link TakeFrom}, in the iteration
+     *  order of the map: for the pick to be stable, use an ordered
+     *  map. Entries with {@code null} results are skipped.
+     * @param results map of {@link BaseResult results}
+     * @param rule fusing rule
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#joinMap(Map, IntFunction, TakeFrom)
+     */
+    public static <E extends Exception> FlagResult<E> joinMap(@NonNull Map<?, ? extends BaseResult<E>> results,
+                                                              @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        for (BaseResult<E> result : results.values()) {
+            if (result != null && result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return errOf(result);
+                }
+                picked = result;
+            }
+        }
+
+        return picked == null ? FlagResult.ok() : errOf(picked);
+    }
+
+    /**
+     * Joins a {@link Collection} of {@link BaseResult any result}
+     *  objects into a single {@link FlagResult}, accumulating all
+     *  errors into an {@link AggregateException}; the first error
+     *  is its cause, the other retained ones are attached as suppressed.
+     * @param results collection of {@link BaseResult results}
+     * @param limit maximum number of errors to retain in full
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     *  or if the limit is negative
+     * @see #joinAll(Collection, int, int)
+     */
+    public static <E extends Exception> FlagResult<AggregateException> joinAll(@NonNull Collection<BaseResult<E>> results,
+                                                                               int limit) {
+        return joinAll(results, limit, limit);
+    }
+
+    /**
+     * Joins a {@link Collection} of {@link BaseResult any result}
+     *  objects into a single {@link FlagResult}, accumulating all
+     *  errors into an {@link AggregateException}, instead of taking
+     *  a single one. Errors are retained and counted as described
+     *  by {@link Result#joinAll(Collection, int, int)}.
+     * @param results collection of {@link BaseResult results}
+     * @param limit maximum number of errors to retain in full
+     * @param suppressedLimit maximum number of errors to attach
+     *  as suppressed, besides the first one, which is the cause
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     *  or if either of the limits is negative
+     */
+    public static <E extends Exception> FlagResult<AggregateException> joinAll(@NonNull Collection<BaseResult<E>> results,
+                                                                               int limit,
+                                                                               int suppressedLimit) {
+        AggregateException.Builder errors = new AggregateException.Builder(limit, suppressedLimit);
+        for (BaseResult<E> result : results) {
+            if (result != null && result.isErr()) {
+                errors.add(result.getErr());
+            }
+        }
+
+        return errors.isEmpty() ? FlagResult.ok() : FlagResult.err(errors.build());
+    }
+
+    /**
+     * Joins a {@link Collection} of {@link BaseResult any result} objects into
+     *  a single {@link FlagResult} in parallel, using the {@link
+     *  ForkJoinPool#commonPool() common pool}.
+     * @param results collection of {@link BaseResult results}
+     * @param rule fusing rule
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #joinParallel(Collection, TakeFrom, ForkJoinPool)
+     */
+    public static <E extends Exception> FlagResult<E> joinParallel(@NonNull Collection<BaseResult<E>> results,
+                                                                   @NonNull TakeFrom rule) {
+        return joinParallel(results, rule, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Joins a {@link Collection} of {@link BaseResult any result} objects into
+     *  a single {@link FlagResult} in parallel.
+     * <p>Produces the same result as {@link FlagResult#join(Collection,
+     *  TakeFrom)}: the input is split into chunks which are scanned
+     *  in the specified pool. With {@link TakeFrom#HEAD}, an error
+     *  found in a chunk cancels scanning of all chunks to its right;
+     *  with {@link TakeFrom#TAIL}, of all chunks to its left; with
+     *  {@link TakeFrom#ANY}, the first error found stops all chunks.
+     * <p>Small collections are joined sequentially.
+     * @param results collection of {@link BaseResult results}
+     * @param rule fusing rule
+     * @param pool pool to scan the chunks in
+     * @return results joined into a {@link FlagResult}
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public static <E extends Exception> FlagResult<E> joinParallel(@NonNull Collection<BaseResult<E>> results,
+                                                                   @NonNull TakeFrom rule,
+                                                                   @NonNull ForkJoinPool pool) {
+        if (results.size() < ParallelJoin.MIN_CHUNK) {
+            return join(results, rule);
+        }
+
+        List<BaseResult<E>> source = results instanceof RandomAccess && results instanceof List<BaseResult<E>> list
+                ? list
+                : new ArrayList<>(results);
+        int picked = new ParallelJoin(source, null, rule, pool).picked();
+        if (picked >= 0) {
+            return errOf(source.get(picked));
         } else {
             return FlagResult.ok();
         }
@@ -207,13 +476,7 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @param <V> type of {@code OK} item
      * @throws IllegalArgumentException if no argument provided
      */
-    public <V> Result<V, E> populate(@NonNull V item) {
-        if (isOk()) {
-            return Result.ok(item);
-        } else {
-            return Result.err(error);
-        }
-    }
+    public abstract <V> Result<V, E> populate(@NonNull V item);
 
     /**
      * Converts {@code this} {@link FlagResult} into a {@link Result
@@ -266,9 +529,14 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      */
     public FlagResult<E> fuse(@NonNull FlagResult<E> another,
                               @NonNull TakeFrom rule) {
-        return rule.takeError(this, another)
-                .map(FlagResult::err)
-                .orElseGet(FlagResult::ok);
+        BaseResult<E> picked = rule.takeErrored(this, another);
+        if (picked == null) {
+            return FlagResult.ok();
+        } else if (picked == this) {
+            return this;
+        } else {
+            return another;
+        }
     }
 
     /**
@@ -278,12 +546,7 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return same instance
      * @throws IllegalArgumentException if no argument provided
      */
-    public FlagResult<E> peek(@NonNull Runnable consumer) {
-        if (isOk()) {
-            consumer.run();
-        }
-        return this;
-    }
+    public abstract FlagResult<E> peek(@NonNull Runnable consumer);
 
     /**
      * Inspects the {@code ERR} state using the specified function,
@@ -292,13 +555,7 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return {@code this} instance
      * @throws IllegalArgumentException if no argument provided
      */
-    public FlagResult<E> peekErr(@NonNull Consumer<E> consumer) {
-        if (isErr()) {
-            consumer.accept(error);
-        }
-
-        return this;
-    }
+    public abstract FlagResult<E> peekErr(@NonNull Consumer<E> consumer);
 
     /**
      * Inspects the {@code ERR} state using the specified function,
@@ -308,14 +565,8 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return {@code this} instance
      * @throws IllegalArgumentException if either of the arguments provided
      */
-    public FlagResult<E> peekErr(@NonNull Class<? extends Exception> type,
-                                 @NonNull Consumer<E> consumer) {
-        if (isErrAnd(type)) {
-            consumer.accept(error);
-        }
-
-        return this;
-    }
+    public abstract FlagResult<E> peekErr(@NonNull Class<? extends Exception> type,
+                                 @NonNull Consumer<E> consumer);
 
     /**
      * Inspects the {@code ERR} state using the specified function,
@@ -326,14 +577,8 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return {@code this} instance
      * @throws IllegalArgumentException if either of the arguments provided
      */
-    public FlagResult<E> peekErr(@NonNull Predicate<E> predicate,
-                                 @NonNull Consumer<E> consumer) {
-        if (isErrAnd(predicate)) {
-            consumer.accept(error);
-        }
-
-        return this;
-    }
+    public abstract FlagResult<E> peekErr(@NonNull Predicate<E> predicate,
+                                 @NonNull Consumer<E> consumer);
 
     /**
      * Erases the {@code ERR} type information of
@@ -342,7 +587,9 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      */
     @Override
     public FlagResult<Exception> upcast() {
-        return isOk() ? FlagResult.ok() : FlagResult.err(error);
+        @SuppressWarnings("unchecked")
+        FlagResult<Exception> cast = (FlagResult<Exception>) this;
+        return cast;
     }
 
     /**
@@ -354,36 +601,24 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      *  if the callback function returns {@code null}
      */
     @Override
-    public <N extends Exception> FlagResult<N> mapErr(@NonNull Function<E, N> remap) {
-        if (isErr()) {
-            return FlagResult.err(remap.apply(error));
-        } else {
-            return FlagResult.ok();
-        }
-    }
+    public abstract <N extends Exception> FlagResult<N> mapErr(@NonNull Function<E, N> remap);
 
     /**
      * Applies the {@link BaseResult}-returning function to
      *  convert the item if {@code this} instance is {@code OK};
-     *  returns a recreated {@code ERR} otherwise.
+     *  returns {@code this} {@code ERR} otherwise.
      * @param remap function
      * @return mapped {@link FlagResult}
      * @throws IllegalArgumentException if no argument provided or
      *  if the callback function returns {@code null}
      */
-    public FlagResult<E> flatMap(@NonNull Supplier<FlagResult<E>> remap) {
-        if (isErr()) {
-            return err(error);
-        } else {
-            return returnRemapped(remap.get());
-        }
-    }
+    public abstract FlagResult<E> flatMap(@NonNull Supplier<FlagResult<E>> remap);
 
     /**
      * Converts an {@code OK} result into {@code ERR}
      *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
      * <p>Note: the resulting type parameter is up-cast
      *  to the most generic type supported: {@link Exception}.
      * @param factory exception factory
@@ -392,32 +627,20 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      *  the factory function returns {@code null}
      */
     @Override
-    public FlagResult<Exception> taint(@NonNull Supplier<? extends Exception> factory) {
-        if (isOk()) {
-            return err(factory.get());
-        } else {
-            return err(error);
-        }
-    }
+    public abstract FlagResult<Exception> taint(@NonNull Supplier<? extends Exception> factory);
 
     /**
      * Converts an {@code OK} result into {@code ERR}
      *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
      * @param factory exception factory
      * @return converted instance
      * @throws IllegalArgumentException if no argument provided or if
      *  the factory function returns {@code null}
      */
     @Override
-    public FlagResult<E> fork(@NonNull Supplier<E> factory) {
-        if (isOk()) {
-            return err(factory.get());
-        } else {
-            return err(error);
-        }
-    }
+    public abstract FlagResult<E> fork(@NonNull Supplier<E> factory);
 
     /**
      * Unconditionally converts an {@code ERR} result into {@code OK}.
@@ -430,20 +653,12 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
     /**
      * Conditionally converts an {@code ERR} result into {@code OK}
      *  if the supplied predicate holds.
-     * <p>If the predicate does not hold, returns the recreated {@code OK} item.
+     * <p>If the predicate does not hold, returns {@code this} instance.
      * @param condition checked predicate
      * @return new {@code OK} result
      * @throws IllegalArgumentException if the argument not provided
      */
-    public FlagResult<E> recover(@NonNull Predicate<E> condition) {
-        if (isOk()) {
-            return FlagResult.ok();
-        } else {
-            return condition.test(error)
-                    ? FlagResult.ok()
-                    : FlagResult.err(error);
-        }
-    }
+    public abstract FlagResult<E> recover(@NonNull Predicate<E> condition);
 
     /**
      * Conditionally converts an {@code ERR} result into {@code OK}
@@ -452,17 +667,7 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return new {@code OK} result with recovery object
      * @throws IllegalArgumentException if the argument not provided
      */
-    public FlagResult<E> recover(@NonNull Class<? extends E> ifType) {
-        if (isOk()) {
-            return FlagResult.ok();
-        } else {
-            if (ifType.isAssignableFrom(error.getClass())) {
-                return FlagResult.ok();
-            } else {
-                return FlagResult.err(error);
-            }
-        }
-    }
+    public abstract FlagResult<E> recover(@NonNull Class<? extends E> ifType);
 
     /**
      * Wraps the internal {@code ERR} state into a {@link
@@ -470,31 +675,29 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      *  this} instance is an {@code ERR}.
      * @throws Failure result wrapping exception
      */
-    public void unwrap() {
-        if (isErr()) {
-            throw new Failure(error);
-        }
-    }
+    public abstract void unwrap();
+
+    /**
+     * Same as {@link FlagResult#unwrap()}, but throws a {@link
+     *  Failure#stackless(Throwable) stackless} {@link Failure}
+     *  regardless of the global setting.
+     * @throws Failure result wrapping exception
+     */
+    public abstract void unwrapStackless();
 
     /**
      * Throws the internal {@code ERR} state if {@code
      *  this} instance is an {@code ERR}.
      * @throws E result wrapping exception
      */
-    public void unwrapChecked() throws E {
-        if (isErr()) {
-            throw error;
-        }
-    }
+    public abstract void unwrapChecked() throws E;
 
     /**
      * Builds a text representation.
      * @return text representation
      */
     @Override
-    public String toString() {
-        return "FlagResult[" + (isOk() ? "ok" : "err=" + error) + ']';
-    }
+    public abstract String toString();
 
     /**
      * Checks if {@code this} equals {@code that}.
@@ -502,39 +705,314 @@ public class FlagResult<E extends Exception> extends BaseResult<E> {
      * @return comparison result
      */
     @Override
-    public boolean equals(Object that) {
-        if (this == that) return true;
-        if (that == null || getClass() != that.getClass()) return false;
-
-        FlagResult<?> result = (FlagResult<?>) that;
-
-        return Objects.equals(error, result.error);
-    }
+    public abstract boolean equals(Object that);
 
     /**
      * Computes hashcode.
      * @return computed hashcode
      */
     @Override
-    public int hashCode() {
-        if (isOk()) {
+    public abstract int hashCode();
+
+    /**
+     * {@code OK} state of a {@link FlagResult}. Carries no state
+     *  and is therefore only ever instantiated once.
+     * @param <E> error type
+     */
+    static final class Ok<E extends Exception> extends FlagResult<E> {
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public E getErr() {
+            throw BaseResult.notErr();
+        }
+
+        @Override
+        public <V> Result<V, E> populate(@NonNull V item) {
+            return Result.ok(item);
+        }
+
+        @Override
+        public FlagResult<E> peek(@NonNull Runnable consumer) {
+            consumer.run();
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Class<? extends Exception> type,
+                                     @NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Predicate<E> predicate,
+                                     @NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public <N extends Exception> FlagResult<N> mapErr(@NonNull Function<E, N> remap) {
+            return FlagResult.ok();
+        }
+
+        @Override
+        public FlagResult<E> flatMap(@NonNull Supplier<FlagResult<E>> remap) {
+            return returnRemapped(remap.get());
+        }
+
+        @Override
+        public FlagResult<Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+            return err(factory.get());
+        }
+
+        @Override
+        public FlagResult<E> fork(@NonNull Supplier<E> factory) {
+            return err(factory.get());
+        }
+
+        @Override
+        public FlagResult<E> recover(@NonNull Predicate<E> condition) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> recover(@NonNull Class<? extends E> ifType) {
+            return this;
+        }
+
+        @Override
+        public void unwrap() {
+            // nothing to unwrap
+        }
+
+        @Override
+        public void unwrapStackless() {
+            // nothing to unwrap
+        }
+
+        @Override
+        public void unwrapChecked() {
+            // nothing to unwrap
+        }
+
+        @Override
+        public String toString() {
+            return "FlagResult[ok]";
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            return that != null && getClass() == that.getClass();
+        }
+
+        @Override
+        public int hashCode() {
             return 31;
-        } else {
-            return 31 * error.hashCode();
         }
+
+        private Ok() { }
     }
 
     /**
-     * Internal constructor.
-     * <p>Setting the argument to {@code null} must
-     *  follow the class contract.
-     * @param error nullable error value
+     * {@code ERR} state of a {@link FlagResult}.
+     * @param <E> error type
+     */
+    static sealed class Err<E extends Exception> extends FlagResult<E> permits DeferredErr {
+
+        /**
+         * Internally stored {@code ERR} value. Null if deferred.
+         */
+        final E error;
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public E getErr() {
+            return error();
+        }
+
+        @Override
+        public <V> Result<V, E> populate(@NonNull V item) {
+            return Result.errOf(this);
+        }
+
+        @Override
+        public FlagResult<E> peek(@NonNull Runnable consumer) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Consumer<E> consumer) {
+            consumer.accept(error());
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Class<? extends Exception> type,
+                                     @NonNull Consumer<E> consumer) {
+            if (isErrOf(type)) {
+                consumer.accept(error());
+            }
+
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> peekErr(@NonNull Predicate<E> predicate,
+                                     @NonNull Consumer<E> consumer) {
+            if (predicate.test(error())) {
+                consumer.accept(error());
+            }
+
+            return this;
+        }
+
+        @Override
+        public <N extends Exception> FlagResult<N> mapErr(@NonNull Function<E, N> remap) {
+            return err(remap.apply(error()));
+        }
+
+        @Override
+        public FlagResult<E> flatMap(@NonNull Supplier<FlagResult<E>> remap) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+            return upcast();
+        }
+
+        @Override
+        public FlagResult<E> fork(@NonNull Supplier<E> factory) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> recover(@NonNull Predicate<E> condition) {
+            return condition.test(error())
+                    ? FlagResult.ok()
+                    : this;
+        }
+
+        @Override
+        public FlagResult<E> recover(@NonNull Class<? extends E> ifType) {
+            if (isErrOf(ifType)) {
+                return FlagResult.ok();
+            } else {
+                return this;
+            }
+        }
+
+        @Override
+        public void unwrap() {
+            throw Failure.of(error());
+        }
+
+        @Override
+        public void unwrapStackless() {
+            throw Failure.stackless(error());
+        }
+
+        @Override
+        public void unwrapChecked() throws E {
+            throw error();
+        }
+
+        @Override
+        public String toString() {
+            return "FlagResult[err=" + error() + ']';
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (!(that instanceof Err<?> result)) return false;
+
+            return error().equals(result.error());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * error().hashCode();
+        }
+
+        private Err(E error) {
+            this.error = error;
+        }
+
+        /**
+         * Returns the {@code ERR} value, building it if deferred.
+         * @return error
+         */
+        E error() {
+            return error;
+        }
+    }
+
+    /**
+     * Deferred {@code ERR} state of a {@link FlagResult}: the error is
+     *  built on first access. Kept apart from {@link Err}, so that
+     *  eagerly created {@code ERR} results hold a single field.
+     * @param <E> error type
      */
-    protected FlagResult(E error) {
-        super(error);
+    static final class DeferredErr<E extends Exception> extends Err<E> {
+
+        /**
+         * Deferred {@code ERR} value.
+         */
+        final DeferredError<E> deferred;
+
+        private DeferredErr(DeferredError<E> deferred) {
+            super(null);
+            this.deferred = deferred;
+        }
+
+        @Override
+        E error() {
+            return deferred.get();
+        }
+
+        @Override
+        boolean isErrOf(Class<?> type) {
+            return deferred.isInstance(type);
+        }
+
+        @Override
+        DeferredError<E> deferredErr() {
+            return deferred;
+        }
     }
 
-    private FlagResult<E> returnRemapped(@NonNull FlagResult<E> val) {
+    /**
+     * Internal constructor.
+     * <p>Instances are created through the {@code OK}
+     *  and {@code ERR} implementations only.
+     */
+    FlagResult() { }
+
+    private static <E extends Exception> FlagResult<E> returnRemapped(@NonNull FlagResult<E> val) {
         return val;
     }
 }
@@ -0,0 +1,532 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.function.Function;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntSupplier;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link BaseResult result} that contains a primitive {@code int}
+ *  item associated with the {@code OK} state.
+ * <p>This is a primitive specialization of {@link Result}: none of
+ *  the item operations box. Boxing only happens at the boundary, when
+ *  converting from a {@link Result} with {@link IntResult#from(Result)}
+ *  or into one with {@link IntResult#boxed()}.
+ * @param <E> error type
+ */
+public abstract sealed class IntResult<E extends Exception> extends PrimitiveResult<E, IntResult<E>>
+        permits IntResult.Ok, IntResult.Err {
+
+    /**
+     * Runs a specified {@link Wrap.IntSupplier}, catches an expected exception
+     *  and returns it as a {@link IntResult}.
+     * <p>The expected exception can be any {@link Exception} type.
+     * <p>If no error is thrown by the supplied function, the call
+     *  resolves to {@code OK}.
+     * @param action fallible action
+     * @return result of the invocation
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static IntResult<Exception> wrap(@NonNull Wrap.IntSupplier action) {
+        return wrap(Exception.class, action);
+    }
+
+    /**
+     * Runs a specified {@link Wrap.IntSupplier}, catches an expected exception
+     *  and returns it as a {@link IntResult}.
+     * <p>The expected exception can be any {@link Exception} type,
+     *  this method internally checks if the caught exception type
+     *  matches the expected type or its subtype. Normally, the client
+     *  code should pass the narrowest type possible.
+     * <p>If no error is thrown by the supplied function, the call
+     *  resolves to {@code OK}.
+     * @param errType expected type
+     * @param action fallible action
+     * @return result of the invocation
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws IllegalStateException if the exception during invocation is not
+     *  of an expected type or its subtype
+     */
+    public static <E extends Exception> IntResult<E> wrap(@NonNull Class<E> errType,
+                                                          @NonNull Wrap.IntSupplier action) {
+        int item;
+        try {
+            item = action.getAsInt();
+        } catch (Exception exception) {
+            return IntResult.err(expected(errType, exception));
+        }
+
+        return IntResult.ok(item);
+    }
+
+    /**
+     * Creates a new instance from an existing {@link Result result}
+     *  by unboxing its item. The {@code OK}/{@code ERR} state is
+     *  taken from the source entity.
+     * @param source source {@link Result result}
+     * @return new instance
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> IntResult<E> from(@NonNull Result<Integer, E> source) {
+        if (source.isOk()) {
+            return IntResult.ok(source.get());
+        } else {
+            return IntResult.errOf(source);
+        }
+    }
+
+    /**
+     * Creates an {@code OK} item with item.
+     * @param item ok item
+     * @return new {@code OK} instance
+     * @param <E> error type
+     */
+    public static <E extends Exception> IntResult<E> ok(int item) {
+        return new Ok<>(item);
+    }
+
+    /**
+     * Creates an {@code ERR} item with the provided error.
+     * @param error error
+     * @return new {@code ERR} instance
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> IntResult<E> err(@NonNull E error) {
+        return new Err<>(error);
+    }
+
+    /**
+     * Creates an {@code ERR} item carrying the error of
+     *  the source {@code ERR} result, keeping it deferred
+     *  if it is.
+     * @param source {@code ERR} result
+     * @return {@code ERR} instance
+     * @param <E> error type
+     */
+    static <E extends Exception> IntResult<E> errOf(BaseResult<E> source) {
+        DeferredError<E> deferred = source.deferredErr();
+        return deferred == null
+                ? new Err<>(source.getErr())
+                : new DeferredErr<>(deferred);
+    }
+
+    /**
+     * Checks if {@code this} instance is {@code OK}
+     *  and the specified predicate holds.
+     * @param predicate predicate
+     * @return {@code true} if {@code this} is an {@code OK}
+     *  result and the predicate holds
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public boolean isOkAnd(@NonNull IntPredicate predicate) {
+        return this instanceof Ok<E> ok && predicate.test(ok.item);
+    }
+
+    /**
+     * Attempts to get {@code OK} state or throws
+     *  if {@code this} instance is {@code ERR}.
+     * @return {@code OK} item
+     * @throws IllegalStateException if {@code this}
+     *  instance is {@code ERR}
+     */
+    public int get() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw BaseResult.notOk();
+    }
+
+    /**
+     * Produces a new {@link IntResult} out of {@code this}
+     *  and another {@link IntResult} by combining their
+     *  items with the specified function.
+     * <p>The eventual {@link IntResult} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} from the pair or from {@code this}
+     *  instance if both are {@code ERR}.
+     * @param another fuse with
+     * @param combiner item combining function
+     * @return fused {@link IntResult}
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public IntResult<E> fuse(@NonNull IntResult<E> another,
+                             @NonNull IntBinaryOperator combiner) {
+        return fuse(another, combiner, TakeFrom.HEAD);
+    }
+
+    /**
+     * Produces a new {@link IntResult} out of {@code this}
+     *  and another {@link IntResult} by combining their
+     *  items with the specified function.
+     * <p>The eventual {@link IntResult} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise with the error taken from
+     *  the only {@code ERR} from the pair. If both instances
+     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
+     *  to point which of the {@code ERR} items passes the
+     *  error on.
+     * @param another fuse with
+     * @param combiner item combining function
+     * @param rule fusing rule
+     * @return fused {@link IntResult}
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public IntResult<E> fuse(@NonNull IntResult<E> another,
+                             @NonNull IntBinaryOperator combiner,
+                             @NonNull TakeFrom rule) {
+        IntResult<E> picked = pickErr(another, rule);
+        return picked == null ? IntResult.ok(combiner.applyAsInt(get(), another.get())) : picked;
+    }
+
+    /**
+     * Inspects the {@code OK} state using the specified function,
+     *  if {@code this} instance is {@code OK}.
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public IntResult<E> peek(@NonNull IntConsumer consumer) {
+        if (this instanceof Ok<E> ok) {
+            consumer.accept(ok.item);
+        }
+        return this;
+    }
+
+    /**
+     * Converts {@code this} instance into a {@link Result}
+     *  by boxing the {@code OK} item.
+     * @return new {@link Result}
+     */
+    public Result<Integer, E> boxed() {
+        return this instanceof Ok<E> ok ? Result.ok(ok.item) : Result.errOf(this);
+    }
+
+    /**
+     * Applies a callback function to convert the item
+     *  if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * @param remap callback
+     * @return mapped {@link IntResult}
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public IntResult<E> map(@NonNull IntUnaryOperator remap) {
+        return this instanceof Ok<E> ok ? ok(remap.applyAsInt(ok.item)) : this;
+    }
+
+    /**
+     * Applies a callback function to convert the item into
+     *  an object if {@code this} instance is {@code OK};
+     *  carries the internal error state otherwise.
+     * @param remap callback
+     * @return mapped {@link Result}
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    public <N> Result<N, E> mapToObj(@NonNull IntFunction<N> remap) {
+        return this instanceof Ok<E> ok ? Result.ok(remap.apply(ok.item)) : Result.errOf(this);
+    }
+
+    /**
+     * Applies a {@link IntResult}-returning callback function
+     *  to convert the item if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * @param remap callback
+     * @return mapped {@link IntResult}
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    public IntResult<E> flatMap(@NonNull IntFunction<IntResult<E>> remap) {
+        return this instanceof Ok<E> ok ? returnRemapped(remap.apply(ok.item)) : this;
+    }
+
+    /**
+     * Erases the {@code ERR} type information of
+     *  {@code this} result.
+     * @return result with broadened
+     */
+    @Override
+    public IntResult<Exception> upcast() {
+        @SuppressWarnings("unchecked")
+        IntResult<Exception> cast = (IntResult<Exception>) this;
+        return cast;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param remap callback
+     * @return mapped {@link IntResult}
+     * @param <N> new error type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    @Override
+    public <N extends Exception> IntResult<N> mapErr(@NonNull Function<E, N> remap) {
+        if (isOk()) {
+            @SuppressWarnings("unchecked")
+            IntResult<N> cast = (IntResult<N>) this;
+            return cast;
+        }
+        return err(remap.apply(getErr()));
+    }
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
+     * <p>Note: the resulting type parameter is up-cast
+     *  to the most generic type supported: {@link Exception}.
+     * @param factory exception factory
+     * @return converted instance
+     * @throws IllegalArgumentException if no argument provided or if
+     *  the factory function returns {@code null}
+     */
+    @Override
+    public IntResult<Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+        return isOk() ? err(factory.get()) : upcast();
+    }
+
+    /**
+     * Converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction. If {@code this}
+     *  result is already an {@code OK} result, it is
+     *  returned as-is.
+     * @param factory {@code OK} item factory
+     * @return {@code OK} result
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public IntResult<E> recover(@NonNull ToIntFunction<E> factory) {
+        return isOk() ? this : ok(factory.applyAsInt(getErr()));
+    }
+
+    /**
+     * Conditionally converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction if the supplied predicate
+     *  holds. If {@code this} result is already an {@code OK} result,
+     *  it is returned as-is.
+     * <p>If the predicate does not hold, returns {@code this} instance.
+     * @param condition checked predicate
+     * @param factory {@code OK} item factory
+     * @return recovered result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public IntResult<E> recover(@NonNull Predicate<E> condition,
+                                @NonNull ToIntFunction<E> factory) {
+        return isErr() && condition.test(getErr()) ? ok(factory.applyAsInt(getErr())) : this;
+    }
+
+    /**
+     * Performs the specified callback if {@code this}
+     *  instance is {@code OK} or does nothing otherwise.
+     * @param action callback
+     * @throws IllegalArgumentException if the argument is null
+     */
+    public void ifOk(@NonNull IntConsumer action) {
+        if (this instanceof Ok<E> ok) {
+            action.accept(ok.item);
+        }
+    }
+
+    /**
+     * A safe take on {@link IntResult#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * @param another fallback
+     * @return item or fallback
+     */
+    public int unwrapOr(int another) {
+        return this instanceof Ok<E> ok ? ok.item : another;
+    }
+
+    /**
+     * A safe take on {@link IntResult#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * @param factory fallback factory
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public int unwrapOr(@NonNull IntSupplier factory) {
+        return this instanceof Ok<E> ok ? ok.item : factory.getAsInt();
+    }
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Wraps the internal {@code ERR}
+     *  state into a {@link Failure wrapping exception} and
+     *  throws otherwise.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public int unwrap() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw Failure.of(getErr());
+    }
+
+    /**
+     * Same as {@link IntResult#unwrap()}, but throws a {@link
+     *  Failure#stackless(Throwable) stackless} {@link Failure}
+     *  regardless of the global setting.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public int unwrapStackless() {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw Failure.stackless(getErr());
+    }
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Throws the internal {@code ERR}
+     *  state otherwise.
+     * @return item
+     * @throws E result exception
+     */
+    public int unwrapChecked() throws E {
+        if (this instanceof Ok<E> ok) {
+            return ok.item;
+        }
+        throw getErr();
+    }
+
+    @Override
+    IntResult<E> withError(E error) {
+        return err(error);
+    }
+
+    @Override
+    boolean sameItem(IntResult<E> that) {
+        return Integer.compare(get(), that.get()) == 0;
+    }
+
+    @Override
+    int itemHashCode() {
+        return Integer.hashCode(get());
+    }
+
+    @Override
+    String itemToString() {
+        return String.valueOf(get());
+    }
+
+    private static <E extends Exception> IntResult<E> returnRemapped(@NonNull IntResult<E> val) {
+        return val;
+    }
+
+    /**
+     * {@code OK} state of an {@link IntResult}: holds an item and no error.
+     * @param <E> error type
+     */
+    static final class Ok<E extends Exception> extends IntResult<E> {
+
+        /**
+         * Internally stored {@code OK} value.
+         */
+        final int item;
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public E getErr() {
+            throw BaseResult.notErr();
+        }
+
+        private Ok(int item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * {@code ERR} state of an {@link IntResult}: holds an error and no item.
+     * @param <E> error type
+     */
+    static sealed class Err<E extends Exception> extends IntResult<E> permits DeferredErr {
+
+        /**
+         * Internally stored {@code ERR} value. Null if deferred.
+         */
+        final E error;
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public E getErr() {
+            return error;
+        }
+
+        private Err(E error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * Deferred {@code ERR} state of an {@link IntResult}: the
+     *  error is built on first access.
+     * @param <E> error type
+     */
+    static final class DeferredErr<E extends Exception> extends Err<E> {
+
+        /**
+         * Deferred {@code ERR} value.
+         */
+        final DeferredError<E> deferred;
+
+        @Override
+        public E getErr() {
+            return deferred.get();
+        }
+
+        @Override
+        boolean isErrOf(Class<?> type) {
+            return deferred.isInstance(type);
+        }
+
+        @Override
+        DeferredError<E> deferredErr() {
+            return deferred;
+        }
+
+        private DeferredErr(DeferredError<E> deferred) {
+            super(null);
+            this.deferred = deferred;
+        }
+    }
+
+    /**
+     * Internal constructor.
+     * <p>Instances are created through the {@code OK}
+     *  and {@code ERR} implementations only.
+     */
+    IntResult() { }
+}
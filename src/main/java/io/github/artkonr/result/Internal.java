@@ -33,5 +33,47 @@ class Internal {
         V get() throws E;
     }
 
+    /**
+     * A wrapping {@link java.util.function.IntSupplier}-like that allows
+     *  throwing checked exceptions inside the lambda block.
+     * @param <E> error type
+     */
+    interface IntSupplier<E extends Exception> {
+        /**
+         * Returns a value.
+         * @return value
+         * @throws E possibly checked error type
+         */
+        int getAsInt() throws E;
+    }
+
+    /**
+     * A wrapping {@link java.util.function.LongSupplier}-like that allows
+     *  throwing checked exceptions inside the lambda block.
+     * @param <E> error type
+     */
+    interface LongSupplier<E extends Exception> {
+        /**
+         * Returns a value.
+         * @return value
+         * @throws E possibly checked error type
+         */
+        long getAsLong() throws E;
+    }
+
+    /**
+     * A wrapping {@link java.util.function.DoubleSupplier}-like that allows
+     *  throwing checked exceptions inside the lambda block.
+     * @param <E> error type
+     */
+    interface DoubleSupplier<E extends Exception> {
+        /**
+         * Returns a value.
+         * @return value
+         * @throws E possibly checked error type
+         */
+        double getAsDouble() throws E;
+    }
+
     private Internal() { }
 }
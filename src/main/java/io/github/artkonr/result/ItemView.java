@@ -0,0 +1,71 @@
+package io.github.artkonr.result;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Read-only {@link List} view of the items of a list of
+ *  {@code OK} {@link Result results}, with no {@code null}
+ *  elements. Items are taken out of the source on access.
+ * @param <V> item type
+ */
+class ItemView<V> extends AbstractList<V> {
+
+    private final List<? extends Result<V, ?>> source;
+
+    /**
+     * Creates a view, which supports fast random access
+     *  if the source does.
+     * @param source list of {@code OK} results
+     * @return view
+     * @param <V> item type
+     */
+    static <V> List<V> of(List<? extends Result<V, ?>> source) {
+        return source instanceof RandomAccess
+                ? new RandomAccessItemView<>(source)
+                : new ItemView<>(source);
+    }
+
+    private ItemView(List<? extends Result<V, ?>> source) {
+        this.source = source;
+    }
+
+    @Override
+    public V get(int index) {
+        return source.get(index).get();
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    @Override
+    public Iterator<V> iterator() {
+        Iterator<? extends Result<V, ?>> iterator = source.iterator();
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public V next() {
+                return iterator.next().get();
+            }
+        };
+    }
+
+    /**
+     * View of a {@link RandomAccess} source.
+     * @param <V> item type
+     */
+    private static final class RandomAccessItemView<V> extends ItemView<V> implements RandomAccess {
+
+        private RandomAccessItemView(List<? extends Result<V, ?>> source) {
+            super(source);
+        }
+    }
+}
@@ -0,0 +1,575 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A {@link Result} that is computed on first access and
+ *  memoized afterwards.
+ * <p>Transformations ({@code map}, {@code flatMap}, {@code recover}
+ *  etc.) return new lazy results and do not trigger the computation:
+ *  nothing is run until a terminal operation ({@link #toResult()},
+ *  {@code isOk}, {@code unwrap} etc.) needs the state. Each
+ *  instance runs its computation at most once, even if accessed
+ *  concurrently: the first caller claims the computation with
+ *  a compare-and-set and runs it, the others wait for it without
+ *  holding any monitor, so a slow computation never blocks
+ *  a thread on a lock.
+ * <p>If the computation throws an unchecked exception (e.g. a
+ *  transformation function fails), nothing is memoized and the
+ *  exception propagates to the caller that ran it; callers that
+ *  waited for it retry the computation.
+ * <p>A computation must not access its own lazy result: doing so
+ *  throws an {@link IllegalStateException} instead of waiting for
+ *  itself forever. Waiting for another caller's computation can be
+ *  interrupted, in which case a {@link Failure} is thrown.
+ * @param <V> item type
+ * @param <E> error type
+ */
+public final class LazyResult<V, E extends Exception> {
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<LazyResult, Computation> RUNNING =
+            AtomicReferenceFieldUpdater.newUpdater(LazyResult.class, Computation.class, "running");
+
+    /**
+     * Computation. Released once the result is memoized.
+     */
+    private volatile Supplier<Result<V, E>> factory;
+
+    /**
+     * Memoized result. Null until computed.
+     */
+    private volatile Result<V, E> result;
+
+    /**
+     * Computation in progress, claimed by the computing caller.
+     *  Null until claimed or if the computation failed.
+     */
+    private volatile Computation<V, E> running;
+
+    /**
+     * Defers a specified {@link Wrap.Supplier} the same way as
+     *  {@link Result#wrap(Wrap.Supplier)}, but only runs it once
+     *  the state is accessed.
+     * @param action fallible action
+     * @return lazy result of the invocation
+     * @param <V> item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V> LazyResult<V, Exception> wrap(@NonNull Wrap.Supplier<V> action) {
+        return new LazyResult<>(() -> Result.wrap(action));
+    }
+
+    /**
+     * Defers a specified {@link Wrap.Supplier} the same way as
+     *  {@link Result#wrap(Class, Wrap.Supplier)}, but only runs it
+     *  once the state is accessed.
+     * @param errType expected type
+     * @param action fallible action
+     * @return lazy result of the invocation
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> LazyResult<V, E> wrap(@NonNull Class<E> errType,
+                                                                 @NonNull Wrap.Supplier<V> action) {
+        return new LazyResult<>(() -> Result.wrap(errType, action));
+    }
+
+    /**
+     * Defers a {@link Result}-producing function.
+     * @param factory result factory
+     * @return lazy result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> LazyResult<V, E> of(@NonNull Supplier<Result<V, E>> factory) {
+        return new LazyResult<>(factory);
+    }
+
+    /**
+     * Creates an already computed lazy result from a strict one.
+     * @param source source result
+     * @return lazy result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> LazyResult<V, E> from(@NonNull Result<V, E> source) {
+        return new LazyResult<>(source);
+    }
+
+    /**
+     * Creates an already computed {@code OK} lazy result.
+     * @param item ok item
+     * @return lazy result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> LazyResult<V, E> ok(@NonNull V item) {
+        return new LazyResult<>(Result.ok(item));
+    }
+
+    /**
+     * Creates an already computed {@code ERR} lazy result.
+     * @param error error
+     * @return lazy result
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> LazyResult<V, E> err(@NonNull E error) {
+        return new LazyResult<>(Result.err(error));
+    }
+
+    /**
+     * Computes the result, if not computed yet, and returns it.
+     * @return strict result
+     * @throws IllegalArgumentException if the computation produces {@code null}
+     * @throws IllegalStateException if called from its own computation
+     * @throws Failure if interrupted while waiting for the computation
+     *  run by another caller
+     */
+    public Result<V, E> toResult() {
+        Result<V, E> current = result;
+        while (current == null) {
+            Computation<V, E> pending = running;
+            if (pending == null) {
+                Computation<V, E> claimed = new Computation<>();
+                if (RUNNING.compareAndSet(this, null, claimed)) {
+                    return compute(claimed);
+                }
+            } else if (pending.owner == Thread.currentThread()) {
+                throw new IllegalStateException("lazy result accessed from its own computation");
+            } else {
+                try {
+                    return pending.get();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    throw Failure.of(ex);
+                } catch (ExecutionException ex) {
+                    current = result;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Checks if the state is already computed. Never triggers
+     *  the computation.
+     * @return {@code true} if computed
+     */
+    public boolean isEvaluated() {
+        return result != null;
+    }
+
+    /**
+     * Checks if the computed state is {@code OK}.
+     * @return {@code true} if {@code OK}
+     */
+    public boolean isOk() {
+        return toResult().isOk();
+    }
+
+    /**
+     * Checks if the computed state is {@code OK} and
+     *  the item matches the predicate.
+     * @param predicate item predicate
+     * @return {@code true} if {@code OK} and matches
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#isOkAnd(Predicate)
+     */
+    public boolean isOkAnd(@NonNull Predicate<V> predicate) {
+        return toResult().isOkAnd(predicate);
+    }
+
+    /**
+     * Checks if the computed state is {@code ERR}.
+     * @return {@code true} if {@code ERR}
+     */
+    public boolean isErr() {
+        return toResult().isErr();
+    }
+
+    /**
+     * Checks if the computed state is {@code ERR} of
+     *  the specified type or its subclass.
+     * @param type expected type
+     * @return {@code true} if {@code ERR} of the type
+     * @throws IllegalArgumentException if no argument provided
+     * @see BaseResult#isErrAnd(Class)
+     */
+    public boolean isErrAnd(@NonNull Class<? extends Exception> type) {
+        return toResult().isErrAnd(type);
+    }
+
+    /**
+     * Checks if the computed state is {@code ERR} and
+     *  the error matches the predicate.
+     * @param predicate error predicate
+     * @return {@code true} if {@code ERR} and matches
+     * @throws IllegalArgumentException if no argument provided
+     * @see BaseResult#isErrAnd(Predicate)
+     */
+    public boolean isErrAnd(@NonNull Predicate<E> predicate) {
+        return toResult().isErrAnd(predicate);
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item.
+     * @return item
+     * @throws IllegalStateException if the computed state is {@code ERR}
+     * @see Result#get()
+     */
+    public V get() {
+        return toResult().get();
+    }
+
+    /**
+     * Computes the state and returns the {@code ERR} state.
+     * @return error
+     * @throws IllegalStateException if the computed state is {@code OK}
+     * @see Result#getErr()
+     */
+    public E getErr() {
+        return toResult().getErr();
+    }
+
+    /**
+     * Lazily remaps the {@code OK} item.
+     * @param remap remapping function
+     * @return new lazy result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#map(Function)
+     */
+    public <N> LazyResult<N, E> map(@NonNull Function<V, N> remap) {
+        return new LazyResult<>(() -> toResult().map(remap));
+    }
+
+    /**
+     * Lazily remaps the {@code OK} item into another result.
+     * @param remap remapping function
+     * @return new lazy result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#flatMap(Function)
+     */
+    public <N> LazyResult<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap) {
+        return new LazyResult<>(() -> toResult().flatMap(remap));
+    }
+
+    /**
+     * Lazily remaps the {@code OK} item into another lazy result,
+     *  only computing it if {@code this} turns out {@code OK}.
+     * @param remap remapping function
+     * @return new lazy result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public <N> LazyResult<N, E> flatMapLazy(@NonNull Function<V, LazyResult<N, E>> remap) {
+        return new LazyResult<>(() -> toResult().flatMap(item -> remap.apply(item).toResult()));
+    }
+
+    /**
+     * Lazily replaces the {@code OK} item.
+     * @param item replacement
+     * @return new lazy result
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#swap(Object)
+     */
+    public <N> LazyResult<N, E> swap(@NonNull N item) {
+        return new LazyResult<>(() -> toResult().swap(item));
+    }
+
+    /**
+     * Lazily erases the {@code ERR} type information.
+     * @return new lazy result
+     * @see Result#upcast()
+     */
+    public LazyResult<V, Exception> upcast() {
+        return new LazyResult<>(() -> toResult().upcast());
+    }
+
+    /**
+     * Lazily remaps the {@code ERR} state.
+     * @param remap remapping function
+     * @return new lazy result
+     * @param <N> new error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#mapErr(Function)
+     */
+    public <N extends Exception> LazyResult<V, N> mapErr(@NonNull Function<E, N> remap) {
+        return new LazyResult<>(() -> toResult().mapErr(remap));
+    }
+
+    /**
+     * Lazily converts {@code OK} into {@code ERR}.
+     * @param factory error factory
+     * @return new lazy result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#fork(Supplier)
+     */
+    public LazyResult<V, E> fork(@NonNull Supplier<E> factory) {
+        return new LazyResult<>(() -> toResult().fork(factory));
+    }
+
+    /**
+     * Lazily converts {@code OK} into {@code ERR} of a broader type.
+     * @param factory error factory
+     * @return new lazy result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#taint(Supplier)
+     */
+    public LazyResult<V, Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+        return new LazyResult<>(() -> toResult().taint(factory));
+    }
+
+    /**
+     * Lazily converts {@code OK} into {@code ERR} if the condition holds.
+     * @param condition condition
+     * @param factory error factory
+     * @return new lazy result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#fork(Predicate, Function)
+     */
+    public LazyResult<V, E> fork(@NonNull Predicate<V> condition,
+                                 @NonNull Function<V, E> factory) {
+        return new LazyResult<>(() -> toResult().fork(condition, factory));
+    }
+
+    /**
+     * Lazily converts {@code OK} into {@code ERR} of a broader
+     *  type if the condition holds.
+     * @param condition condition
+     * @param factory error factory
+     * @return new lazy result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#taint(Predicate, Function)
+     */
+    public LazyResult<V, Exception> taint(@NonNull Predicate<V> condition,
+                                          @NonNull Function<V, ? extends Exception> factory) {
+        return new LazyResult<>(() -> toResult().taint(condition, factory));
+    }
+
+    /**
+     * Lazily recovers from {@code ERR}.
+     * @param factory recovery function
+     * @return new lazy result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#recover(Function)
+     */
+    public LazyResult<V, E> recover(@NonNull Function<E, V> factory) {
+        return new LazyResult<>(() -> toResult().recover(factory));
+    }
+
+    /**
+     * Lazily recovers from {@code ERR} if the condition holds.
+     * @param condition condition
+     * @param factory recovery function
+     * @return new lazy result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#recover(Predicate, Function)
+     */
+    public LazyResult<V, E> recover(@NonNull Predicate<E> condition,
+                                    @NonNull Function<E, V> factory) {
+        return new LazyResult<>(() -> toResult().recover(condition, factory));
+    }
+
+    /**
+     * Lazily recovers from {@code ERR} of the specified type.
+     * @param ifType checked type
+     * @param factory recovery function
+     * @return new lazy result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see Result#recover(Class, Function)
+     */
+    public LazyResult<V, E> recover(@NonNull Class<? extends E> ifType,
+                                    @NonNull Function<E, V> factory) {
+        return new LazyResult<>(() -> toResult().recover(ifType, factory));
+    }
+
+    /**
+     * Lazily inspects the {@code OK} item once computed.
+     * @param consumer callback
+     * @return new lazy result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#peek(Consumer)
+     */
+    public LazyResult<V, E> peek(@NonNull Consumer<V> consumer) {
+        return new LazyResult<>(() -> toResult().peek(consumer));
+    }
+
+    /**
+     * Lazily inspects the {@code ERR} state once computed.
+     * @param consumer callback
+     * @return new lazy result
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#peekErr(Consumer)
+     */
+    public LazyResult<V, E> peekErr(@NonNull Consumer<E> consumer) {
+        return new LazyResult<>(() -> toResult().peekErr(consumer));
+    }
+
+    /**
+     * Computes the state and runs the callback if it is {@code OK}.
+     * @param action callback
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#ifOk(Consumer)
+     */
+    public void ifOk(@NonNull Consumer<V> action) {
+        toResult().ifOk(action);
+    }
+
+    /**
+     * Computes the state and runs the callback if it is {@code OK}.
+     * @param action callback
+     * @throws IllegalArgumentException if no argument provided
+     * @see BaseResult#ifOk(Runnable)
+     */
+    public void ifOk(@NonNull Runnable action) {
+        toResult().ifOk(action);
+    }
+
+    /**
+     * Computes the state and runs the callback if it is {@code ERR}.
+     * @param action callback
+     * @throws IllegalArgumentException if no argument provided
+     * @see BaseResult#ifErr(Consumer)
+     */
+    public void ifErr(@NonNull Consumer<E> action) {
+        toResult().ifErr(action);
+    }
+
+    /**
+     * Computes the state and runs the callback if it is {@code ERR}.
+     * @param action callback
+     * @throws IllegalArgumentException if no argument provided
+     * @see BaseResult#ifErr(Runnable)
+     */
+    public void ifErr(@NonNull Runnable action) {
+        toResult().ifErr(action);
+    }
+
+    /**
+     * Computes the state and drops the item.
+     * @return strict flag result
+     * @see Result#drop()
+     */
+    public FlagResult<E> drop() {
+        return toResult().drop();
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item or the fallback.
+     * @param another fallback
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#unwrapOr(Object)
+     */
+    public V unwrapOr(@NonNull V another) {
+        return toResult().unwrapOr(another);
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item or
+     *  the supplied fallback.
+     * @param factory fallback factory
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#unwrapOr(Supplier)
+     */
+    public V unwrapOr(@NonNull Supplier<V> factory) {
+        return toResult().unwrapOr(factory);
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item.
+     * @return item
+     * @throws Failure result wrapping exception
+     * @see Result#unwrap()
+     */
+    public V unwrap() {
+        return toResult().unwrap();
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item.
+     * @return item
+     * @throws Failure stackless result wrapping exception
+     * @see Result#unwrapStackless()
+     */
+    public V unwrapStackless() {
+        return toResult().unwrapStackless();
+    }
+
+    /**
+     * Computes the state and returns the {@code OK} item.
+     * @return item
+     * @throws E result exception
+     * @see Result#unwrapChecked()
+     */
+    public V unwrapChecked() throws E {
+        return toResult().unwrapChecked();
+    }
+
+    @Override
+    public String toString() {
+        Result<V, E> current = result;
+        return current == null
+                ? "LazyResult[?]"
+                : "LazyResult[" + current + ']';
+    }
+
+    private Result<V, E> compute(Computation<V, E> claimed) {
+        Result<V, E> computed;
+        try {
+            computed = factory.get();
+            if (computed == null) {
+                throw new IllegalArgumentException("lazy result computed to null");
+            }
+        } catch (RuntimeException | Error ex) {
+            running = null;
+            claimed.completeExceptionally(ex);
+            throw ex;
+        }
+
+        result = computed;
+        factory = null;
+        claimed.complete(computed);
+        return computed;
+    }
+
+    /**
+     * Computation in progress, along with the thread running it.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private static final class Computation<V, E extends Exception> extends CompletableFuture<Result<V, E>> {
+
+        /**
+         * Thread that claimed the computation.
+         */
+        private final Thread owner = Thread.currentThread();
+    }
+
+    private LazyResult(Supplier<Result<V, E>> factory) {
+        this.factory = factory;
+    }
+
+    private LazyResult(Result<V, E> result) {
+        this.result = result;
+    }
+}
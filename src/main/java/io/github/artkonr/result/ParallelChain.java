@@ -0,0 +1,134 @@
+package io.github.artkonr.result;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Speculative parallel invocation of a chain of result-producing
+ *  functions.
+ * <p>All functions are started at once. Once a function produces an
+ *  {@code ERR} result, functions after it in submission order are
+ *  cancelled (interrupted if running), as their outcome can no longer
+ *  affect the chain. Results are then consumed in submission order,
+ *  so the outcome is the same as with a sequential chain.
+ * @param <R> result type
+ */
+final class ParallelChain<R extends BaseResult<?>> {
+
+    private final List<Step> steps;
+
+    private final AtomicInteger bound = new AtomicInteger(Integer.MAX_VALUE);
+
+    /**
+     * Starts all non-{@code null} functions in the executor.
+     * @param invocations functions to start
+     * @param executor executor to start in
+     */
+    ParallelChain(Collection<Supplier<R>> invocations, Executor executor) {
+        this.steps = new ArrayList<>(invocations.size());
+        for (Supplier<R> invocation : invocations) {
+            if (invocation != null) {
+                steps.add(new Step(steps.size(), invocation));
+            }
+        }
+
+        try {
+            for (Step step : steps) {
+                executor.execute(step);
+            }
+        } catch (RuntimeException ex) {
+            cancelFrom(0, steps.size());
+            throw ex;
+        }
+    }
+
+    /**
+     * Waits for results in submission order until the first
+     *  {@code ERR} result.
+     * @param consumer consumer of {@code OK} results
+     * @return the first {@code ERR} result or {@code null}
+     * @throws Failure if interrupted while waiting
+     */
+    R await(Consumer<R> consumer) {
+        try {
+            for (Step step : steps) {
+                R result = step.get();
+                if (result == null) {
+                    continue;
+                }
+
+                if (result.isErr()) {
+                    return result;
+                }
+                consumer.accept(result);
+            }
+            return null;
+        } catch (InterruptedException ex) {
+            cancelFrom(0, steps.size());
+            Thread.currentThread().interrupt();
+            throw Failure.of(ex);
+        } catch (ExecutionException ex) {
+            cancelFrom(0, steps.size());
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw Failure.of(cause);
+            }
+        } catch (CancellationException ex) {
+            cancelFrom(0, steps.size());
+            throw ex;
+        }
+    }
+
+    private void cancelFrom(int from, int to) {
+        for (int i = from; i < to; i++) {
+            steps.get(i).cancel(true);
+        }
+    }
+
+    /**
+     * A started function, which cancels the functions
+     *  after it once it completes with {@code ERR}.
+     */
+    private final class Step extends FutureTask<R> {
+
+        private final int index;
+
+        private Step(int index, Supplier<R> invocation) {
+            super(invocation::get);
+            this.index = index;
+        }
+
+        @Override
+        protected void done() {
+            if (isCancelled()) {
+                return;
+            }
+
+            R result;
+            try {
+                result = get();
+            } catch (InterruptedException | ExecutionException ex) {
+                return;
+            }
+
+            if (result != null && result.isErr()) {
+                int previous = bound.getAndAccumulate(index, Math::min);
+                if (index < previous) {
+                    cancelFrom(index + 1, Math.min(previous, steps.size()));
+                }
+            }
+        }
+    }
+}
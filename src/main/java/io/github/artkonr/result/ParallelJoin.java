@@ -0,0 +1,172 @@
+package io.github.artkonr.result;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fork-join search for the {@code ERR} result that a sequential
+ *  join would pick, optionally collecting {@code OK} items on
+ *  the way.
+ * <p>The input is split into chunks which are scanned in parallel.
+ *  Chunks share the index of the best error found so far: with
+ *  {@link TakeFrom#HEAD} chunks are scanned left to right and
+ *  chunks to the right of a found error are skipped or abandoned;
+ *  with {@link TakeFrom#TAIL} chunks are scanned right to left
+ *  and chunks to the left of a found error are skipped; with
+ *  {@link TakeFrom#ANY} the first found error stops all chunks.
+ */
+final class ParallelJoin {
+
+    /**
+     * Inputs smaller than that are joined sequentially; chunks
+     *  are never smaller than that.
+     */
+    static final int MIN_CHUNK = 1 << 10;
+
+    private static final int CHECK_EVERY = 1 << 8;
+
+    private final List<? extends BaseResult<?>> results;
+
+    private final Object[] items;
+
+    private final TakeFrom rule;
+
+    private final int chunk;
+
+    private final AtomicInteger picked;
+
+    private volatile boolean sparse;
+
+    /**
+     * Default constructor.
+     * @param results random access list of results; {@code null}
+     *  elements are skipped
+     * @param items array to store {@code OK} items at their source
+     *  indices, or {@code null} if items are not needed
+     * @param rule fusing rule
+     * @param pool pool to run in
+     */
+    ParallelJoin(List<? extends BaseResult<?>> results, Object[] items, TakeFrom rule, ForkJoinPool pool) {
+        this.results = results;
+        this.items = items;
+        this.rule = rule;
+        this.chunk = Math.max(MIN_CHUNK, results.size() / (pool.getParallelism() * 4));
+        this.picked = new AtomicInteger(rule == TakeFrom.TAIL ? -1 : Integer.MAX_VALUE);
+        pool.invoke(new Chunk(0, results.size()));
+    }
+
+    /**
+     * Returns the index of the {@code ERR} result picked by the rule.
+     * @return index or {@code -1} if all results are {@code OK}
+     */
+    int picked() {
+        int index = picked.get();
+        return index == Integer.MAX_VALUE ? -1 : index;
+    }
+
+    /**
+     * Checks if any {@code null} elements were skipped, i.e.
+     *  if the items array needs compacting.
+     * @return {@code true} if there are {@code null} elements
+     */
+    boolean sparse() {
+        return sparse;
+    }
+
+    /**
+     * Checks if an error already found makes the range irrelevant.
+     * @param from range start, inclusive
+     * @param to range end, exclusive
+     * @return {@code true} if the range can be skipped
+     */
+    private boolean decided(int from, int to) {
+        int index = picked.get();
+        return switch (rule) {
+            case HEAD -> index < from;
+            case TAIL -> index >= to;
+            case ANY -> index != Integer.MAX_VALUE;
+        };
+    }
+
+    private void scan(int from, int to) {
+        switch (rule) {
+            case HEAD, ANY -> {
+                for (int i = from; i < to; i++) {
+                    if ((i & (CHECK_EVERY - 1)) == 0 && decided(from, to)) {
+                        return;
+                    }
+
+                    BaseResult<?> result = results.get(i);
+                    if (result == null) {
+                        sparse = true;
+                        continue;
+                    }
+
+                    if (result.isErr()) {
+                        if (rule == TakeFrom.ANY) {
+                            picked.compareAndSet(Integer.MAX_VALUE, i);
+                        } else {
+                            picked.accumulateAndGet(i, Math::min);
+                        }
+                        return;
+                    } else if (items != null) {
+                        items[i] = ((Result<?, ?>) result).get();
+                    }
+                }
+            }
+            case TAIL -> {
+                for (int i = to - 1; i >= from; i--) {
+                    if ((i & (CHECK_EVERY - 1)) == 0 && decided(from, to)) {
+                        return;
+                    }
+
+                    BaseResult<?> result = results.get(i);
+                    if (result == null) {
+                        sparse = true;
+                        continue;
+                    }
+
+                    if (result.isErr()) {
+                        picked.accumulateAndGet(i, Math::max);
+                        return;
+                    } else if (items != null) {
+                        items[i] = ((Result<?, ?>) result).get();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A range of the input.
+     */
+    private final class Chunk extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private Chunk(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (decided(from, to)) {
+                return;
+            }
+
+            if (to - from <= chunk) {
+                scan(from, to);
+            } else {
+                int mid = (from + to) >>> 1;
+                invokeAll(new Chunk(from, mid), new Chunk(mid, to));
+            }
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package io.github.artkonr.result;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@code OK} items and errors split out of a sequence of
+ *  {@link Result results}, both in the encounter order.
+ * <p>Every error keeps the index of its {@link Result} in the
+ *  source sequence ({@code null} elements included), stored
+ *  in a primitive array.
+ * @param <V> item type
+ * @param <E> error type
+ * @see Result#partition(java.util.Collection)
+ * @see ResultCollectors#partition()
+ */
+public final class Partition<V, E extends Exception> {
+
+    private final List<V> ok;
+
+    private final List<E> errors;
+
+    private final int[] errorIndices;
+
+    /**
+     * Returns {@code OK} items.
+     * @return unmodifiable list of items
+     */
+    public List<V> ok() {
+        return ok;
+    }
+
+    /**
+     * Returns errors.
+     * @return unmodifiable list of errors
+     */
+    public List<E> errors() {
+        return errors;
+    }
+
+    /**
+     * Returns the source index of the error at the specified
+     *  position in {@link #errors()}.
+     * @param position position in the error list
+     * @return index in the source sequence
+     * @throws IndexOutOfBoundsException if there is no such error
+     */
+    public int errorIndex(int position) {
+        return errorIndices[position];
+    }
+
+    /**
+     * Returns source indices of all errors, aligned with
+     *  {@link #errors()}.
+     * @return copy of the indices
+     */
+    public int[] errorIndices() {
+        return errorIndices.clone();
+    }
+
+    /**
+     * Checks if any errors were encountered.
+     * @return {@code true} if there are errors
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "Partition[ok=" + ok.size() + ", errors=" + errors.size() + ']';
+    }
+
+    private Partition(List<V> ok, List<E> errors, int[] errorIndices) {
+        this.ok = ok;
+        this.errors = errors;
+        this.errorIndices = errorIndices;
+    }
+
+    /**
+     * Mutable partition builder. Accepts results in the
+     *  encounter order; builders of consecutive chunks are
+     *  merged with {@link #merge(Builder)}.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static final class Builder<V, E extends Exception> {
+
+        private final List<V> ok;
+
+        private final List<E> errors;
+
+        private int[] errorIndices;
+
+        private int count;
+
+        /**
+         * Creates a builder.
+         * @param expected expected number of results
+         */
+        Builder(int expected) {
+            this.ok = new ArrayList<>(expected);
+            this.errors = new ArrayList<>();
+            this.errorIndices = new int[8];
+        }
+
+        /**
+         * Accepts the next result, possibly {@code null}.
+         * @param result result
+         */
+        void add(Result<V, E> result) {
+            int index = count++;
+            if (result == null) {
+                return;
+            }
+
+            if (result.isOk()) {
+                ok.add(result.get());
+            } else {
+                int position = errors.size();
+                if (position == errorIndices.length) {
+                    errorIndices = Arrays.copyOf(errorIndices, position * 2);
+                }
+                errorIndices[position] = index;
+                errors.add(result.getErr());
+            }
+        }
+
+        /**
+         * Appends results accepted by the builder of the
+         *  chunk that follows {@code this} one.
+         * @param next following builder
+         * @return {@code this} builder
+         */
+        Builder<V, E> merge(Builder<V, E> next) {
+            int position = errors.size();
+            int appended = next.errors.size();
+            if (position + appended > errorIndices.length) {
+                errorIndices = Arrays.copyOf(errorIndices, Math.max(position + appended, errorIndices.length * 2));
+            }
+            for (int i = 0; i < appended; i++) {
+                errorIndices[position + i] = next.errorIndices[i] + count;
+            }
+
+            ok.addAll(next.ok);
+            errors.addAll(next.errors);
+            count += next.count;
+            return this;
+        }
+
+        /**
+         * Builds the partition.
+         * @return partition
+         */
+        Partition<V, E> build() {
+            return new Partition<>(
+                    Collections.unmodifiableList(ok),
+                    Collections.unmodifiableList(errors),
+                    Arrays.copyOf(errorIndices, errors.size())
+            );
+        }
+    }
+}
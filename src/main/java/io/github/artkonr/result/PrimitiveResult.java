@@ -0,0 +1,178 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Shared part of the primitive specializations of {@link Result}:
+ *  {@link IntResult}, {@link LongResult} and {@link DoubleResult}.
+ * <p>This class implements everything that does not touch the
+ *  primitive item; the specializations only add the operations
+ *  typed after it. Like {@link Result}, each specialization is
+ *  split into sealed {@code OK} and {@code ERR} implementations,
+ *  so that an {@code OK} result holds nothing but its item and
+ *  an {@code ERR} result nothing but its error.
+ * @param <E> error type
+ * @param <R> specialization type
+ */
+abstract sealed class PrimitiveResult<E extends Exception, R extends PrimitiveResult<E, R>> extends BaseResult<E>
+        permits IntResult, LongResult, DoubleResult {
+
+    /**
+     * Inspects the {@code ERR} state using the specified function,
+     *  if {@code this} instance is {@code ERR}.
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public R peekErr(@NonNull Consumer<E> consumer) {
+        if (isErr()) {
+            consumer.accept(getErr());
+        }
+        return self();
+    }
+
+    /**
+     * Converts {@code this} instance into a {@link FlagResult}
+     *  by dropping the {@code OK} item. Internal error state
+     *  is carried over as-is.
+     * @return new {@link FlagResult}
+     */
+    public FlagResult<E> drop() {
+        return isOk() ? FlagResult.ok() : FlagResult.errOf(this);
+    }
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
+     * @param factory exception factory
+     * @return converted result
+     * @throws IllegalArgumentException if no argument provided or if
+     *  the factory function returns {@code null}
+     */
+    @Override
+    public R fork(@NonNull Supplier<E> factory) {
+        return isOk() ? withError(factory.get()) : self();
+    }
+
+    /**
+     * Checks if {@code this} equals {@code that}.
+     * @param that that
+     * @return comparison result
+     */
+    @Override
+    public boolean equals(Object that) {
+        if (this == that) return true;
+        if (!(that instanceof PrimitiveResult<?, ?> result)) return false;
+        if (specialization() != result.specialization() || isOk() != result.isOk()) return false;
+
+        if (isOk()) {
+            @SuppressWarnings("unchecked")
+            R cast = (R) result;
+            return sameItem(cast);
+        } else {
+            return getErr().equals(result.getErr());
+        }
+    }
+
+    /**
+     * Computes hashcode.
+     * @return computed hashcode
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (isOk() ? itemHashCode() : getErr().hashCode());
+    }
+
+    @Override
+    public String toString() {
+        return specialization().getSimpleName() + (isOk() ? "[ok=" + itemToString() : "[err=" + getErr()) + ']';
+    }
+
+    /**
+     * Creates an {@code ERR} result of the same specialization.
+     * @param error error
+     * @return new {@code ERR} instance
+     * @throws IllegalArgumentException if no argument provided
+     */
+    abstract R withError(E error);
+
+    /**
+     * Compares the items of {@code this} and another {@code OK} result.
+     *  Only called on {@code OK} results.
+     * @param that other {@code OK} result
+     * @return {@code true} if items are equal
+     */
+    abstract boolean sameItem(R that);
+
+    /**
+     * Computes the hashcode of the item. Only called on {@code OK} results.
+     * @return item hashcode
+     */
+    abstract int itemHashCode();
+
+    /**
+     * Renders the item. Only called on {@code OK} results.
+     * @return item as string
+     */
+    abstract String itemToString();
+
+    /**
+     * Picks the {@code ERR} result out of {@code this} and another
+     *  result according to the rule, as {@code fuse} does.
+     * @param another fuse with
+     * @param rule fusing rule
+     * @return picked result or {@code null} if both are {@code OK}
+     */
+    final R pickErr(R another, TakeFrom rule) {
+        BaseResult<E> picked = rule.takeErrored(this, another);
+        if (picked == null) {
+            return null;
+        }
+        return picked == this ? self() : another;
+    }
+
+    /**
+     * Casts an exception caught while wrapping to the expected type.
+     * @param errType expected type
+     * @param exception caught exception
+     * @return cast exception
+     * @param <E> error type
+     * @throws IllegalStateException if the exception is not
+     *  of an expected type or its subtype
+     */
+    static <E extends Exception> E expected(Class<E> errType, Exception exception) {
+        if (errType.isAssignableFrom(exception.getClass())) {
+            @SuppressWarnings("unchecked")
+            E cast = (E) exception;
+            return cast;
+        } else {
+            throw BaseResult.unexpectedWrappedException(errType, exception);
+        }
+    }
+
+    /**
+     * Returns the specialization {@code this} instance belongs
+     *  to, e.g. {@link IntResult} for its {@code OK} implementation.
+     * @return specialization class
+     */
+    private Class<?> specialization() {
+        return getClass().getNestHost();
+    }
+
+    @SuppressWarnings("unchecked")
+    private R self() {
+        return (R) this;
+    }
+
+    /**
+     * Internal constructor.
+     * <p>Instances are created through the {@code OK}
+     *  and {@code ERR} implementations only.
+     */
+    PrimitiveResult() { }
+}
@@ -2,11 +2,21 @@ package io.github.artkonr.result;
 
 import lombok.NonNull;
 
+import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * A {@link BaseResult result} that contains a value (item) that is
@@ -14,12 +24,7 @@ import java.util.function.Supplier;
  * @param <V> item type
  * @param <E> error type
  */
-public class Result<V, E extends Exception> extends BaseResult<E> {
-
-    /**
-     * Internally stored {@code OK} value. Not null.
-     */
-    protected final V item;
+public abstract sealed class Result<V, E extends Exception> extends BaseResult<E> permits Result.Ok, Result.Err {
 
     /**
      * Runs a specified {@link Wrap.Supplier}, catches an expected exception
@@ -81,35 +86,120 @@ public class Result<V, E extends Exception> extends BaseResult<E> {
         return Result.ok(item);
     }
 
+    /**
+     * Runs a specified {@link Wrap.Supplier} bounded by the {@link
+     *  Deadline}, catching any exception the same way as {@link
+     *  #wrap(Wrap.Supplier)}.
+     * @param deadline deadline
+     * @param action fallible action
+     * @return result of the invocation
+     * @param <V> item type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #wrapWithin(Class, Deadline, Wrap.Supplier)
+     */
+    public static <V> Result<V, Exception> wrapWithin(@NonNull Deadline deadline,
+                                                      @NonNull Wrap.Supplier<V> action) {
+        return wrapWithin(Exception.class, deadline, action);
+    }
+
+    /**
+     * Runs a specified {@link Wrap.Supplier} bounded by the {@link
+     *  Deadline}, catching an expected exception the same way as
+     *  {@link #wrap(Class, Wrap.Supplier)}.
+     * <p>The action runs on the default executor (a virtual thread
+     *  if the runtime supports them) while the calling thread waits
+     *  until the deadline. Should the deadline pass or be cancelled
+     *  first, the action is interrupted and the call resolves to
+     *  {@code ERR} with a stackless {@link DeadlineExceededException};
+     *  hence the error type is broadened to {@link Exception}. If the
+     *  deadline has already expired, the action is not started.
+     * @param errType expected type
+     * @param deadline deadline
+     * @param action fallible action
+     * @return result of the invocation
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     *  or if the action returns a {@code null} value
+     * @throws IllegalStateException if the exception during invocation is not
+     *  of an expected type or its subtype
+     * @throws Failure if interrupted while waiting
+     */
+    public static <V, E extends Exception> Result<V, Exception> wrapWithin(@NonNull Class<E> errType,
+                                                                           @NonNull Deadline deadline,
+                                                                           @NonNull Wrap.Supplier<V> action) {
+        if (deadline.isExpired()) {
+            return Result.err(deadline.exceeded());
+        }
+
+        FutureTask<Result<V, E>> task = new FutureTask<>(() -> wrap(errType, action));
+        deadline.bind(task);
+        try {
+            DefaultExecutor.get().execute(task);
+            long remaining = deadline.remainingNanos();
+            Result<V, E> result = remaining == Long.MAX_VALUE
+                    ? task.get()
+                    : task.get(remaining, TimeUnit.NANOSECONDS);
+            return result.upcast();
+        } catch (TimeoutException | CancellationException ex) {
+            task.cancel(true);
+            return Result.err(deadline.exceeded());
+        } catch (InterruptedException ex) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw Failure.of(ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw Failure.of(cause);
+            }
+        } finally {
+            deadline.release(task);
+        }
+    }
+
     /**
      * Creates a new instance from an existing {@link Result result}.
      *  The {@code OK}/{@code ERR} state is taken from the source entity.
      * <p>Note: as {@link Result} must contain an item in {@code OK}
      *  state, only {@link Result} is allowed as input.
+     * <p>As {@link Result} is immutable, the source instance itself
+     *  is returned.
      * @param source source {@link BaseResult result}
-     * @return new instance
+     * @return source instance
      * @param <V> item type
      * @param <E> error type
      * @throws IllegalArgumentException if no argument provided
      */
     public static <V, E extends Exception> Result<V, E> from(@NonNull Result<V, E> source) {
-        if (source.isOk()) {
-            return Result.ok(source.item);
-        } else {
-            return Result.err(source.error);
-        }
+        return source;
     }
 
     /**
      * Creates an {@code OK} item with item.
-     * @return new {@code OK} instance
+     * <p>Commonly returned items ({@link Boolean booleans}, small
+     *  {@link Integer integers}, empty {@link List lists}, {@link Set
+     *  sets}, {@link Map maps} and {@link Optional#empty()}) resolve
+     *  to shared pre-allocated instances.
+     * @return {@code OK} instance
      * @param item ok item
      * @param <V> item type
      * @param <E> error type
      * @throws IllegalArgumentException if no argument provided
      */
     public static <V, E extends Exception> Result<V, E> ok(@NonNull V item) {
-        return new Result<>(item, null);
+        Result<?, ?> interned = Interned.lookup(item);
+        if (interned != null) {
+            @SuppressWarnings("unchecked")
+            Result<V, E> cast = (Result<V, E>) interned;
+            return cast;
+        }
+
+        return new Ok<>(item);
     }
 
     /**
@@ -121,7 +211,53 @@ public class Result<V, E extends Exception> extends BaseResult<E> {
      * @throws IllegalArgumentException if no argument provided
      */
     public static <V, E extends Exception> Result<V, E> err(@NonNull E error) {
-        return new Result<>(null, error);
+        return new Err<>(error);
+    }
+
+    /**
+     * Creates an {@code ERR} item, which builds its error
+     *  from the error code and arguments on first access.
+     * <p>The error is only built once {@link #getErr()},
+     *  {@link #unwrapChecked()}, {@code peekErr}, {@code mapErr}
+     *  and other error-consuming operations need it; results
+     *  discarded by {@code recover}, {@code unwrapOr} or {@code
+     *  join} never build it. {@link #isErr()} and {@link
+     *  #isErrAnd(Class)} are answered from the declared type.
+     * @param type type of created error
+     * @param factory error factory
+     * @param code error code
+     * @param args error arguments
+     * @return new {@code ERR} instance
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the type, factory
+     *  or code not provided
+     */
+    public static <V, E extends Exception> Result<V, E> err(@NonNull Class<? extends E> type,
+                                                            @NonNull ErrorFactory<? extends E> factory,
+                                                            @NonNull String code,
+                                                            Object... args) {
+        return new DeferredErr<>(new DeferredError<>(type, factory, code, args));
+    }
+
+    /**
+     * Creates an {@code ERR} item carrying the error of
+     *  the source {@code ERR} result, keeping it deferred
+     *  if it is.
+     * @param source {@code ERR} result
+     * @return {@code ERR} instance
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static <V, E extends Exception> Result<V, E> errOf(BaseResult<E> source) {
+        if (source instanceof Err<?, E> err) {
+            return retype(err);
+        }
+
+        DeferredError<E> deferred = source.deferredErr();
+        return deferred == null
+                ? new Err<>(source.getErr())
+                : new DeferredErr<>(deferred);
     }
 
     /**
@@ -139,35 +275,228 @@ public class Result<V, E extends Exception> extends BaseResult<E> {
      * @throws IllegalArgumentException if no argument provided
      */
     public static <V, E extends Exception> Result<List<V>, E> chain(@NonNull Collection<Supplier<Result<V, E>>> invocations) {
-        List<Supplier<Result<V, E>>> filtered = invocations.stream()
-                .filter(Objects::nonNull)
-                .toList();
+        List<V> ok = new ArrayList<>(invocations.size());
+        Result<V, E> err = chainInto(invocations.iterator(), ok::add);
+        return err == null ? Result.ok(ok) : retype(err);
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions in a serialized
+     *  manner and short-circuits upon the first encountered {@code
+     *  ERR} result. Encountered {@code null} elements are ignored.
+     * <p>Functions are pulled from the {@link Iterator} one at a
+     *  time; nothing is pulled after the first {@code ERR} result.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, a collection
+     *  of resulting items is returned.
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> Result<List<V>, E> chainLazy(@NonNull Iterator<Supplier<Result<V, E>>> invocations) {
         List<V> ok = new ArrayList<>();
-        if (!filtered.isEmpty()) {
-            Iterator<Supplier<Result<V, E>>> iterator = filtered.iterator();
-            E err = null;
-            while (iterator.hasNext()) {
-                Result<V, E> curr = iterator.next().get();
-                if (curr == null) {
-                    continue;
-                }
+        Result<V, E> err = chainInto(invocations, ok::add);
+        return err == null ? Result.ok(ok) : retype(err);
+    }
 
-                if (curr.isOk()) {
-                    ok.add(curr.item);
-                } else {
-                    err = curr.error;
-                    break;
-                }
+    /**
+     * Same as {@link Result#chainLazy(Iterator)}, pulling functions
+     *  from the {@link Iterable}.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, a collection
+     *  of resulting items is returned.
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> Result<List<V>, E> chainLazy(@NonNull Iterable<Supplier<Result<V, E>>> invocations) {
+        return chainLazy(invocations.iterator());
+    }
+
+    /**
+     * Same as {@link Result#chainLazy(Iterator)}, pulling functions
+     *  from the sequential {@link Stream}. The stream is not closed.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, a collection
+     *  of resulting items is returned.
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> Result<List<V>, E> chainLazy(@NonNull Stream<Supplier<Result<V, E>>> invocations) {
+        return chainLazy(invocations.iterator());
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions in a serialized
+     *  manner and short-circuits upon the first encountered {@code
+     *  ERR} result, feeding {@code OK} items to the consumer instead
+     *  of collecting them. Encountered {@code null} elements are ignored.
+     * <p>Functions are pulled from the {@link Iterator} one at a
+     *  time; nothing is pulled after the first {@code ERR} result.
+     * @param invocations operations to invoke
+     * @param consumer {@code OK} items consumer
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned; {@code OK} otherwise
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> FlagResult<E> chainLazy(@NonNull Iterator<Supplier<Result<V, E>>> invocations,
+                                                                   @NonNull Consumer<V> consumer) {
+        Result<V, E> err = chainInto(invocations, consumer);
+        return err == null ? FlagResult.ok() : FlagResult.errOf(err);
+    }
+
+    /**
+     * Same as {@link Result#chainLazy(Iterator, Consumer)}, pulling
+     *  functions from the {@link Iterable}.
+     * @param invocations operations to invoke
+     * @param consumer {@code OK} items consumer
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned; {@code OK} otherwise
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> FlagResult<E> chainLazy(@NonNull Iterable<Supplier<Result<V, E>>> invocations,
+                                                                   @NonNull Consumer<V> consumer) {
+        return chainLazy(invocations.iterator(), consumer);
+    }
+
+    /**
+     * Same as {@link Result#chainLazy(Iterator, Consumer)}, pulling
+     *  functions from the sequential {@link Stream}. The stream
+     *  is not closed.
+     * @param invocations operations to invoke
+     * @param consumer {@code OK} items consumer
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned; {@code OK} otherwise
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> FlagResult<E> chainLazy(@NonNull Stream<Supplier<Result<V, E>>> invocations,
+                                                                   @NonNull Consumer<V> consumer) {
+        return chainLazy(invocations.iterator(), consumer);
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions in a serialized
+     *  manner, same as {@link #chain(Collection)}, but stops starting
+     *  new functions once the {@link Deadline} expires or is cancelled.
+     * @param invocations operations to invoke
+     * @param deadline deadline
+     * @return results chained into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #chainWithin(Iterator, Deadline)
+     */
+    public static <V, E extends Exception> Result<List<V>, Exception> chainWithin(@NonNull Collection<Supplier<Result<V, E>>> invocations,
+                                                                                  @NonNull Deadline deadline) {
+        return chainWithin(invocations.iterator(), deadline);
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions in a serialized
+     *  manner, same as {@link #chainLazy(Iterator)}, but checks the {@link
+     *  Deadline} before pulling each function. Once the deadline
+     *  expires or is cancelled, no more functions are started and
+     *  the chain resolves to {@code ERR} with a stackless {@link
+     *  DeadlineExceededException}; hence the error type is broadened
+     *  to {@link Exception}.
+     * <p>A function that is already running is not interrupted: to
+     *  bound each of them, wrap them with {@link #wrapWithin(Class,
+     *  Deadline, Wrap.Supplier)} using the same deadline.
+     * @param invocations operations to invoke
+     * @param deadline deadline
+     * @return results chained into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, E extends Exception> Result<List<V>, Exception> chainWithin(@NonNull Iterator<Supplier<Result<V, E>>> invocations,
+                                                                                  @NonNull Deadline deadline) {
+        List<V> ok = new ArrayList<>();
+        while (invocations.hasNext()) {
+            if (deadline.isExpired()) {
+                return Result.err(deadline.exceeded());
+            }
+
+            Supplier<Result<V, E>> invocation = invocations.next();
+            if (invocation == null) {
+                continue;
             }
 
-            if (err == null) {
-                return Result.ok(ok);
+            Result<V, E> curr = invocation.get();
+            if (curr == null) {
+                continue;
+            }
+
+            if (curr.isOk()) {
+                ok.add(curr.get());
             } else {
-                return err(err);
+                return retype(curr.upcast());
             }
-        } else {
-            return Result.ok(ok);
         }
+
+        return Result.ok(ok);
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions speculatively in
+     *  parallel on the default executor; the outcome is the same as
+     *  with {@link Result#chain(Collection)}.
+     * <p>The default executor runs each function on a virtual thread
+     *  if the runtime supports them, or on a shared cached pool of
+     *  daemon threads otherwise.
+     * @param invocations operations to invoke
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, a collection
+     *  of resulting items is returned.
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see Result#chainParallel(Collection, Executor)
+     */
+    public static <V, E extends Exception> Result<List<V>, E> chainParallel(@NonNull Collection<Supplier<Result<V, E>>> invocations) {
+        return chainParallel(invocations, DefaultExecutor.get());
+    }
+
+    /**
+     * Invokes {@link Result}-producing functions speculatively in
+     *  parallel on the {@link Executor}; the outcome is the same as
+     *  with {@link Result#chain(Collection)}. Encountered {@code null}
+     *  elements are ignored.
+     * <p>All functions are started at once. As soon as a function
+     *  returns an {@code ERR} result, the functions after it in the
+     *  collection order are cancelled, and interrupted if already
+     *  running. The calling thread waits for results in the collection
+     *  order, so the {@code ERR} result returned is that of the first
+     *  failing function, regardless of the completion order.
+     * <p>Should a function throw, the exception is rethrown, wrapped
+     *  into a {@link Failure} if checked, and the other functions
+     *  are cancelled. Same is done if the calling thread is
+     *  interrupted while waiting.
+     * @param invocations operations to invoke
+     * @param executor executor to run the operations in
+     * @return if either of the invocations short-circuits, an {@code ERR}
+     *  result is returned. If all invocations succeed, a collection
+     *  of resulting items is returned.
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws Failure if interrupted while waiting for the results
+     */
+    public static <V, E extends Exception> Result<List<V>, E> chainParallel(@NonNull Collection<Supplier<Result<V, E>>> invocations,
+                                                                            @NonNull Executor executor) {
+        List<V> ok = new ArrayList<>(invocations.size());
+        Result<V, E> err = new ParallelChain<>(invocations, executor).await(result -> ok.add(result.get()));
+        return err == null ? Result.ok(ok) : retype(err);
     }
 
     /**
@@ -211,659 +540,1869 @@ public class Result<V, E extends Exception> extends BaseResult<E> {
      */
     public static <V, E extends Exception> Result<List<V>, E> join(@NonNull Collection<Result<V, E>> results,
                                                                    @NonNull TakeFrom rule) {
-        List<Result<V, E>> nonNull = results.stream()
-                .filter(Objects::nonNull)
-                .toList();
-        List<Result<V, E>> errored = nonNull.stream()
-                .filter(BaseResult::isErr)
-                .toList();
-        if (!errored.isEmpty()) {
-            Result<V, E> result = switch (rule) {
-                case HEAD -> errored.get(0);
-                case TAIL -> errored.get(errored.size() - 1);
-            };
-            return Result.err(result.error);
+        List<V> items = new ArrayList<>(results.size());
+        Result<V, E> picked = null;
+        for (Result<V, E> result : results) {
+            if (result == null) {
+                continue;
+            }
+
+            if (result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return retype(result);
+                }
+                picked = result;
+            } else if (picked == null) {
+                items.add(result.get());
+            }
+        }
+
+        if (picked != null) {
+            return retype(picked);
         } else {
-            return Result.ok(nonNull.stream()
-                    .map(result -> result.item)
-                    .toList());
+            return Result.ok(Collections.unmodifiableList(items));
         }
     }
 
     /**
-     * Takes an {@link Optional} out of an {@code OK} {@link Result}
-     *  and wraps the said {@link Result} into an {@link Optional}.
-     * <p>The wrapped {@link Result} retains the state of the input.
-     * <p>The wrapping {@link Optional} retains the state of the input.
-     * @param result {@link Result} bearing an {@link Optional} object to elevate
-     * @return {@link Result} wrapped in {@link Optional}
+     * Joins a {@link Map} of {@link Result} objects into a {@link
+     *  Result} of {@link Map} of items, taking the first error in
+     *  the iteration order of the source map.
+     * @param results map of {@link Result results}
+     * @return results joined into a {@link Result}
+     * @param <K> key type
      * @param <V> item type
      * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see #joinMap(Map, IntFunction, TakeFrom)
      */
-    public static <V, E extends Exception> Optional<Result<V, E>> elevate(@NonNull Result<Optional<V>, E> result) {
-        if (result.isOk()) {
-            return result.get().map(Result::ok);
-        } else {
-            return Optional.of(Result.err(result.error));
-        }
+    public static <K, V, E extends Exception> Result<Map<K, V>, E> joinMap(@NonNull Map<K, Result<V, E>> results) {
+        return joinMap(results, TakeFrom.HEAD);
     }
 
     /**
-     * Checks if {@code this} instance is {@code OK}
-     *  and the specified predicate holds.
-     * @param predicate predicate
-     * @return {@code true} if {@code this} is an {@code OK}
-     *  result and the predicate holds
-     * @throws IllegalArgumentException if no argument provided
+     * Joins a {@link Map} of {@link Result} objects into a {@link
+     *  Result} of unmodifiable {@link Map} of items, keeping the
+     *  iteration order of the source map. The error is taken as
+     *  described by {@link TakeFrom}.
+     * @param results map of {@link Result results}
+     * @param rule fusing rule
+     * @return results joined into a {@link Result}
+     * @param <K> key type
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #joinMap(Map, IntFunction, TakeFrom)
      */
-    public boolean isOkAnd(@NonNull Predicate<V> predicate) {
-        return isOk() && predicate.test(item);
+    public static <K, V, E extends Exception> Result<Map<K, V>, E> joinMap(@NonNull Map<K, Result<V, E>> results,
+                                                                           @NonNull TakeFrom rule) {
+        int capacity = (int) (results.size() / 0.75f) + 1;
+        return joinMap(results, size -> new LinkedHashMap<K, V>(capacity), rule)
+                .map(Collections::unmodifiableMap);
     }
 
     /**
-     * Attempts to get {@code OK} state or throws
-     *  if {@code this} instance is {@code ERR}.
-     * @return {@code OK} item
-     * @throws IllegalStateException if {@code this}
-     *  instance is {@code ERR}
+     * Joins a {@link Map} of {@link Result} objects into a {@link
+     *  Result} of {@link Map} of items in a single pass.
+     * <p>The eventual {@link Result} will have the {@code OK} state
+     *  iff. all {@link Result source results} are {@code OK}. Otherwise,
+     *  the error is taken as described by {@link TakeFrom}, in the
+     *  iteration order of the source map: for the pick to be stable,
+     *  use an ordered map, e.g. {@link LinkedHashMap}, {@link TreeMap}
+     *  or {@link EnumMap}.
+     * <p>The target map is created by the factory, given the size of
+     *  the source map, so it can be presized or be of a specific type,
+     *  e.g. {@code size -> new EnumMap<>(Key.class)}. Entries with
+     *  {@code null} results are skipped.
+     * @param results map of {@link Result results}
+     * @param mapFactory target map factory
+     * @param rule fusing rule
+     * @return results joined into a {@link Result}
+     * @param <K> key type
+     * @param <V> item type
+     * @param <M> target map type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public V get() {
-        if (isOk()) {
-            return item;
+    public static <K, V, M extends Map<K, V>, E extends Exception> Result<M, E> joinMap(@NonNull Map<K, Result<V, E>> results,
+                                                                                        @NonNull IntFunction<M> mapFactory,
+                                                                                        @NonNull TakeFrom rule) {
+        M items = mapFactory.apply(results.size());
+        Result<V, E> picked = null;
+        for (Map.Entry<K, Result<V, E>> entry : results.entrySet()) {
+            Result<V, E> result = entry.getValue();
+            if (result == null) {
+                continue;
+            }
+
+            if (result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return retype(result);
+                }
+                picked = result;
+            } else if (picked == null) {
+                items.put(entry.getKey(), result.get());
+            }
         }
 
-        throw new IllegalStateException("not an OK result");
+        return picked == null ? Result.ok(items) : retype(picked);
     }
 
     /**
-     * Produces a new {@link Result} out of {@code this}
-     *  and another {@link Result} by combining their
-     *  items into a {@link Fuse}.
-     * <p>The eventual {@link Result} will have {@code OK}
-     *  state iff. both instances are {@code OK}; {@code ERR}
-     *  state is assumed otherwise, with the error taken from
-     *  the only {@code ERR} from the pair or from {@code this}
-     *  instance if both are {@code ERR}.
-     * <p>In order to be fuse-able, fused items must contain
-     *  the same error type.
-     * @param another fuse with
-     * @param <N> fused item type
-     * @return a new {@link Result} containing {@link Fuse}
-     * @throws IllegalArgumentException if no argument provided
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of an array of items, taking the first error.
+     * @param results collection of {@link Result results}
+     * @param generator array factory, given the collection size
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #joinToArray(Collection, IntFunction, TakeFrom)
      */
-    public <N> Result<Fuse<V, N>, E> fuse(@NonNull Result<N, E> another) {
-        return fuse(another, TakeFrom.HEAD);
+    public static <V, E extends Exception> Result<V[], E> joinToArray(@NonNull Collection<Result<V, E>> results,
+                                                                      @NonNull IntFunction<V[]> generator) {
+        return joinToArray(results, generator, TakeFrom.HEAD);
     }
 
     /**
-     * Produces a new {@link Result} out of {@code this}
-     *  and another {@link Result} by combining their
-     *  items into a {@link Fuse}.
-     * <p>The eventual {@link Result} will have {@code OK}
-     *  state iff. both instances are {@code OK}; {@code ERR}
-     *  state is assumed otherwise with the error taken from
-     *  the only {@code ERR} from the pair. If both instances
-     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
-     *  to point which of the {@code ERR} items passes the
-     *  error on.
-     * <p>In order to be fuse-able, fused items must contain
-     *  the same error type.
-     * @param another fuse with
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of an array of items, same as {@link
+     *  #join(Collection, TakeFrom)} does, but without the list
+     *  wrapping. {@code null} elements are skipped.
+     * <p>The array is allocated once, sized to the collection, and
+     *  items are written into it directly; it is only truncated if
+     *  {@code null} elements were skipped. If the generator returns
+     *  a shorter array, as in {@code n -> new V[0]}, an array of the
+     *  same runtime type and of the collection size is used instead.
+     * @param results collection of {@link Result results}
+     * @param generator array factory, given the collection size
      * @param rule fusing rule
-     * @param <N> fused item type
-     * @return a new {@link Result} containing {@link Fuse}
-     * @throws IllegalArgumentException if either of the arguments not provided
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public <N> Result<Fuse<V, N>, E> fuse(@NonNull Result<N, E> another,
-                                          @NonNull TakeFrom rule) {
-        return rule.takeError(this, another)
-                .<Result<Fuse<V, N>, E>>map(Result::err)
-                .orElseGet(() -> Result.ok(new Fuse<>(this.item, another.item)));
+    public static <V, E extends Exception> Result<V[], E> joinToArray(@NonNull Collection<Result<V, E>> results,
+                                                                      @NonNull IntFunction<V[]> generator,
+                                                                      @NonNull TakeFrom rule) {
+        V[] generated = generator.apply(results.size());
+        V[] array = generated.length < results.size() ? Arrays.copyOf(generated, results.size()) : generated;
+        return fill(results, array, rule).map(size -> size == array.length ? array : Arrays.copyOf(array, size));
     }
 
     /**
-     * Produces a new {@link Result} out of {@code this}
-     *  and {@link BaseResult any other result}.
-     * <p>The eventual {@link Result} will have {@code OK}
-     *  state iff. both instances are {@code OK}; {@code ERR}
-     *  state is assumed otherwise, with the error taken from
-     *  the only {@code ERR} from the pair or from {@code this}
-     *  instance if both are {@code ERR}.
-     * <p>As source {@link BaseResult result} may or may not
-     *  contain an item (contrary to {@link Result#fuse(Result)
-     *  the other implementation}), the {@code OK} result is
-     *  always resolved using item belonging to {@code this} instance.
-     * <p>In order to be fuse-able, fused items must contain
-     *  the same error type.
-     * @param another fuse with
-     * @return a new {@link FlagResult}
-     * @throws IllegalArgumentException if no argument provided
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of an array of items, writing items into
+     *  the supplied array, following the contract of {@link
+     *  Collection#toArray(Object[])}: if the array is big enough,
+     *  it is returned, with the element following the last item set
+     *  to {@code null}; otherwise, a new array of the same runtime
+     *  type is allocated. {@code null} elements are skipped.
+     * <p>If an {@code ERR} result is returned, the supplied array may
+     *  have been partially overwritten.
+     * @param results collection of {@link Result results}
+     * @param array array to write items into
+     * @param rule fusing rule
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public Result<V, E> fuse(@NonNull BaseResult<E> another) {
-        return TakeFrom.HEAD.takeError(this, another)
-                .<Result<V, E>>map(Result::err)
-                .orElseGet(() -> Result.ok(this.item));
+    public static <V, E extends Exception> Result<V[], E> joinToArray(@NonNull Collection<Result<V, E>> results,
+                                                                      @NonNull V[] array,
+                                                                      @NonNull TakeFrom rule) {
+        if (array.length < results.size()) {
+            @SuppressWarnings("unchecked")
+            V[] allocated = (V[]) Array.newInstance(array.getClass().getComponentType(), results.size());
+            return joinToArray(results, size -> allocated, rule);
+        }
+
+        return fill(results, array, rule).map(size -> {
+            if (size < array.length) {
+                array[size] = null;
+            }
+            return array;
+        });
     }
 
     /**
-     * Produces a new {@link Result} out of {@code this}
-     *  and {@link BaseResult any other result}.
-     * <p>The eventual {@link Result} will have {@code OK}
-     *  state iff. both instances are {@code OK}; {@code ERR}
-     *  state is assumed otherwise, with the error taken from
-     *  the only {@code ERR} from the pair. If both instances
-     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
-     *  to point which of the {@code ERR} items passes the
-     *  error on.
-     * <p>As source {@link BaseResult result} may or may not
-     *  contain an item (contrary to {@link Result#fuse(Result)
-     *  the other implementation}), the {@code OK} result is
-     *  always resolved using item belonging to {@code this} instance.
-     * <p>In order to be fuse-able, fused items must contain
-     *  the same error type.
-     * @param another fuse with
-     * @param rule fusing rule
-     * @return a new {@link FlagResult}
-     * @throws IllegalArgumentException if either of the arguments not provided
+     * Joins a {@link List} of {@link Result} objects into
+     *  a {@link Result} of read-only {@link List} view of items,
+     *  taking the first error.
+     * @param results list of {@link Result results}
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see #joinView(List, TakeFrom)
      */
-    public Result<V, E> fuse(@NonNull BaseResult<E> another,
-                             @NonNull TakeFrom rule) {
-        return rule.takeError(this, another)
-                .<Result<V, E>>map(Result::err)
-                .orElseGet(() -> Result.ok(this.item));
+    public static <V, E extends Exception> Result<List<V>, E> joinView(@NonNull List<Result<V, E>> results) {
+        return joinView(results, TakeFrom.HEAD);
     }
 
     /**
-     * Inspects the {@code OK} state using the specified function,
-     *  if {@code this} instance is {@code OK}.
-     * @param consumer inspection function
-     * @return {@code this} instance
-     * @throws IllegalArgumentException if no argument provided
+     * Joins a {@link List} of {@link Result} objects into
+     *  a {@link Result} of read-only {@link List} view of items,
+     *  with the error taken as described by {@link TakeFrom}.
+     * <p>The list is validated in a single pass and no items are
+     *  copied: the view takes items out of the source results on
+     *  access, so the source list must not be modified afterwards.
+     *  The view supports fast random access if the source does.
+     * <p>Should the list contain {@code null} elements, they are
+     *  skipped, and the items are copied, same as with {@link
+     *  #join(Collection, TakeFrom)}.
+     * @param results list of {@link Result results}
+     * @param rule fusing rule
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
      */
-    public Result<V, E> peek(@NonNull Consumer<V> consumer) {
-        if (isOk()) {
-            consumer.accept(item);
+    public static <V, E extends Exception> Result<List<V>, E> joinView(@NonNull List<Result<V, E>> results,
+                                                                       @NonNull TakeFrom rule) {
+        Result<V, E> picked = null;
+        boolean sparse = false;
+        for (Result<V, E> result : results) {
+            if (result == null) {
+                sparse = true;
+            } else if (result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return retype(result);
+                }
+                picked = result;
+            }
         }
 
-        return this;
+        if (picked != null) {
+            return retype(picked);
+        } else if (sparse) {
+            return join(results, rule);
+        } else {
+            return Result.ok(ItemView.of(results));
+        }
     }
 
     /**
-     * Inspects the {@code OK} state using the specified function,
-     *  if {@code this} instance is {@code OK} and is of the specified type.
-     * @param predicate predicate
-     * @param consumer inspection function
-     * @return {@code this} instance
-     * @throws IllegalArgumentException if either of the arguments provided
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of {@link List} of items, accumulating all
+     *  errors into an {@link AggregateException}; the first error
+     *  is its cause, the other retained ones are attached as suppressed.
+     * @param results collection of {@link Result results}
+     * @param limit maximum number of errors to retain in full
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     *  or if the limit is negative
+     * @see #joinAll(Collection, int, int)
      */
-    public Result<V, E> peek(@NonNull Predicate<V> predicate,
-                             @NonNull Consumer<V> consumer) {
-        if (isOkAnd(predicate)) {
-            consumer.accept(item);
-        }
-
-        return this;
+    public static <V, E extends Exception> Result<List<V>, AggregateException> joinAll(@NonNull Collection<Result<V, E>> results,
+                                                                                       int limit) {
+        return joinAll(results, limit, limit);
     }
 
     /**
-     * Inspects the {@code ERR} state using the specified function,
-     *  if {@code this} instance is {@code ERR}.
-     * @param consumer inspection function
-     * @return {@code this} instance
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of {@link List} of items, accumulating all
+     *  errors into an {@link AggregateException}, instead of
+     *  taking a single one.
+     * <p>The first {@code limit} errors are retained in full, the
+     *  rest are only counted per exception class. The first error
+     *  becomes the cause of the aggregate, and up to {@code
+     *  suppressedLimit} of the retained errors that follow it are
+     *  attached to the aggregate as suppressed. Items are no longer collected once
+     *  an error is encountered. {@code null} elements are skipped.
+     * @param results collection of {@link Result results}
+     * @param limit maximum number of errors to retain in full
+     * @param suppressedLimit maximum number of errors to attach
+     *  as suppressed, besides the first one, which is the cause
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
      * @throws IllegalArgumentException if no argument provided
+     *  or if either of the limits is negative
      */
-    public Result<V, E> peekErr(@NonNull Consumer<E> consumer) {
-        if (isErr()) {
-            consumer.accept(error);
+    public static <V, E extends Exception> Result<List<V>, AggregateException> joinAll(@NonNull Collection<Result<V, E>> results,
+                                                                                       int limit,
+                                                                                       int suppressedLimit) {
+        AggregateException.Builder errors = new AggregateException.Builder(limit, suppressedLimit);
+        List<V> items = new ArrayList<>(results.size());
+        for (Result<V, E> result : results) {
+            if (result == null) {
+                continue;
+            }
+
+            if (result.isErr()) {
+                errors.add(result.getErr());
+            } else if (errors.isEmpty()) {
+                items.add(result.get());
+            }
         }
 
-        return this;
+        if (errors.isEmpty()) {
+            return Result.ok(Collections.unmodifiableList(items));
+        } else {
+            return Result.err(errors.build());
+        }
     }
 
     /**
-     * Inspects the {@code ERR} state using the specified function,
-     *  if {@code this} instance is {@code ERR} and is of the specified type.
-     * @param type expected type
-     * @param consumer inspection function
-     * @return {@code this} instance
-     * @throws IllegalArgumentException if either of the arguments provided
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of {@link List} of items in parallel, using
+     *  the {@link ForkJoinPool#commonPool() common pool}.
+     * @param results collection of {@link Result results}
+     * @param rule fusing rule
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #joinParallel(Collection, TakeFrom, ForkJoinPool)
      */
-    public Result<V, E> peekErr(@NonNull Class<? extends Exception> type,
-                                @NonNull Consumer<E> consumer) {
-        if (isErrAnd(type)) {
-            consumer.accept(error);
-        }
-
-        return this;
+    public static <V, E extends Exception> Result<List<V>, E> joinParallel(@NonNull Collection<Result<V, E>> results,
+                                                                           @NonNull TakeFrom rule) {
+        return joinParallel(results, rule, ForkJoinPool.commonPool());
     }
 
     /**
-     * Inspects the {@code ERR} state using the specified function,
-     *  if {@code this} instance is {@code ERR} and the provided
-     *  predicate holds.
-     * @param predicate predicate
-     * @param consumer inspection function
-     * @return {@code this} instance
-     * @throws IllegalArgumentException if either of the arguments provided
+     * Joins a {@link Collection} of {@link Result} objects into
+     *  a {@link Result} of {@link List} of items in parallel.
+     * <p>Produces the same result as {@link Result#join(Collection,
+     *  TakeFrom)}: the input is split into chunks which are scanned
+     *  in the specified pool. With {@link TakeFrom#HEAD}, an error
+     *  found in a chunk cancels scanning of all chunks to its right;
+     *  with {@link TakeFrom#TAIL}, of all chunks to its left; with
+     *  {@link TakeFrom#ANY}, the first error found stops all chunks.
+     * <p>Small collections are joined sequentially.
+     * @param results collection of {@link Result results}
+     * @param rule fusing rule
+     * @param pool pool to scan the chunks in
+     * @return results joined into a {@link Result}
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public Result<V, E> peekErr(@NonNull Predicate<E> predicate,
-                                @NonNull Consumer<E> consumer) {
-        if (isErrAnd(predicate)) {
-            consumer.accept(error);
+    public static <V, E extends Exception> Result<List<V>, E> joinParallel(@NonNull Collection<Result<V, E>> results,
+                                                                           @NonNull TakeFrom rule,
+                                                                           @NonNull ForkJoinPool pool) {
+        if (results.size() < ParallelJoin.MIN_CHUNK) {
+            return join(results, rule);
         }
 
-        return this;
-    }
+        List<Result<V, E>> source = results instanceof RandomAccess && results instanceof List<Result<V, E>> list
+                ? list
+                : new ArrayList<>(results);
+        Object[] items = new Object[source.size()];
+        ParallelJoin join = new ParallelJoin(source, items, rule, pool);
+        int picked = join.picked();
+        if (picked >= 0) {
+            return retype(source.get(picked));
+        }
 
-    /**
-     * Converts {@code this} instance into a {@link FlagResult}
-     *  by dropping the {@code OK} item. Internal error state
-     *  is carried over as-is.
-     * @return new {@link FlagResult}
-     */
-    public FlagResult<E> drop() {
-        if (isErr()) {
-            return FlagResult.err(error);
-        } else {
-            return FlagResult.ok();
+        if (join.sparse()) {
+            int size = 0;
+            for (int i = 0; i < items.length; i++) {
+                if (source.get(i) != null) {
+                    items[size++] = items[i];
+                }
+            }
+            items = Arrays.copyOf(items, size);
         }
-    }
 
-    /**
-     * A shorthand for {@link Result#map(Function)}.
-     * @param item replacement
-     * @return new {@code OK} {@link Result} with new item
-     * @param <N> new item type
-     */
-    public <N> Result<N, E> swap(@NonNull N item) {
-        return map(dropped -> item);
+        @SuppressWarnings("unchecked")
+        List<V> cast = (List<V>) Collections.unmodifiableList(Arrays.asList(items));
+        return Result.ok(cast);
     }
 
     /**
-     * Applies a callback function to convert the item
-     *  if {@code this} instance is {@code OK};
-     *  returns a new {@code ERR} otherwise.
-     * <p>Very similar to {@link Optional#map(Function)}.
-     * @param remap callback
-     * @return mapped {@link Result}
-     * @param <N> new item type
-     * @throws IllegalArgumentException if no argument provided or
-     *  if the callback function returns {@code null}
+     * Splits a {@link Collection} of {@link Result} objects into
+     *  {@code OK} items and errors in a single pass.
+     * <p>Both items and errors keep the order of the collection;
+     *  every error keeps the index of its {@link Result} in the
+     *  collection. {@code null} elements are skipped, but counted
+     *  towards indices.
+     * @param results collection of {@link Result results}
+     * @return partitioned items and errors
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
      */
-    public <N> Result<N, E> map(@NonNull Function<V, N> remap) {
-        if (isErr()) {
-            return err(error);
-        } else {
-            return ok(remap.apply(item));
+    public static <V, E extends Exception> Partition<V, E> partition(@NonNull Collection<Result<V, E>> results) {
+        Partition.Builder<V, E> builder = new Partition.Builder<>(results.size());
+        for (Result<V, E> result : results) {
+            builder.add(result);
         }
+        return builder.build();
     }
 
     /**
-     * Applies a {@link Result}-returning callback function
-     *  to convert the item if {@code this} instance is {@code OK};
-     *  returns a new {@code ERR} otherwise.
-     * <p>Very similar to {@link Optional#flatMap(Function)}.
-     * @param remap callback
-     * @return mapped {@link Result}
-     * @param <N> new item type
-     * @throws IllegalArgumentException if no argument provided or
-     *  if the callback function returns {@code null}
+     * Takes an {@link Optional} out of an {@code OK} {@link Result}
+     *  and wraps the said {@link Result} into an {@link Optional}.
+     * <p>The wrapped {@link Result} retains the state of the input.
+     * <p>The wrapping {@link Optional} retains the state of the input.
+     * @param result {@link Result} bearing an {@link Optional} object to elevate
+     * @return {@link Result} wrapped in {@link Optional}
+     * @param <V> item type
+     * @param <E> error type
      */
-    public <N> Result<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap) {
-        if (isErr()) {
-            return err(error);
+    public static <V, E extends Exception> Optional<Result<V, E>> elevate(@NonNull Result<Optional<V>, E> result) {
+        if (result.isOk()) {
+            return result.get().map(Result::ok);
         } else {
-            return returnRemapped(remap.apply(item));
+            return Optional.of(retype(result));
         }
     }
 
     /**
-     * Same as {@link Result#flatMap(Function)} with the only
-     *  difference is that the remapping function accepts any
-     *  {@link BaseResult} and returns a {@link FlagResult result}
-     *  without value.
-     * @param remap function
-     * @return mapped {@link FlagResult}
-     * @throws IllegalArgumentException if no argument provided or
-     *  if the callback function returns {@code null}
+     * Fuses 3 results into a flat {@link Fuse3}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse3}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public FlagResult<E> flatMapAndDrop(@NonNull Function<V, BaseResult<E>> remap) {
-        if (isErr()) {
-            return FlagResult.err(error);
+    public static <V1, V2, V3, E extends Exception> Result<Fuse3<V1, V2, V3>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                      @NonNull Result<V2, E> r2,
+                                                                                      @NonNull Result<V3, E> r3,
+                                                                                      @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        if (picked == null) {
+            return Result.ok(new Fuse3<>(r1.get(), r2.get(), r3.get()));
         } else {
-            return FlagResult.from(remap.apply(item));
+            return errOf(picked);
         }
     }
 
     /**
-     * Erases the {@code ERR} type information of
-     *  {@code this} result.
-     * @return result with broadened
+     * Fuses 4 results into a flat {@link Fuse4}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param r4 fourth result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse4}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    @Override
-    public Result<V, Exception> upcast() {
-        return isOk() ? Result.ok(item) : Result.err(error);
+    public static <V1, V2, V3, V4, E extends Exception> Result<Fuse4<V1, V2, V3, V4>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                              @NonNull Result<V2, E> r2,
+                                                                                              @NonNull Result<V3, E> r3,
+                                                                                              @NonNull Result<V4, E> r4,
+                                                                                              @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        picked = rule.pick(picked, r4);
+        if (picked == null) {
+            return Result.ok(new Fuse4<>(r1.get(), r2.get(), r3.get(), r4.get()));
+        } else {
+            return errOf(picked);
+        }
     }
 
     /**
-     * {@inheritDoc}
-     * @param remap callback
-     * @return mapped {@link Result}
-     * @param <N> new error type
-     * @throws IllegalArgumentException if no argument provided or
-     *  if the callback function returns {@code null}
+     * Fuses 5 results into a flat {@link Fuse5}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param r4 fourth result
+     * @param r5 fifth result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse5}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    @Override
-    public <N extends Exception> Result<V, N> mapErr(@NonNull Function<E, N> remap) {
-        if (isErr()) {
-            return err(remap.apply(error));
+    public static <V1, V2, V3, V4, V5, E extends Exception> Result<Fuse5<V1, V2, V3, V4, V5>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                                      @NonNull Result<V2, E> r2,
+                                                                                                      @NonNull Result<V3, E> r3,
+                                                                                                      @NonNull Result<V4, E> r4,
+                                                                                                      @NonNull Result<V5, E> r5,
+                                                                                                      @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        picked = rule.pick(picked, r4);
+        picked = rule.pick(picked, r5);
+        if (picked == null) {
+            return Result.ok(new Fuse5<>(r1.get(), r2.get(), r3.get(), r4.get(), r5.get()));
         } else {
-            return ok(item);
+            return errOf(picked);
         }
     }
 
     /**
-     * Converts an {@code OK} result into {@code ERR}
-     *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
-     * <p>Note: the resulting type parameter is up-cast
-     *  to the most generic type supported: {@link Exception}.
-     * @param factory exception factory
-     * @return converted instance
-     * @throws IllegalArgumentException if no argument provided or if
-     *  the factory function returns {@code null}
+     * Fuses 6 results into a flat {@link Fuse6}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param r4 fourth result
+     * @param r5 fifth result
+     * @param r6 sixth result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse6}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    @Override
-    public Result<V, Exception> taint(@NonNull Supplier<? extends Exception> factory) {
-        if (isOk()) {
-            return err(factory.get());
+    public static <V1, V2, V3, V4, V5, V6, E extends Exception> Result<Fuse6<V1, V2, V3, V4, V5, V6>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                                              @NonNull Result<V2, E> r2,
+                                                                                                              @NonNull Result<V3, E> r3,
+                                                                                                              @NonNull Result<V4, E> r4,
+                                                                                                              @NonNull Result<V5, E> r5,
+                                                                                                              @NonNull Result<V6, E> r6,
+                                                                                                              @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        picked = rule.pick(picked, r4);
+        picked = rule.pick(picked, r5);
+        picked = rule.pick(picked, r6);
+        if (picked == null) {
+            return Result.ok(new Fuse6<>(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get()));
         } else {
-            return err(error);
+            return errOf(picked);
         }
     }
 
     /**
-     * Converts an {@code OK} result into {@code ERR}
-     *  using the specified factory if {@code this}
-     *  instance is {@code OK}. Recreates {@code this}
-     *  with its internal error state otherwise.
-     * @param factory exception factory
-     * @return converted result
+     * Fuses 7 results into a flat {@link Fuse7}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param r4 fourth result
+     * @param r5 fifth result
+     * @param r6 sixth result
+     * @param r7 seventh result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse7}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @param <V7> seventh item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    @Override
-    public Result<V, E> fork(@NonNull Supplier<E> factory) {
-        if (isOk()) {
-            return err(factory.get());
+    public static <V1, V2, V3, V4, V5, V6, V7, E extends Exception> Result<Fuse7<V1, V2, V3, V4, V5, V6, V7>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                                                      @NonNull Result<V2, E> r2,
+                                                                                                                      @NonNull Result<V3, E> r3,
+                                                                                                                      @NonNull Result<V4, E> r4,
+                                                                                                                      @NonNull Result<V5, E> r5,
+                                                                                                                      @NonNull Result<V6, E> r6,
+                                                                                                                      @NonNull Result<V7, E> r7,
+                                                                                                                      @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        picked = rule.pick(picked, r4);
+        picked = rule.pick(picked, r5);
+        picked = rule.pick(picked, r6);
+        picked = rule.pick(picked, r7);
+        if (picked == null) {
+            return Result.ok(new Fuse7<>(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get()));
         } else {
-            return err(error);
+            return errOf(picked);
         }
     }
 
     /**
-     * Converts an {@code OK} result into {@code ERR}
-     *  using the specified factory if {@code this}
-     *  instance is {@code OK} and if the provided
-     *  {@link Predicate} invoked on the item holds.
-     * <p>If the predicate does not hold, returns the
-     *  recreated {@code OK} item.
-     * <p>If {@code this} is {@code ERR}, recreates itself
-     *  with the internal error state.
-     * <p>Note: the resulting type parameter is up-cast
-     *  to the most generic type supported: {@link Exception}.
-     * @param condition conversion predicate
-     * @param factory exception factory
-     * @return converted instance
-     * @throws IllegalArgumentException if either of the arguments not
-     *  provided or if the factory function returns {@code null}
+     * Fuses 8 results into a flat {@link Fuse8}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. all instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} or, if there are several, from the
+     *  first, the last or any of them according to the {@link TakeFrom
+     *  rule}. The {@code ERR} instance is returned as-is.
+     * <p>All inputs are checked in a single pass and no
+     *  intermediate results are allocated.
+     * @param r1 first result
+     * @param r2 second result
+     * @param r3 third result
+     * @param r4 fourth result
+     * @param r5 fifth result
+     * @param r6 sixth result
+     * @param r7 seventh result
+     * @param r8 eighth result
+     * @param rule fusing rule
+     * @return a new {@link Result} containing {@link Fuse8}
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @param <V7> seventh item type
+     * @param <V8> eighth item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
      */
-    public Result<V, Exception> taint(@NonNull Predicate<V> condition,
-                                      @NonNull Function<V, ? extends Exception> factory) {
-        if (isOk()) {
-            if (condition.test(item)) {
-                return err(factory.apply(item));
-            } else {
-                return ok(item);
-            }
+    public static <V1, V2, V3, V4, V5, V6, V7, V8, E extends Exception> Result<Fuse8<V1, V2, V3, V4, V5, V6, V7, V8>, E> fuse(@NonNull Result<V1, E> r1,
+                                                                                                                              @NonNull Result<V2, E> r2,
+                                                                                                                              @NonNull Result<V3, E> r3,
+                                                                                                                              @NonNull Result<V4, E> r4,
+                                                                                                                              @NonNull Result<V5, E> r5,
+                                                                                                                              @NonNull Result<V6, E> r6,
+                                                                                                                              @NonNull Result<V7, E> r7,
+                                                                                                                              @NonNull Result<V8, E> r8,
+                                                                                                                              @NonNull TakeFrom rule) {
+        BaseResult<E> picked = null;
+        picked = rule.pick(picked, r1);
+        picked = rule.pick(picked, r2);
+        picked = rule.pick(picked, r3);
+        picked = rule.pick(picked, r4);
+        picked = rule.pick(picked, r5);
+        picked = rule.pick(picked, r6);
+        picked = rule.pick(picked, r7);
+        picked = rule.pick(picked, r8);
+        if (picked == null) {
+            return Result.ok(new Fuse8<>(r1.get(), r2.get(), r3.get(), r4.get(), r5.get(), r6.get(), r7.get(), r8.get()));
         } else {
-            return err(error);
+            return errOf(picked);
         }
     }
 
     /**
-     * Converts an {@code OK} result into {@code ERR}
-     *  using the specified factory if {@code this}
-     *  instance is {@code OK} and if the provided
-     *  {@link Predicate} invoked on the item holds.
-     * <p>If the predicate does not hold, returns the
-     *  recreated {@code OK} item.
-     * <p>If {@code this} is {@code ERR}, recreates itself
-     *  with the internal error state.
-     * @param condition conversion predicate
-     * @param factory exception factory
-     * @return converted instance
-     * @throws IllegalArgumentException if either of the arguments not
-     *  provided or if the factory function returns {@code null}
+     * Checks if {@code this} instance is {@code OK}
+     *  and the specified predicate holds.
+     * @param predicate predicate
+     * @return {@code true} if {@code this} is an {@code OK}
+     *  result and the predicate holds
+     * @throws IllegalArgumentException if no argument provided
      */
-    public Result<V, E> fork(@NonNull Predicate<V> condition,
-                             @NonNull Function<V, E> factory) {
-        if (isOk()) {
-            if (condition.test(item)) {
-                return err(factory.apply(item));
-            } else {
-                return ok(item);
-            }
-        } else {
-            return err(error);
-        }
-    }
+    public abstract boolean isOkAnd(@NonNull Predicate<V> predicate);
 
     /**
-     * Converts an {@code ERR} result into {@code OK}
-     *  using the specified factory faction. If {@code this}
-     *  result is already an {@code OK} result, the internal
-     *  {@code OK} object is returned.
-     * <p>Equivalent to {@link Result#unwrapOr(Supplier)},
-     *  except that this method returns a result.
-     * @param factory {@code OK} object factory
-     * @return new {@code OK} result with recovery object
-     * @throws IllegalArgumentException if either of the arguments not
-     *  provided or if the factory function returns {@code null}
+     * Attempts to get {@code OK} state or throws
+     *  if {@code this} instance is {@code ERR}.
+     * @return {@code OK} item
+     * @throws IllegalStateException if {@code this}
+     *  instance is {@code ERR}
      */
-    public Result<V, E> recover(@NonNull Function<E, V> factory) {
-        if (isOk()) {
-            return Result.ok(item);
-        } else {
-            return Result.ok(factory.apply(error));
-        }
-    }
+    public abstract V get();
 
     /**
-     * Conditionally converts an {@code ERR} result into {@code OK}
-     *  using the specified factory faction if the supplied predicate
-     *  holds. If {@code this} result is already an {@code OK} result,
-     *  the internal {@code OK} object is returned.
-     * <p>If the predicate does not hold, returns the recreated {@code OK} item.
-     * @param condition checked predicate
-     * @param factory {@code OK} object factory
-     * @return new {@code OK} result with recovery object
-     * @throws IllegalArgumentException if either of the arguments not
-     *  provided or if the factory function returns {@code null}
+     * Produces a new {@link Result} out of {@code this}
+     *  and another {@link Result} by combining their
+     *  items into a {@link Fuse}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} from the pair or from {@code this}
+     *  instance if both are {@code ERR}.
+     * <p>In order to be fuse-able, fused items must contain
+     *  the same error type.
+     * @param another fuse with
+     * @param <N> fused item type
+     * @return a new {@link Result} containing {@link Fuse}
+     * @throws IllegalArgumentException if no argument provided
      */
-    public Result<V, E> recover(@NonNull Predicate<E> condition,
-                                @NonNull Function<E, V> factory) {
-        if (isOk()) {
-            return Result.ok(item);
-        } else {
-            return condition.test(error)
-                    ? Result.ok(factory.apply(error))
-                    : Result.err(error);
-        }
+    public <N> Result<Fuse<V, N>, E> fuse(@NonNull Result<N, E> another) {
+        return fuse(another, TakeFrom.HEAD);
     }
 
     /**
-     * Conditionally converts an {@code ERR} result into {@code OK}
-     *  using the specified factory faction if the {@code ERR} is
-     *  {@code instanceof} the specified type. If {@code this} result
-     *  is already an {@code OK} result, the internal {@code OK} object
-     *  is returned.
-     * <p>If the predicate does not hold, returns the recreated {@code OK} item.
-     * @param ifType checked type
-     * @param factory {@code OK} object factory
-     * @return new {@code OK} result with recovery object
-     * @throws IllegalArgumentException if either of the arguments not
-     *  provided or if the factory function returns {@code null}
+     * Produces a new {@link Result} out of {@code this}
+     *  and another {@link Result} by combining their
+     *  items into a {@link Fuse}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise with the error taken from
+     *  the only {@code ERR} from the pair. If both instances
+     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
+     *  to point which of the {@code ERR} items passes the
+     *  error on.
+     * <p>In order to be fuse-able, fused items must contain
+     *  the same error type.
+     * @param another fuse with
+     * @param rule fusing rule
+     * @param <N> fused item type
+     * @return a new {@link Result} containing {@link Fuse}
+     * @throws IllegalArgumentException if either of the arguments not provided
      */
-    public Result<V, E> recover(@NonNull Class<? extends E> ifType,
-                                @NonNull Function<E, V> factory) {
-        if (isOk()) {
-            return Result.ok(item);
+    public <N> Result<Fuse<V, N>, E> fuse(@NonNull Result<N, E> another,
+                                          @NonNull TakeFrom rule) {
+        BaseResult<E> picked = rule.takeErrored(this, another);
+        if (picked == null) {
+            return Result.ok(new Fuse<>(this.get(), another.get()));
+        } else if (picked == this) {
+            return retype(this);
         } else {
-            if (ifType.isAssignableFrom(error.getClass())) {
-                return Result.ok(factory.apply(error));
-            } else {
-                return Result.err(error);
-            }
+            return retype(another);
         }
     }
 
     /**
-     * Performs the specified callback if {@code this}
-     *  instance is {@code OK} or does nothing otherwise.
-     * @param action callback
-     * @throws IllegalArgumentException if the argument is null
+     * Produces a new {@link Result} out of {@code this}
+     *  and {@link BaseResult any other result}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} from the pair or from {@code this}
+     *  instance if both are {@code ERR}.
+     * <p>As source {@link BaseResult result} may or may not
+     *  contain an item (contrary to {@link Result#fuse(Result)
+     *  the other implementation}), the {@code OK} result is
+     *  always resolved using item belonging to {@code this} instance.
+     * <p>In order to be fuse-able, fused items must contain
+     *  the same error type.
+     * @param another fuse with
+     * @return a new {@link FlagResult}
+     * @throws IllegalArgumentException if no argument provided
      */
-    public void ifOk(@NonNull Consumer<V> action) {
-        if (isOk()) {
-            action.accept(item);
-        }
+    public Result<V, E> fuse(@NonNull BaseResult<E> another) {
+        return fuse(another, TakeFrom.HEAD);
     }
 
     /**
-     * A safe take on {@link Result#get()}: if {@code this}
-     *  is {@code ERR}, returns a provided fallback value.
-     * <p>Similar to {@link Optional#orElse(Object)}.
-     * @param another fallback
-     * @return item or fallback
-     * @throws IllegalArgumentException if no argument provided
+     * Produces a new {@link Result} out of {@code this}
+     *  and {@link BaseResult any other result}.
+     * <p>The eventual {@link Result} will have {@code OK}
+     *  state iff. both instances are {@code OK}; {@code ERR}
+     *  state is assumed otherwise, with the error taken from
+     *  the only {@code ERR} from the pair. If both instances
+     *  are {@code ERR}, the {@link TakeFrom rule arg} allows
+     *  to point which of the {@code ERR} items passes the
+     *  error on.
+     * <p>As source {@link BaseResult result} may or may not
+     *  contain an item (contrary to {@link Result#fuse(Result)
+     *  the other implementation}), the {@code OK} result is
+     *  always resolved using item belonging to {@code this} instance.
+     * <p>In order to be fuse-able, fused items must contain
+     *  the same error type.
+     * @param another fuse with
+     * @param rule fusing rule
+     * @return a new {@link FlagResult}
+     * @throws IllegalArgumentException if either of the arguments not provided
      */
-    public V unwrapOr(@NonNull V another) {
-        if (isOk()) {
-            return item;
+    public Result<V, E> fuse(@NonNull BaseResult<E> another,
+                             @NonNull TakeFrom rule) {
+        BaseResult<E> picked = rule.takeErrored(this, another);
+        if (picked == null || picked == this) {
+            return this;
         } else {
-            return another;
+            return errOf(picked);
         }
     }
 
     /**
-     * A safe take on {@link Result#get()}: if {@code this}
-     *  is {@code ERR}, returns a provided fallback value.
-     * <p>Similar to {@link Optional#orElseGet(Supplier)}.
-     * @param factory fallback factory
-     * @return item or fallback
+     * Inspects the {@code OK} state using the specified function,
+     *  if {@code this} instance is {@code OK}.
+     * @param consumer inspection function
+     * @return {@code this} instance
      * @throws IllegalArgumentException if no argument provided
-     *  or if the provided factory returns {@code null}
      */
-    public V unwrapOr(@NonNull Supplier<V> factory) {
-        if (isOk()) {
-            return item;
-        } else {
-            return returnSupplied(factory.get());
-        }
-    }
+    public abstract Result<V, E> peek(@NonNull Consumer<V> consumer);
 
     /**
-     * Returns {@code OK} item if {@code this} instance
-     *  is an {@code OK} result. Wraps the internal {@code ERR}
-     *  state into a {@link Failure wrapping exception} and
-     *  throws otherwise.
-     * @return item
-     * @throws Failure result wrapping exception
+     * Inspects the {@code OK} state using the specified function,
+     *  if {@code this} instance is {@code OK} and is of the specified type.
+     * @param predicate predicate
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if either of the arguments provided
      */
-    public V unwrap() {
-        if (isOk()) {
-            return item;
-        } else {
-            throw new Failure(error);
-        }
-    }
+    public abstract Result<V, E> peek(@NonNull Predicate<V> predicate,
+                             @NonNull Consumer<V> consumer);
 
     /**
-     * Returns {@code OK} item if {@code this} instance
-     *  is an {@code OK} result. Throws the internal {@code ERR}
-     *  state otherwise.
-     * @return item
-     * @throws E result exception
+     * Inspects the {@code ERR} state using the specified function,
+     *  if {@code this} instance is {@code ERR}.
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if no argument provided
      */
-    public V unwrapChecked() throws E {
-        if (isOk()) {
-            return item;
-        } else {
-            throw error;
-        }
-    }
+    public abstract Result<V, E> peekErr(@NonNull Consumer<E> consumer);
 
-    @Override
-    public String toString() {
-        return "Result[" + (isOk() ? "ok=" + item : "err=" + error) + ']';
-    }
+    /**
+     * Inspects the {@code ERR} state using the specified function,
+     *  if {@code this} instance is {@code ERR} and is of the specified type.
+     * @param type expected type
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if either of the arguments provided
+     */
+    public abstract Result<V, E> peekErr(@NonNull Class<? extends Exception> type,
+                                @NonNull Consumer<E> consumer);
 
     /**
-     * Checks if {@code this} equals {@code that}.
-     * @param that that
-     * @return comparison result
+     * Inspects the {@code ERR} state using the specified function,
+     *  if {@code this} instance is {@code ERR} and the provided
+     *  predicate holds.
+     * @param predicate predicate
+     * @param consumer inspection function
+     * @return {@code this} instance
+     * @throws IllegalArgumentException if either of the arguments provided
      */
-    @Override
-    public boolean equals(Object that) {
-        if (this == that) return true;
-        if (that == null || getClass() != that.getClass()) return false;
+    public abstract Result<V, E> peekErr(@NonNull Predicate<E> predicate,
+                                @NonNull Consumer<E> consumer);
 
-        Result<?, ?> result = (Result<?, ?>) that;
+    /**
+     * Converts {@code this} instance into a {@link FlagResult}
+     *  by dropping the {@code OK} item. Internal error state
+     *  is carried over as-is.
+     * @return new {@link FlagResult}
+     */
+    public abstract FlagResult<E> drop();
 
-        if (!Objects.equals(item, result.item)) return false;
-        return Objects.equals(error, result.error);
-    }
+    /**
+     * A shorthand for {@link Result#map(Function)}.
+     * @param item replacement
+     * @return new {@code OK} {@link Result} with new item
+     * @param <N> new item type
+     */
+    public abstract <N> Result<N, E> swap(@NonNull N item);
 
     /**
-     * Computes hashcode.
-     * @return computed hashcode
+     * Applies a callback function to convert the item
+     *  if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * <p>Very similar to {@link Optional#map(Function)}.
+     * @param remap callback
+     * @return mapped {@link Result}
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
      */
-    @Override
-    public int hashCode() {
-        if (isOk()) {
-            return 31 * item.hashCode();
-        } else {
-            return 31 * error.hashCode();
-        }
-    }
+    public abstract <N> Result<N, E> map(@NonNull Function<V, N> remap);
 
     /**
-     * A pair-like record.
-     * @param left left value
-     * @param right right value
-     * @param <L> left value type
-     * @param <R> right value type
+     * Applies a {@link Result}-returning callback function
+     *  to convert the item if {@code this} instance is {@code OK};
+     *  returns {@code this} {@code ERR} otherwise.
+     * <p>Very similar to {@link Optional#flatMap(Function)}.
+     * @param remap callback
+     * @return mapped {@link Result}
+     * @param <N> new item type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
      */
-    public record Fuse<L, R>(@NonNull L left,
-                             @NonNull R right) { }
+    public abstract <N> Result<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap);
+
+    /**
+     * Same as {@link Result#flatMap(Function)} with the only
+     *  difference is that the remapping function accepts any
+     *  {@link BaseResult} and returns a {@link FlagResult result}
+     *  without value.
+     * @param remap function
+     * @return mapped {@link FlagResult}
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    public abstract FlagResult<E> flatMapAndDrop(@NonNull Function<V, BaseResult<E>> remap);
+
+    /**
+     * Erases the {@code ERR} type information of
+     *  {@code this} result.
+     * @return result with broadened
+     */
+    @Override
+    public Result<V, Exception> upcast() {
+        @SuppressWarnings("unchecked")
+        Result<V, Exception> cast = (Result<V, Exception>) this;
+        return cast;
+    }
+
+    /**
+     * {@inheritDoc}
+     * @param remap callback
+     * @return mapped {@link Result}
+     * @param <N> new error type
+     * @throws IllegalArgumentException if no argument provided or
+     *  if the callback function returns {@code null}
+     */
+    @Override
+    public abstract <N extends Exception> Result<V, N> mapErr(@NonNull Function<E, N> remap);
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
+     * <p>Note: the resulting type parameter is up-cast
+     *  to the most generic type supported: {@link Exception}.
+     * @param factory exception factory
+     * @return converted instance
+     * @throws IllegalArgumentException if no argument provided or if
+     *  the factory function returns {@code null}
+     */
+    @Override
+    public abstract Result<V, Exception> taint(@NonNull Supplier<? extends Exception> factory);
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK}. Returns {@code this}
+     *  instance otherwise.
+     * @param factory exception factory
+     * @return converted result
+     */
+    @Override
+    public abstract Result<V, E> fork(@NonNull Supplier<E> factory);
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK} and if the provided
+     *  {@link Predicate} invoked on the item holds.
+     * <p>If the predicate does not hold, returns {@code
+     *  this} instance.
+     * <p>If {@code this} is {@code ERR}, returns itself.
+     * <p>Note: the resulting type parameter is up-cast
+     *  to the most generic type supported: {@link Exception}.
+     * @param condition conversion predicate
+     * @param factory exception factory
+     * @return converted instance
+     * @throws IllegalArgumentException if either of the arguments not
+     *  provided or if the factory function returns {@code null}
+     */
+    public abstract Result<V, Exception> taint(@NonNull Predicate<V> condition,
+                                      @NonNull Function<V, ? extends Exception> factory);
+
+    /**
+     * Converts an {@code OK} result into {@code ERR}
+     *  using the specified factory if {@code this}
+     *  instance is {@code OK} and if the provided
+     *  {@link Predicate} invoked on the item holds.
+     * <p>If the predicate does not hold, returns {@code
+     *  this} instance.
+     * <p>If {@code this} is {@code ERR}, returns itself.
+     * @param condition conversion predicate
+     * @param factory exception factory
+     * @return converted instance
+     * @throws IllegalArgumentException if either of the arguments not
+     *  provided or if the factory function returns {@code null}
+     */
+    public abstract Result<V, E> fork(@NonNull Predicate<V> condition,
+                             @NonNull Function<V, E> factory);
+
+    /**
+     * Converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction. If {@code this}
+     *  result is already an {@code OK} result, the internal
+     *  {@code OK} object is returned.
+     * <p>Equivalent to {@link Result#unwrapOr(Supplier)},
+     *  except that this method returns a result.
+     * @param factory {@code OK} object factory
+     * @return new {@code OK} result with recovery object
+     * @throws IllegalArgumentException if either of the arguments not
+     *  provided or if the factory function returns {@code null}
+     */
+    public abstract Result<V, E> recover(@NonNull Function<E, V> factory);
+
+    /**
+     * Conditionally converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction if the supplied predicate
+     *  holds. If {@code this} result is already an {@code OK} result,
+     *  the internal {@code OK} object is returned.
+     * <p>If the predicate does not hold, returns {@code this} instance.
+     * @param condition checked predicate
+     * @param factory {@code OK} object factory
+     * @return new {@code OK} result with recovery object
+     * @throws IllegalArgumentException if either of the arguments not
+     *  provided or if the factory function returns {@code null}
+     */
+    public abstract Result<V, E> recover(@NonNull Predicate<E> condition,
+                                @NonNull Function<E, V> factory);
+
+    /**
+     * Conditionally converts an {@code ERR} result into {@code OK}
+     *  using the specified factory faction if the {@code ERR} is
+     *  {@code instanceof} the specified type. If {@code this} result
+     *  is already an {@code OK} result, the internal {@code OK} object
+     *  is returned.
+     * <p>If the predicate does not hold, returns {@code this} instance.
+     * @param ifType checked type
+     * @param factory {@code OK} object factory
+     * @return new {@code OK} result with recovery object
+     * @throws IllegalArgumentException if either of the arguments not
+     *  provided or if the factory function returns {@code null}
+     */
+    public abstract Result<V, E> recover(@NonNull Class<? extends E> ifType,
+                                @NonNull Function<E, V> factory);
+
+    /**
+     * Performs the specified callback if {@code this}
+     *  instance is {@code OK} or does nothing otherwise.
+     * @param action callback
+     * @throws IllegalArgumentException if the argument is null
+     */
+    public abstract void ifOk(@NonNull Consumer<V> action);
+
+    /**
+     * A safe take on {@link Result#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * <p>Similar to {@link Optional#orElse(Object)}.
+     * @param another fallback
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public abstract V unwrapOr(@NonNull V another);
+
+    /**
+     * A safe take on {@link Result#get()}: if {@code this}
+     *  is {@code ERR}, returns a provided fallback value.
+     * <p>Similar to {@link Optional#orElseGet(Supplier)}.
+     * @param factory fallback factory
+     * @return item or fallback
+     * @throws IllegalArgumentException if no argument provided
+     *  or if the provided factory returns {@code null}
+     */
+    public abstract V unwrapOr(@NonNull Supplier<V> factory);
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Wraps the internal {@code ERR}
+     *  state into a {@link Failure wrapping exception} and
+     *  throws otherwise.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public abstract V unwrap();
+
+    /**
+     * Same as {@link Result#unwrap()}, but throws a {@link
+     *  Failure#stackless(Throwable) stackless} {@link Failure}
+     *  regardless of the global setting.
+     * @return item
+     * @throws Failure result wrapping exception
+     */
+    public abstract V unwrapStackless();
+
+    /**
+     * Returns {@code OK} item if {@code this} instance
+     *  is an {@code OK} result. Throws the internal {@code ERR}
+     *  state otherwise.
+     * @return item
+     * @throws E result exception
+     */
+    public abstract V unwrapChecked() throws E;
+
+    @Override
+    public abstract String toString();
+
+    /**
+     * Checks if {@code this} equals {@code that}.
+     * @param that that
+     * @return comparison result
+     */
+    @Override
+    public abstract boolean equals(Object that);
+
+    /**
+     * Computes hashcode.
+     * @return computed hashcode
+     */
+    @Override
+    public abstract int hashCode();
+
+    /**
+     * A pair-like record.
+     * @param left left value
+     * @param right right value
+     * @param <L> left value type
+     * @param <R> right value type
+     */
+    public record Fuse<L, R>(@NonNull L left,
+                             @NonNull R right) { }
+
+    /**
+     * A flat 3-tuple record, produced by fusing 3 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     */
+    public record Fuse3<V1, V2, V3>(@NonNull V1 first,
+                                    @NonNull V2 second,
+                                    @NonNull V3 third) { }
+
+    /**
+     * A flat 4-tuple record, produced by fusing 4 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param fourth fourth value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     * @param <V4> fourth value type
+     */
+    public record Fuse4<V1, V2, V3, V4>(@NonNull V1 first,
+                                        @NonNull V2 second,
+                                        @NonNull V3 third,
+                                        @NonNull V4 fourth) { }
+
+    /**
+     * A flat 5-tuple record, produced by fusing 5 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param fourth fourth value
+     * @param fifth fifth value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     * @param <V4> fourth value type
+     * @param <V5> fifth value type
+     */
+    public record Fuse5<V1, V2, V3, V4, V5>(@NonNull V1 first,
+                                            @NonNull V2 second,
+                                            @NonNull V3 third,
+                                            @NonNull V4 fourth,
+                                            @NonNull V5 fifth) { }
+
+    /**
+     * A flat 6-tuple record, produced by fusing 6 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param fourth fourth value
+     * @param fifth fifth value
+     * @param sixth sixth value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     * @param <V4> fourth value type
+     * @param <V5> fifth value type
+     * @param <V6> sixth value type
+     */
+    public record Fuse6<V1, V2, V3, V4, V5, V6>(@NonNull V1 first,
+                                                @NonNull V2 second,
+                                                @NonNull V3 third,
+                                                @NonNull V4 fourth,
+                                                @NonNull V5 fifth,
+                                                @NonNull V6 sixth) { }
+
+    /**
+     * A flat 7-tuple record, produced by fusing 7 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param fourth fourth value
+     * @param fifth fifth value
+     * @param sixth sixth value
+     * @param seventh seventh value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     * @param <V4> fourth value type
+     * @param <V5> fifth value type
+     * @param <V6> sixth value type
+     * @param <V7> seventh value type
+     */
+    public record Fuse7<V1, V2, V3, V4, V5, V6, V7>(@NonNull V1 first,
+                                                    @NonNull V2 second,
+                                                    @NonNull V3 third,
+                                                    @NonNull V4 fourth,
+                                                    @NonNull V5 fifth,
+                                                    @NonNull V6 sixth,
+                                                    @NonNull V7 seventh) { }
+
+    /**
+     * A flat 8-tuple record, produced by fusing 8 results.
+     * @param first first value
+     * @param second second value
+     * @param third third value
+     * @param fourth fourth value
+     * @param fifth fifth value
+     * @param sixth sixth value
+     * @param seventh seventh value
+     * @param eighth eighth value
+     * @param <V1> first value type
+     * @param <V2> second value type
+     * @param <V3> third value type
+     * @param <V4> fourth value type
+     * @param <V5> fifth value type
+     * @param <V6> sixth value type
+     * @param <V7> seventh value type
+     * @param <V8> eighth value type
+     */
+    public record Fuse8<V1, V2, V3, V4, V5, V6, V7, V8>(@NonNull V1 first,
+                                                        @NonNull V2 second,
+                                                        @NonNull V3 third,
+                                                        @NonNull V4 fourth,
+                                                        @NonNull V5 fifth,
+                                                        @NonNull V6 sixth,
+                                                        @NonNull V7 seventh,
+                                                        @NonNull V8 eighth) { }
+
+    /**
+     * A bounded set of shared {@code OK} results for commonly
+     *  returned items.
+     * <p>Lookups are identity-based: a shared instance is only
+     *  returned if it holds the very same object that is passed in,
+     *  so {@link Result#get()} keeps returning what the caller put in.
+     */
+    private static final class Interned {
+
+        private static final int LOW = -128;
+
+        private static final int HIGH = 127;
+
+        private static final Ok<?, ?> TRUE = new Ok<>(Boolean.TRUE);
+
+        private static final Ok<?, ?> FALSE = new Ok<>(Boolean.FALSE);
+
+        private static final Ok<?, ?>[] INTEGERS = new Ok<?, ?>[HIGH - LOW + 1];
+
+        private static final Object[] EMPTIES = {
+                List.of(),
+                Set.of(),
+                Map.of(),
+                Collections.emptyList(),
+                Collections.emptySet(),
+                Collections.emptyMap(),
+                Optional.empty()
+        };
+
+        private static final Ok<?, ?>[] EMPTY_RESULTS = new Ok<?, ?>[EMPTIES.length];
+
+        static {
+            for (int i = 0; i < INTEGERS.length; i++) {
+                INTEGERS[i] = new Ok<>(LOW + i);
+            }
+            for (int i = 0; i < EMPTIES.length; i++) {
+                EMPTY_RESULTS[i] = new Ok<>(EMPTIES[i]);
+            }
+        }
+
+        static Result<?, ?> lookup(Object item) {
+            if (item == Boolean.TRUE) {
+                return TRUE;
+            }
+
+            if (item == Boolean.FALSE) {
+                return FALSE;
+            }
+
+            if (item instanceof Integer number) {
+                int value = number;
+                if (value >= LOW && value <= HIGH) {
+                    Ok<?, ?> cached = INTEGERS[value - LOW];
+                    return cached.item == item ? cached : null;
+                }
+                return null;
+            }
+
+            for (int i = 0; i < EMPTIES.length; i++) {
+                if (EMPTIES[i] == item) {
+                    return EMPTY_RESULTS[i];
+                }
+            }
+            return null;
+        }
+
+        private Interned() { }
+    }
+
+    /**
+     * {@code OK} state of a {@link Result}: holds an item and no error.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static final class Ok<V, E extends Exception> extends Result<V, E> {
+
+        /**
+         * Internally stored {@code OK} value. Not null.
+         */
+        final V item;
+
+        @Override
+        public boolean isOk() {
+            return true;
+        }
+
+        @Override
+        public boolean isErr() {
+            return false;
+        }
+
+        @Override
+        public E getErr() {
+            throw BaseResult.notErr();
+        }
+
+        @Override
+        public boolean isOkAnd(@NonNull Predicate<V> predicate) {
+            return predicate.test(item);
+        }
+
+        @Override
+        public V get() {
+            return item;
+        }
+
+        @Override
+        public Result<V, E> peek(@NonNull Consumer<V> consumer) {
+            consumer.accept(item);
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peek(@NonNull Predicate<V> predicate,
+                                 @NonNull Consumer<V> consumer) {
+            if (predicate.test(item)) {
+                consumer.accept(item);
+            }
+
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Class<? extends Exception> type,
+                                    @NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Predicate<E> predicate,
+                                    @NonNull Consumer<E> consumer) {
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> drop() {
+            return FlagResult.ok();
+        }
+
+        @Override
+        public <N> Result<N, E> swap(@NonNull N item) {
+            return ok(item);
+        }
+
+        @Override
+        public <N> Result<N, E> map(@NonNull Function<V, N> remap) {
+            return ok(remap.apply(item));
+        }
+
+        @Override
+        public <N> Result<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap) {
+            return returnRemapped(remap.apply(item));
+        }
+
+        @Override
+        public FlagResult<E> flatMapAndDrop(@NonNull Function<V, BaseResult<E>> remap) {
+            return FlagResult.from(remap.apply(item));
+        }
+
+        @Override
+        public <N extends Exception> Result<V, N> mapErr(@NonNull Function<E, N> remap) {
+            @SuppressWarnings("unchecked")
+            Result<V, N> cast = (Result<V, N>) this;
+            return cast;
+        }
+
+        @Override
+        public Result<V, Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+            return err(factory.get());
+        }
+
+        @Override
+        public Result<V, E> fork(@NonNull Supplier<E> factory) {
+            return err(factory.get());
+        }
+
+        @Override
+        public Result<V, Exception> taint(@NonNull Predicate<V> condition,
+                                          @NonNull Function<V, ? extends Exception> factory) {
+            if (condition.test(item)) {
+                return err(factory.apply(item));
+            } else {
+                return upcast();
+            }
+        }
+
+        @Override
+        public Result<V, E> fork(@NonNull Predicate<V> condition,
+                                 @NonNull Function<V, E> factory) {
+            if (condition.test(item)) {
+                return err(factory.apply(item));
+            } else {
+                return this;
+            }
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Function<E, V> factory) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Predicate<E> condition,
+                                    @NonNull Function<E, V> factory) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Class<? extends E> ifType,
+                                    @NonNull Function<E, V> factory) {
+            return this;
+        }
+
+        @Override
+        public void ifOk(@NonNull Consumer<V> action) {
+            action.accept(item);
+        }
+
+        @Override
+        public V unwrapOr(@NonNull V another) {
+            return item;
+        }
+
+        @Override
+        public V unwrapOr(@NonNull Supplier<V> factory) {
+            return item;
+        }
+
+        @Override
+        public V unwrap() {
+            return item;
+        }
+
+        @Override
+        public V unwrapStackless() {
+            return item;
+        }
+
+        @Override
+        public V unwrapChecked() {
+            return item;
+        }
+
+        @Override
+        public String toString() {
+            return "Result[ok=" + item + ']';
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (that == null || getClass() != that.getClass()) return false;
+
+            Ok<?, ?> result = (Ok<?, ?>) that;
+
+            return item.equals(result.item);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * item.hashCode();
+        }
+
+        private Ok(V item) {
+            this.item = item;
+        }
+    }
+
+    /**
+     * {@code ERR} state of a {@link Result}: holds an error and no item.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static sealed class Err<V, E extends Exception> extends Result<V, E> permits DeferredErr {
+
+        /**
+         * Internally stored {@code ERR} value. Null if deferred.
+         */
+        final E error;
+
+        @Override
+        public boolean isOk() {
+            return false;
+        }
+
+        @Override
+        public boolean isErr() {
+            return true;
+        }
+
+        @Override
+        public E getErr() {
+            return error();
+        }
+
+        @Override
+        public boolean isOkAnd(@NonNull Predicate<V> predicate) {
+            return false;
+        }
+
+        @Override
+        public V get() {
+            throw BaseResult.notOk();
+        }
+
+        @Override
+        public Result<V, E> peek(@NonNull Consumer<V> consumer) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peek(@NonNull Predicate<V> predicate,
+                                 @NonNull Consumer<V> consumer) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Consumer<E> consumer) {
+            consumer.accept(error());
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Class<? extends Exception> type,
+                                    @NonNull Consumer<E> consumer) {
+            if (isErrOf(type)) {
+                consumer.accept(error());
+            }
+
+            return this;
+        }
+
+        @Override
+        public Result<V, E> peekErr(@NonNull Predicate<E> predicate,
+                                    @NonNull Consumer<E> consumer) {
+            if (predicate.test(error())) {
+                consumer.accept(error());
+            }
+
+            return this;
+        }
+
+        @Override
+        public FlagResult<E> drop() {
+            return FlagResult.errOf(this);
+        }
+
+        @Override
+        public <N> Result<N, E> swap(@NonNull N item) {
+            return retype(this);
+        }
+
+        @Override
+        public <N> Result<N, E> map(@NonNull Function<V, N> remap) {
+            return retype(this);
+        }
+
+        @Override
+        public <N> Result<N, E> flatMap(@NonNull Function<V, Result<N, E>> remap) {
+            return retype(this);
+        }
+
+        @Override
+        public FlagResult<E> flatMapAndDrop(@NonNull Function<V, BaseResult<E>> remap) {
+            return FlagResult.errOf(this);
+        }
+
+        @Override
+        public <N extends Exception> Result<V, N> mapErr(@NonNull Function<E, N> remap) {
+            return err(remap.apply(error()));
+        }
+
+        @Override
+        public Result<V, Exception> taint(@NonNull Supplier<? extends Exception> factory) {
+            return upcast();
+        }
+
+        @Override
+        public Result<V, E> fork(@NonNull Supplier<E> factory) {
+            return this;
+        }
+
+        @Override
+        public Result<V, Exception> taint(@NonNull Predicate<V> condition,
+                                          @NonNull Function<V, ? extends Exception> factory) {
+            return upcast();
+        }
+
+        @Override
+        public Result<V, E> fork(@NonNull Predicate<V> condition,
+                                 @NonNull Function<V, E> factory) {
+            return this;
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Function<E, V> factory) {
+            return ok(factory.apply(error()));
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Predicate<E> condition,
+                                    @NonNull Function<E, V> factory) {
+            return condition.test(error())
+                    ? ok(factory.apply(error()))
+                    : this;
+        }
+
+        @Override
+        public Result<V, E> recover(@NonNull Class<? extends E> ifType,
+                                    @NonNull Function<E, V> factory) {
+            if (isErrOf(ifType)) {
+                return ok(factory.apply(error()));
+            } else {
+                return this;
+            }
+        }
+
+        @Override
+        public void ifOk(@NonNull Consumer<V> action) {
+            // nothing to consume
+        }
+
+        @Override
+        public V unwrapOr(@NonNull V another) {
+            return another;
+        }
+
+        @Override
+        public V unwrapOr(@NonNull Supplier<V> factory) {
+            return returnSupplied(factory.get());
+        }
+
+        @Override
+        public V unwrap() {
+            throw Failure.of(error());
+        }
+
+        @Override
+        public V unwrapStackless() {
+            throw Failure.stackless(error());
+        }
+
+        @Override
+        public V unwrapChecked() throws E {
+            throw error();
+        }
+
+        @Override
+        public String toString() {
+            return "Result[err=" + error() + ']';
+        }
+
+        @Override
+        public boolean equals(Object that) {
+            if (this == that) return true;
+            if (!(that instanceof Err<?, ?> result)) return false;
+
+            return error().equals(result.error());
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * error().hashCode();
+        }
+
+        private Err(E error) {
+            this.error = error;
+        }
+
+        /**
+         * Returns the {@code ERR} value, building it if deferred.
+         * @return error
+         */
+        E error() {
+            return error;
+        }
+    }
+
+    /**
+     * Deferred {@code ERR} state of a {@link Result}: the error is
+     *  built on first access. Kept apart from {@link Err}, so that
+     *  eagerly created {@code ERR} results hold a single field.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static final class DeferredErr<V, E extends Exception> extends Err<V, E> {
+
+        /**
+         * Deferred {@code ERR} value.
+         */
+        final DeferredError<E> deferred;
+
+        private DeferredErr(DeferredError<E> deferred) {
+            super(null);
+            this.deferred = deferred;
+        }
+
+        @Override
+        E error() {
+            return deferred.get();
+        }
+
+        @Override
+        boolean isErrOf(Class<?> type) {
+            return deferred.isInstance(type);
+        }
+
+        @Override
+        DeferredError<E> deferredErr() {
+            return deferred;
+        }
+    }
 
     /**
      * Internal constructor.
-     * <p>Setting the arguments to {@code null} must
-     *  follow the class contract.
-     * @param item nullable ok value
-     * @param error nullable error value
+     * <p>Instances are created through the {@code OK}
+     *  and {@code ERR} implementations only.
+     */
+    Result() { }
+
+    /**
+     * Pulls and invokes functions until the first {@code ERR} result,
+     *  feeding {@code OK} items to the consumer.
+     * @param invocations operations to invoke
+     * @param consumer {@code OK} items consumer
+     * @return the first {@code ERR} result or {@code null}
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private static <V, E extends Exception> Result<V, E> chainInto(Iterator<Supplier<Result<V, E>>> invocations,
+                                                                   Consumer<V> consumer) {
+        while (invocations.hasNext()) {
+            Supplier<Result<V, E>> invocation = invocations.next();
+            if (invocation == null) {
+                continue;
+            }
+
+            Result<V, E> curr = invocation.get();
+            if (curr == null) {
+                continue;
+            }
+
+            if (curr.isOk()) {
+                consumer.accept(curr.get());
+            } else {
+                return curr;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Writes items of the results into the array, which is
+     *  big enough, until the error is picked.
+     * @param results collection of {@link Result results}
+     * @param array array to write items into
+     * @param rule fusing rule
+     * @return number of items written, or the picked error
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private static <V, E extends Exception> Result<Integer, E> fill(Collection<Result<V, E>> results,
+                                                                    V[] array,
+                                                                    TakeFrom rule) {
+        int size = 0;
+        Result<V, E> picked = null;
+        for (Result<V, E> result : results) {
+            if (result == null) {
+                continue;
+            }
+
+            if (result.isErr()) {
+                if (rule.shortCircuits()) {
+                    return retype(result);
+                }
+                picked = result;
+            } else if (picked == null) {
+                array[size++] = result.get();
+            }
+        }
+
+        return picked == null ? Result.ok(size) : retype(picked);
+    }
+
+    /**
+     * Reinterprets the item type of an {@code ERR} result.
+     * <p>Only safe for {@code ERR} results, which carry no item.
+     * @param result {@code ERR} result
+     * @return same instance
+     * @param <N> new item type
+     * @param <E> error type
      */
-    protected Result(V item, E error) {
-        super(error);
-        this.item = item;
+    @SuppressWarnings("unchecked")
+    private static <N, E extends Exception> Result<N, E> retype(Result<?, E> result) {
+        return (Result<N, E>) result;
     }
 
-    private <N> Result<N, E> returnRemapped(@NonNull Result<N, E> val) {
+    private static <N, E extends Exception> Result<N, E> returnRemapped(@NonNull Result<N, E> val) {
         return val;
     }
 
-    private V returnSupplied(@NonNull V val) {
+    private static <V> V returnSupplied(@NonNull V val) {
         return val;
     }
 
@@ -0,0 +1,291 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Mutable accumulator of {@link Result results}, received one at
+ *  a time, e.g. by an event handler. The outcome is the same as if
+ *  the results were {@link Result#join(java.util.Collection, TakeFrom)
+ *  joined} in the order they were added.
+ * <p>Every addition is {@code O(1)}. Once an error is seen, the
+ *  outcome can no longer be {@code OK}, so collected items are
+ *  released and further items are dropped. Under {@link TakeFrom#HEAD}
+ *  or {@link TakeFrom#ANY}, the outcome is then final and further
+ *  results are refused; under {@link TakeFrom#TAIL}, the outcome is
+ *  never final, as a later error replaces an earlier one.
+ * <p>{@link #create(TakeFrom) Plain} accumulators are not thread-safe;
+ *  {@link #concurrent(TakeFrom) concurrent} ones accept results from
+ *  several producers without locking, in which case the order of the
+ *  items and the picked error follow the order of additions as they
+ *  happen to interleave.
+ * @param <V> item type
+ * @param <E> error type
+ */
+public abstract sealed class ResultAccumulator<V, E extends Exception>
+        permits ResultAccumulator.Plain, ResultAccumulator.Concurrent {
+
+    /**
+     * Fusing rule.
+     */
+    final TakeFrom rule;
+
+    /**
+     * Creates a plain accumulator, which takes the first error.
+     * @return accumulator
+     * @param <V> item type
+     * @param <E> error type
+     */
+    public static <V, E extends Exception> ResultAccumulator<V, E> create() {
+        return create(TakeFrom.HEAD);
+    }
+
+    /**
+     * Creates a plain accumulator, which is not thread-safe.
+     * @param rule fusing rule
+     * @return accumulator
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> ResultAccumulator<V, E> create(@NonNull TakeFrom rule) {
+        return new Plain<>(rule);
+    }
+
+    /**
+     * Creates a thread-safe, lock-free accumulator.
+     * @param rule fusing rule
+     * @return accumulator
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> ResultAccumulator<V, E> concurrent(@NonNull TakeFrom rule) {
+        return new Concurrent<>(rule);
+    }
+
+    /**
+     * Adds the next result; {@code null} is ignored.
+     * @param result result
+     * @return {@code false} if the outcome is already final and
+     *  the result is refused; {@code true} otherwise
+     */
+    public abstract boolean add(Result<V, E> result);
+
+    /**
+     * Checks if the outcome is final, i.e. if further
+     *  results would be refused.
+     * @return {@code true} if the outcome is final
+     */
+    public abstract boolean isDecided();
+
+    /**
+     * Returns the number of accepted {@code OK} results.
+     * @return number of results
+     */
+    public abstract long okCount();
+
+    /**
+     * Returns the number of accepted {@code ERR} results.
+     * @return number of results
+     */
+    public abstract long errCount();
+
+    /**
+     * Emits the outcome accumulated so far.
+     * @return {@code OK} {@link Result} of unmodifiable {@link List}
+     *  of items if no errors were accepted; the picked {@code ERR}
+     *  result otherwise
+     */
+    public Result<List<V>, E> toResult() {
+        List<V> items = items();
+        Result<V, E> picked = picked();
+        return picked == null
+                ? Result.ok(Collections.unmodifiableList(items))
+                : Result.errOf(picked);
+    }
+
+    /**
+     * Emits the outcome accumulated so far, without items.
+     * @return {@code OK} {@link FlagResult} if no errors were
+     *  accepted; the picked {@code ERR} result otherwise
+     */
+    public FlagResult<E> toFlagResult() {
+        Result<V, E> picked = picked();
+        return picked == null ? FlagResult.ok() : FlagResult.errOf(picked);
+    }
+
+    @Override
+    public String toString() {
+        return "ResultAccumulator[ok=" + okCount() + ", err=" + errCount() + ']';
+    }
+
+    /**
+     * Returns the picked {@code ERR} result.
+     * @return result or {@code null}
+     */
+    abstract Result<V, E> picked();
+
+    /**
+     * Returns a copy of collected items. Items are released
+     *  only after an error is picked, so reading items before
+     *  the picked error yields a consistent snapshot.
+     * @return items, or {@code null} if released
+     */
+    abstract List<V> items();
+
+    private ResultAccumulator(TakeFrom rule) {
+        this.rule = rule;
+    }
+
+    /**
+     * Single-threaded accumulator.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static final class Plain<V, E extends Exception> extends ResultAccumulator<V, E> {
+
+        private List<V> items = new ArrayList<>();
+
+        private Result<V, E> picked;
+
+        private long ok;
+
+        private long err;
+
+        private Plain(TakeFrom rule) {
+            super(rule);
+        }
+
+        @Override
+        public boolean add(Result<V, E> result) {
+            if (isDecided()) {
+                return false;
+            }
+
+            if (result == null) {
+                return true;
+            }
+
+            if (result.isErr()) {
+                err++;
+                picked = result;
+                items = null;
+            } else {
+                ok++;
+                if (picked == null) {
+                    items.add(result.get());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isDecided() {
+            return picked != null && rule.shortCircuits();
+        }
+
+        @Override
+        public long okCount() {
+            return ok;
+        }
+
+        @Override
+        public long errCount() {
+            return err;
+        }
+
+        @Override
+        Result<V, E> picked() {
+            return picked;
+        }
+
+        @Override
+        List<V> items() {
+            return items == null ? null : new ArrayList<>(items);
+        }
+    }
+
+    /**
+     * Lock-free accumulator.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    static final class Concurrent<V, E extends Exception> extends ResultAccumulator<V, E> {
+
+        private final AtomicReference<Queue<V>> items = new AtomicReference<>(new ConcurrentLinkedQueue<>());
+
+        private final AtomicReference<Result<V, E>> picked = new AtomicReference<>();
+
+        private final LongAdder ok = new LongAdder();
+
+        private final LongAdder err = new LongAdder();
+
+        private Concurrent(TakeFrom rule) {
+            super(rule);
+        }
+
+        @Override
+        public boolean add(Result<V, E> result) {
+            if (isDecided()) {
+                return false;
+            }
+
+            if (result == null) {
+                return true;
+            }
+
+            if (result.isErr()) {
+                if (rule.shortCircuits()) {
+                    if (!picked.compareAndSet(null, result)) {
+                        return false;
+                    }
+                } else {
+                    picked.set(result);
+                }
+                items.set(null);
+                err.increment();
+            } else {
+                ok.increment();
+                Queue<V> queue = items.get();
+                if (queue != null) {
+                    queue.add(result.get());
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isDecided() {
+            return picked.get() != null && rule.shortCircuits();
+        }
+
+        @Override
+        public long okCount() {
+            return ok.sum();
+        }
+
+        @Override
+        public long errCount() {
+            return err.sum();
+        }
+
+        @Override
+        Result<V, E> picked() {
+            return picked.get();
+        }
+
+        @Override
+        List<V> items() {
+            Queue<V> queue = items.get();
+            return queue == null ? null : new ArrayList<>(queue);
+        }
+    }
+}
@@ -0,0 +1,487 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A concurrent cache of {@link Result results} of fallible lookups,
+ *  loaded with {@link Wrap.Supplier}s the same way as {@link
+ *  Result#wrap(Class, Wrap.Supplier)} does.
+ * <p>{@code OK} and {@code ERR} results are kept for separate
+ *  periods of time, so that errors can be cached briefly (negative
+ *  caching) or not at all. Concurrent lookups of a missing key share
+ *  a single load. {@code OK} results can be refreshed ahead of their
+ *  expiry: once older than the refresh period, they are still
+ *  returned, while a reload runs in the background; a failed reload
+ *  keeps the old result.
+ * <p>If a maximum size is set, the cache evicts in sweeps: once the
+ *  size exceeds the maximum, expired entries and then the least
+ *  recently used ones are removed, down to 90% of the maximum. A
+ *  lookup only records its access time, so reads do not contend.
+ * <p>Loaders that throw an exception of an unexpected type are not
+ *  cached: the exception propagates to all callers waiting for the load.
+ * @param <K> key type
+ * @param <V> item type
+ * @param <E> error type
+ */
+public final class ResultCache<K, V, E extends Exception> {
+
+    private static final long NEVER = Long.MAX_VALUE;
+
+    private final Class<E> errType;
+
+    private final long okTtl;
+
+    private final long errTtl;
+
+    private final long refreshAfter;
+
+    private final long maximumSize;
+
+    private final Executor executor;
+
+    private final LongSupplier ticker;
+
+    private final Map<K, Entry<V, E>> entries = new ConcurrentHashMap<>();
+
+    private final Map<K, CompletableFuture<Entry<V, E>>> loading = new ConcurrentHashMap<>();
+
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loadErrors = new LongAdder();
+
+    private final LongAdder refreshes = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a cache builder.
+     * @param errType expected error type of loaders
+     * @return builder
+     * @param <K> key type
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <K, V, E extends Exception> Builder<K, V, E> builder(@NonNull Class<E> errType) {
+        return new Builder<>(errType);
+    }
+
+    /**
+     * Returns the cached result for the key, loading it with the
+     *  loader if missing or expired. The loader runs in the calling
+     *  thread; concurrent callers of the same key wait for it.
+     * @param key key
+     * @param loader fallible loader
+     * @return cached or loaded result
+     * @throws IllegalArgumentException if either of the arguments not provided
+     *  or if the loader returns a {@code null} value
+     * @throws IllegalStateException if the loader throws an exception
+     *  of an unexpected type
+     */
+    public Result<V, E> get(@NonNull K key, @NonNull Wrap.Supplier<V> loader) {
+        long now = ticker.getAsLong();
+        Entry<V, E> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(now)) {
+            hits.increment();
+            entry.lastAccess = now;
+            if (entry.result.isOk() && now - entry.loadedAt >= refreshAfter) {
+                refresh(key, entry);
+            }
+            return entry.result;
+        }
+
+        misses.increment();
+        return load(key, loader).result;
+    }
+
+    /**
+     * Returns the cached result for the key, if present and not expired.
+     *  Never loads.
+     * @param key key
+     * @return cached result or empty
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public Optional<Result<V, E>> getIfPresent(@NonNull K key) {
+        long now = ticker.getAsLong();
+        Entry<V, E> entry = entries.get(key);
+        if (entry == null || entry.isExpired(now)) {
+            misses.increment();
+            return Optional.empty();
+        }
+
+        hits.increment();
+        entry.lastAccess = now;
+        return Optional.of(entry.result);
+    }
+
+    /**
+     * Removes the entry for the key.
+     * @param key key
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public void invalidate(@NonNull K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Returns the number of entries, including expired ones
+     *  that were not evicted yet.
+     * @return number of entries
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns a snapshot of the counters.
+     * @return counters
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loadErrors.sum(), refreshes.sum(), evictions.sum());
+    }
+
+    @Override
+    public String toString() {
+        return "ResultCache[size=" + entries.size() + ", " + stats() + ']';
+    }
+
+    private Entry<V, E> load(K key, Wrap.Supplier<V> loader) {
+        CompletableFuture<Entry<V, E>> pending = new CompletableFuture<>();
+        CompletableFuture<Entry<V, E>> existing = loading.putIfAbsent(key, pending);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw (RuntimeException) cause;
+            }
+        }
+
+        try {
+            long now = ticker.getAsLong();
+            Entry<V, E> entry = entries.get(key);
+            if (entry == null || entry.isExpired(now)) {
+                entry = store(key, new Entry<>(Result.wrap(errType, loader), loader, now));
+            }
+            pending.complete(entry);
+            return entry;
+        } catch (RuntimeException | Error ex) {
+            pending.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loading.remove(key, pending);
+        }
+    }
+
+    private void refresh(K key, Entry<V, E> entry) {
+        if (!entry.refreshing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> reload(key, entry));
+        } catch (RejectedExecutionException ex) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private void reload(K key, Entry<V, E> entry) {
+        try {
+            Result<V, E> result = Result.wrap(errType, entry.loader);
+            if (result.isOk()) {
+                refreshes.increment();
+                Entry<V, E> refreshed = new Entry<>(result, entry.loader, ticker.getAsLong());
+                refreshed.lastAccess = entry.lastAccess;
+                entries.replace(key, entry, refreshed);
+            } else {
+                loadErrors.increment();
+            }
+        } catch (RuntimeException ex) {
+            loadErrors.increment();
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private Entry<V, E> store(K key, Entry<V, E> entry) {
+        if (entry.result.isErr()) {
+            loadErrors.increment();
+        }
+
+        long ttl = entry.result.isOk() ? okTtl : errTtl;
+        if (ttl <= 0) {
+            entries.remove(key);
+            return entry;
+        }
+
+        entry.expiresAt = ttl >= NEVER - entry.loadedAt ? NEVER : entry.loadedAt + ttl;
+        entries.put(key, entry);
+        // entries stored during a sweep skip it, so re-check once it is over
+        while (entries.size() > maximumSize && evictionLock.tryLock()) {
+            try {
+                evict(entry.loadedAt);
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+        return entry;
+    }
+
+    private void evict(long now) {
+        List<Candidate<K, V, E>> live = new ArrayList<>(entries.size());
+        for (Map.Entry<K, Entry<V, E>> mapping : entries.entrySet()) {
+            Entry<V, E> entry = mapping.getValue();
+            if (entry.isExpired(now)) {
+                if (entries.remove(mapping.getKey(), entry)) {
+                    evictions.increment();
+                }
+            } else {
+                live.add(new Candidate<>(mapping.getKey(), entry, entry.lastAccess));
+            }
+        }
+
+        long target = maximumSize - maximumSize / 10;
+        if (live.size() <= maximumSize) {
+            return;
+        }
+
+        live.sort(Comparator.comparingLong(Candidate::lastAccess));
+        for (int i = 0; i < live.size() && entries.size() > target; i++) {
+            Candidate<K, V, E> candidate = live.get(i);
+            if (entries.remove(candidate.key(), candidate.entry())) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private ResultCache(Builder<K, V, E> builder) {
+        this.errType = builder.errType;
+        this.okTtl = builder.okTtl;
+        this.errTtl = builder.errTtl;
+        this.refreshAfter = builder.refreshAfter;
+        this.maximumSize = builder.maximumSize;
+        this.executor = builder.executor;
+        this.ticker = builder.ticker;
+    }
+
+    /**
+     * A cached result.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private static final class Entry<V, E extends Exception> {
+
+        private final Result<V, E> result;
+
+        private final Wrap.Supplier<V> loader;
+
+        private final long loadedAt;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private long expiresAt = NEVER;
+
+        private volatile long lastAccess;
+
+        private Entry(Result<V, E> result, Wrap.Supplier<V> loader, long loadedAt) {
+            this.result = result;
+            this.loader = loader;
+            this.loadedAt = loadedAt;
+            this.lastAccess = loadedAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAt >= 0 && expiresAt != NEVER;
+        }
+    }
+
+    /**
+     * An entry considered for eviction, with its access time
+     *  read once, so that concurrent lookups do not reorder
+     *  candidates while they are sorted.
+     * @param key key
+     * @param entry entry
+     * @param lastAccess access time at the start of the sweep
+     * @param <K> key type
+     * @param <V> item type
+     * @param <E> error type
+     */
+    private record Candidate<K, V, E extends Exception>(K key, Entry<V, E> entry, long lastAccess) { }
+
+    /**
+     * Snapshot of cache counters.
+     * @param hits number of lookups that found a live entry
+     * @param misses number of lookups that did not
+     * @param loadErrors number of loads and refreshes that
+     *  resolved to {@code ERR} or threw
+     * @param refreshes number of successful refreshes
+     * @param evictions number of entries evicted due to expiry
+     *  or size
+     */
+    public record Stats(long hits,
+                        long misses,
+                        long loadErrors,
+                        long refreshes,
+                        long evictions) {
+
+        /**
+         * Returns the ratio of hits to all lookups.
+         * @return hit rate, or {@code 1} if there were no lookups
+         */
+        public double hitRate() {
+            long total = hits + misses;
+            return total == 0 ? 1 : (double) hits / total;
+        }
+    }
+
+    /**
+     * {@link ResultCache} builder. By default, {@code OK} results
+     *  never expire, {@code ERR} results are not cached, nothing is
+     *  refreshed ahead and the size is not bounded.
+     * @param <K> key type
+     * @param <V> item type
+     * @param <E> error type
+     */
+    public static final class Builder<K, V, E extends Exception> {
+
+        private final Class<E> errType;
+
+        private long okTtl = NEVER;
+
+        private long errTtl;
+
+        private long refreshAfter = NEVER;
+
+        private long maximumSize = Long.MAX_VALUE;
+
+        private Executor executor = DefaultExecutor.get();
+
+        private LongSupplier ticker = System::nanoTime;
+
+        private Builder(Class<E> errType) {
+            this.errType = errType;
+        }
+
+        /**
+         * Sets how long {@code OK} results are kept.
+         * @param ttl time to live
+         * @return {@code this} builder
+         * @throws IllegalArgumentException if no argument provided
+         */
+        public Builder<K, V, E> okTtl(@NonNull Duration ttl) {
+            this.okTtl = nanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets how long {@code ERR} results are kept;
+         *  {@link Duration#ZERO} disables negative caching.
+         * @param ttl time to live
+         * @return {@code this} builder
+         * @throws IllegalArgumentException if no argument provided
+         */
+        public Builder<K, V, E> errTtl(@NonNull Duration ttl) {
+            this.errTtl = nanos(ttl);
+            return this;
+        }
+
+        /**
+         * Sets the age after which {@code OK} results are reloaded
+         *  in the background upon access.
+         * @param age age
+         * @return {@code this} builder
+         * @throws IllegalArgumentException if no argument provided
+         */
+        public Builder<K, V, E> refreshAfter(@NonNull Duration age) {
+            this.refreshAfter = nanos(age);
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of entries.
+         * @param size maximum size
+         * @return {@code this} builder
+         * @throws IllegalArgumentException if the size is not positive
+         */
+        public Builder<K, V, E> maximumSize(long size) {
+            if (size <= 0) {
+                throw new IllegalArgumentException("maximum size must be positive");
+            }
+            this.maximumSize = size;
+            return this;
+        }
+
+        /**
+         * Sets the executor to run refreshes in; the default
+         *  executor is used otherwise. A refresh rejected by the
+         *  executor is retried upon a later access.
+         * @param executor executor
+         * @return {@code this} builder
+         * @throws IllegalArgumentException if no argument provided
+         */
+        public Builder<K, V, E> executor(@NonNull Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        /**
+         * Sets the time source, in nanoseconds.
+         * @param ticker time source
+         * @return {@code this} builder
+         */
+        Builder<K, V, E> ticker(@NonNull LongSupplier ticker) {
+            this.ticker = ticker;
+            return this;
+        }
+
+        /**
+         * Builds the cache.
+         * @return cache
+         */
+        public ResultCache<K, V, E> build() {
+            return new ResultCache<>(this);
+        }
+
+        private static long nanos(Duration duration) {
+            if (duration.isNegative()) {
+                throw new IllegalArgumentException("duration must not be negative");
+            }
+
+            try {
+                return duration.toNanos();
+            } catch (ArithmeticException ex) {
+                return NEVER;
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * {@link Collector} factories that join or partition streams of
+ *  results the same way as {@link Result#join(java.util.Collection, TakeFrom)},
+ *  {@link FlagResult#join(java.util.Collection, TakeFrom)} and {@link
+ *  Result#partition(java.util.Collection)} do.
+ * <p>Collectors are safe to use with parallel streams: partial
+ *  results are combined in encounter order, so the picked error
+ *  is the same as with a sequential stream, unless the rule is
+ *  {@link TakeFrom#ANY}. Once the outcome of
+ *  a partition is decided, further elements are no longer
+ *  accumulated. {@code null} elements are ignored.
+ */
+public final class ResultCollectors {
+
+    /**
+     * Joins a stream of {@link Result results} into a {@link Result}
+     *  of {@link List} of items, taking the first error.
+     * @return collector
+     * @param <V> item type
+     * @param <E> error type
+     */
+    public static <V, E extends Exception> Collector<Result<V, E>, ?, Result<List<V>, E>> join() {
+        return join(TakeFrom.HEAD);
+    }
+
+    /**
+     * Joins a stream of {@link Result results} into a {@link Result}
+     *  of unmodifiable {@link List} of items. The error is taken as
+     *  described by {@link TakeFrom}.
+     * @param rule fusing rule
+     * @return collector
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <V, E extends Exception> Collector<Result<V, E>, ?, Result<List<V>, E>> join(@NonNull TakeFrom rule) {
+        return join(Collectors.toUnmodifiableList(), rule);
+    }
+
+    /**
+     * Joins a stream of {@link Result results} into a {@link Result}
+     *  of items reduced by the downstream {@link Collector}. The
+     *  error is taken as described by {@link TakeFrom}.
+     * @param downstream items collector
+     * @param rule fusing rule
+     * @return collector
+     * @param <V> item type
+     * @param <A> downstream accumulation type
+     * @param <R> downstream result type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public static <V, A, R, E extends Exception> Collector<Result<V, E>, ?, Result<R, E>> join(@NonNull Collector<? super V, A, R> downstream,
+                                                                                              @NonNull TakeFrom rule) {
+        Supplier<A> supplier = downstream.supplier();
+        BiConsumer<A, ? super V> accumulator = downstream.accumulator();
+        BinaryOperator<A> combiner = downstream.combiner();
+        Function<A, R> finisher = downstream.finisher();
+        return Collector.<Result<V, E>, Accumulation<A, E>, Result<R, E>>of(
+                () -> new Accumulation<>(supplier.get()),
+                (acc, result) -> {
+                    if (result != null && acc.accept(result, rule)) {
+                        accumulator.accept(acc.items, result.get());
+                    }
+                },
+                (left, right) -> left.combine(right, rule, combiner),
+                acc -> acc.picked == null
+                        ? Result.ok(finisher.apply(acc.items))
+                        : Result.errOf(acc.picked)
+        );
+    }
+
+    /**
+     * Folds a stream of {@link BaseResult any results} into
+     *  a {@link FlagResult}, taking the first error.
+     * @return collector
+     * @param <E> error type
+     */
+    public static <E extends Exception> Collector<BaseResult<E>, ?, FlagResult<E>> fold() {
+        return fold(TakeFrom.HEAD);
+    }
+
+    /**
+     * Folds a stream of {@link BaseResult any results} into
+     *  a {@link FlagResult}. The error is taken as described
+     *  by {@link TakeFrom}.
+     * @param rule fusing rule
+     * @return collector
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <E extends Exception> Collector<BaseResult<E>, ?, FlagResult<E>> fold(@NonNull TakeFrom rule) {
+        return Collector.<BaseResult<E>, Accumulation<Void, E>, FlagResult<E>>of(
+                () -> new Accumulation<>(null),
+                (acc, result) -> {
+                    if (result != null) {
+                        acc.accept(result, rule);
+                    }
+                },
+                (left, right) -> left.combine(right, rule, (l, r) -> null),
+                acc -> acc.picked == null
+                        ? FlagResult.ok()
+                        : FlagResult.errOf(acc.picked)
+        );
+    }
+
+    /**
+     * Splits a stream of {@link Result results} into {@code OK}
+     *  items and errors, same as {@link Result#partition(java.util.Collection)}.
+     *  Error indices refer to positions in the stream.
+     * @return collector
+     * @param <V> item type
+     * @param <E> error type
+     */
+    public static <V, E extends Exception> Collector<Result<V, E>, ?, Partition<V, E>> partition() {
+        return Collector.<Result<V, E>, Partition.Builder<V, E>, Partition<V, E>>of(
+                () -> new Partition.Builder<>(16),
+                Partition.Builder::add,
+                Partition.Builder::merge,
+                Partition.Builder::build
+        );
+    }
+
+    /**
+     * Mutable accumulation of a stream partition.
+     * @param <A> items accumulation type
+     * @param <E> error type
+     */
+    private static final class Accumulation<A, E extends Exception> {
+
+        private A items;
+
+        private BaseResult<E> picked;
+
+        private Accumulation(A items) {
+            this.items = items;
+        }
+
+        /**
+         * Takes the next result of the partition into account.
+         * @param result next result
+         * @param rule fusing rule
+         * @return {@code true} if the item of the result should
+         *  be accumulated
+         */
+        private boolean accept(BaseResult<E> result, TakeFrom rule) {
+            if (picked != null && rule.shortCircuits()) {
+                return false;
+            }
+
+            if (result.isErr()) {
+                picked = result;
+                items = null;
+                return false;
+            }
+
+            return picked == null;
+        }
+
+        /**
+         * Merges the partition following {@code this} one
+         *  in the encounter order.
+         * @param right following partition
+         * @param rule fusing rule
+         * @param combiner items combiner
+         * @return merged accumulation
+         */
+        private Accumulation<A, E> combine(Accumulation<A, E> right,
+                                           TakeFrom rule,
+                                           BinaryOperator<A> combiner) {
+            if (picked == null && right.picked == null) {
+                items = combiner.apply(items, right.items);
+                return this;
+            }
+
+            if (right.picked != null) {
+                picked = rule.pick(picked, right.picked);
+            }
+            items = null;
+            return this;
+        }
+    }
+
+    private ResultCollectors() { }
+}
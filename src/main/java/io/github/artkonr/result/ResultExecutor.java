@@ -0,0 +1,336 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * An {@link Executor} facade that runs fallible tasks and
+ *  resolves them to {@link Result results}, so that the callers
+ *  never deal with {@link ExecutionException}.
+ * <p>Tasks are wrapped the same way as {@link Result#wrap(Class,
+ *  Wrap.Supplier)} and {@link FlagResult#wrap(Class, Wrap.Runnable)}
+ *  do. Every instance counts {@code OK} and {@code ERR} completions
+ *  and measures how long tasks wait in the queue before they start;
+ *  see {@link #stats()}.
+ * <p>The facade does not own the underlying executor: shutting
+ *  it down is up to the caller.
+ */
+public final class ResultExecutor {
+
+    private final Executor executor;
+
+    private final LongAdder ok = new LongAdder();
+
+    private final LongAdder err = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder started = new LongAdder();
+
+    private final LongAdder queuedNanos = new LongAdder();
+
+    private final AtomicLong maxQueuedNanos = new AtomicLong();
+
+    /**
+     * Creates a facade over the default executor, which runs
+     *  each task on a virtual thread if the runtime supports them,
+     *  or on a shared cached pool of daemon threads otherwise.
+     * @return executor facade
+     */
+    public static ResultExecutor create() {
+        return new ResultExecutor(DefaultExecutor.get());
+    }
+
+    /**
+     * Creates a facade over the specified executor, e.g.
+     *  an {@link java.util.concurrent.ExecutorService}.
+     * @param executor underlying executor
+     * @return executor facade
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static ResultExecutor of(@NonNull Executor executor) {
+        return new ResultExecutor(executor);
+    }
+
+    /**
+     * Submits a fallible task, wrapped the same way as
+     *  {@link Result#wrap(Wrap.Supplier)}.
+     * @param action fallible action
+     * @return handle of the task
+     * @param <V> item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public <V> Handle<Result<V, Exception>> submit(@NonNull Wrap.Supplier<V> action) {
+        return execute(() -> Result.wrap(action));
+    }
+
+    /**
+     * Submits a fallible task, wrapped the same way as
+     *  {@link Result#wrap(Class, Wrap.Supplier)}.
+     * @param errType expected type
+     * @param action fallible action
+     * @return handle of the task
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public <V, E extends Exception> Handle<Result<V, E>> submit(@NonNull Class<E> errType,
+                                                                @NonNull Wrap.Supplier<V> action) {
+        return execute(() -> Result.wrap(errType, action));
+    }
+
+    /**
+     * Submits a fallible task, wrapped the same way as
+     *  {@link FlagResult#wrap(Wrap.Runnable)}.
+     * @param action fallible action
+     * @return handle of the task
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public Handle<FlagResult<Exception>> run(@NonNull Wrap.Runnable action) {
+        return execute(() -> FlagResult.wrap(action));
+    }
+
+    /**
+     * Submits a fallible task, wrapped the same way as
+     *  {@link FlagResult#wrap(Class, Wrap.Runnable)}.
+     * @param errType expected type
+     * @param action fallible action
+     * @return handle of the task
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public <E extends Exception> Handle<FlagResult<E>> run(@NonNull Class<E> errType,
+                                                           @NonNull Wrap.Runnable action) {
+        return execute(() -> FlagResult.wrap(errType, action));
+    }
+
+    /**
+     * Runs all tasks and joins their results, taking the first error.
+     * @param errType expected type
+     * @param actions fallible actions
+     * @return joined results
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #invokeAll(Class, Collection, TakeFrom)
+     */
+    public <V, E extends Exception> Result<List<V>, E> invokeAll(@NonNull Class<E> errType,
+                                                                 @NonNull Collection<Wrap.Supplier<V>> actions) {
+        return invokeAll(errType, actions, TakeFrom.HEAD);
+    }
+
+    /**
+     * Runs all tasks and joins their results the same way as
+     *  {@link Result#join(Collection, TakeFrom)} does. {@code null}
+     *  elements are skipped.
+     * <p>Results are awaited in the collection order. If the rule
+     *  short-circuits, tasks after the first {@code ERR} result are
+     *  cancelled, and interrupted if already running.
+     * @param errType expected type
+     * @param actions fallible actions
+     * @param rule fusing rule
+     * @return joined results
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     * @throws Failure if interrupted while waiting
+     */
+    public <V, E extends Exception> Result<List<V>, E> invokeAll(@NonNull Class<E> errType,
+                                                                 @NonNull Collection<Wrap.Supplier<V>> actions,
+                                                                 @NonNull TakeFrom rule) {
+        List<Handle<Result<V, E>>> handles = new ArrayList<>(actions.size());
+        try {
+            for (Wrap.Supplier<V> action : actions) {
+                if (action != null) {
+                    handles.add(submit(errType, action));
+                }
+            }
+        } catch (RuntimeException ex) {
+            handles.forEach(Handle::cancel);
+            throw ex;
+        }
+
+        List<Result<V, E>> results = new ArrayList<>(handles.size());
+        for (int i = 0; i < handles.size(); i++) {
+            Result<V, E> result;
+            try {
+                result = handles.get(i).join();
+            } catch (RuntimeException | Error ex) {
+                handles.forEach(Handle::cancel);
+                throw ex;
+            }
+
+            results.add(result);
+            if (result.isErr() && rule.shortCircuits()) {
+                handles.subList(i + 1, handles.size()).forEach(Handle::cancel);
+                break;
+            }
+        }
+        return Result.join(results, rule);
+    }
+
+    /**
+     * Returns a snapshot of the counters.
+     * @return counters
+     */
+    public Stats stats() {
+        return new Stats(
+                ok.sum(),
+                err.sum(),
+                failed.sum(),
+                started.sum(),
+                queuedNanos.sum(),
+                maxQueuedNanos.get()
+        );
+    }
+
+    @Override
+    public String toString() {
+        return "ResultExecutor[" + stats() + ']';
+    }
+
+    private <R extends BaseResult<?>> Handle<R> execute(Supplier<R> task) {
+        long submitted = System.nanoTime();
+        Handle<R> handle = new Handle<>(() -> {
+            long queued = System.nanoTime() - submitted;
+            started.increment();
+            queuedNanos.add(queued);
+            maxQueuedNanos.accumulateAndGet(queued, Math::max);
+
+            R result;
+            try {
+                result = task.get();
+            } catch (RuntimeException | Error ex) {
+                failed.increment();
+                throw ex;
+            }
+
+            if (result.isOk()) {
+                ok.increment();
+            } else {
+                err.increment();
+            }
+            return result;
+        });
+        executor.execute(handle.task);
+        return handle;
+    }
+
+    private ResultExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * A handle of a submitted task, which resolves to a result.
+     * @param <R> result type
+     */
+    public static final class Handle<R extends BaseResult<?>> {
+
+        private final FutureTask<R> task;
+
+        private Handle(Supplier<R> task) {
+            this.task = new FutureTask<>(task::get);
+        }
+
+        /**
+         * Waits for the task to complete and returns its result.
+         * @return result
+         * @throws CancellationException if the task was cancelled
+         * @throws IllegalStateException if the task threw an exception
+         *  of an unexpected type, same as {@code wrap} would
+         * @throws Failure if interrupted while waiting; the interrupt
+         *  flag is restored
+         */
+        public R join() {
+            try {
+                return task.get();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw Failure.of(ex);
+            } catch (ExecutionException ex) {
+                Throwable cause = ex.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                } else if (cause instanceof Error error) {
+                    throw error;
+                } else {
+                    throw Failure.of(cause);
+                }
+            }
+        }
+
+        /**
+         * Returns the result if the task completed.
+         * @return result, or empty if not completed, cancelled
+         *  or failed
+         */
+        public Optional<R> poll() {
+            if (!task.isDone() || task.isCancelled()) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(task.get());
+            } catch (InterruptedException | ExecutionException ex) {
+                return Optional.empty();
+            }
+        }
+
+        /**
+         * Checks if the task completed, was cancelled or failed.
+         * @return {@code true} if done
+         */
+        public boolean isDone() {
+            return task.isDone();
+        }
+
+        /**
+         * Cancels the task, interrupting it if already running.
+         * @return {@code false} if the task could not be cancelled,
+         *  e.g. because it already completed
+         */
+        public boolean cancel() {
+            return task.cancel(true);
+        }
+    }
+
+    /**
+     * Snapshot of executor counters.
+     * @param ok number of tasks completed with {@code OK}
+     * @param err number of tasks completed with {@code ERR}
+     * @param failed number of tasks that threw an exception of
+     *  an unexpected type
+     * @param started number of tasks started
+     * @param totalQueuedNanos total time tasks waited to start,
+     *  in nanoseconds
+     * @param maxQueuedNanos longest time a task waited to start,
+     *  in nanoseconds
+     */
+    public record Stats(long ok,
+                        long err,
+                        long failed,
+                        long started,
+                        long totalQueuedNanos,
+                        long maxQueuedNanos) {
+
+        /**
+         * Returns the average time tasks waited to start.
+         * @return average time in nanoseconds, or {@code 0}
+         *  if no tasks started
+         */
+        public long averageQueuedNanos() {
+            return started == 0 ? 0 : totalQueuedNanos / started;
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+/**
+ * A structured fan-out scope: forks fallible tasks, waits until
+ *  their joint outcome is decided and cancels the rest.
+ * <p>Subtasks are wrapped the same way as {@link Result#wrap(Class,
+ *  Wrap.Supplier)} does. {@link #join()} waits only as long as the
+ *  {@link TakeFrom rule} needs: with {@link TakeFrom#HEAD}, until all
+ *  subtasks before the first failing one (in the fork order) complete;
+ *  with {@link TakeFrom#TAIL}, until all subtasks after the last
+ *  failing one complete; with {@link TakeFrom#ANY}, until any subtask
+ *  fails. Siblings still running are then cancelled and interrupted,
+ *  so a failing fan-out does not wait for its slowest call.
+ * <pre>{@code
+ * try (var scope = ResultScope.open(IOException.class)) {
+ *     var user = scope.fork(() -> users.load(id));
+ *     var orders = scope.fork(() -> orders.load(id));
+ *     return scope.fuse(user, orders);
+ * }
+ * }</pre>
+ * <p>A scope is owned by the thread that opened it: subtasks are
+ *  forked and joined by that thread only. Closing the scope cancels
+ *  subtasks that are still running.
+ * @param <E> error type
+ */
+public final class ResultScope<E extends Exception> implements AutoCloseable {
+
+    private final Class<E> errType;
+
+    private final TakeFrom rule;
+
+    private final Executor executor;
+
+    private final List<Subtask<?, E>> subtasks = new ArrayList<>();
+
+    private FlagResult<E> outcome;
+
+    private Result<?, E> picked;
+
+    /**
+     * Opens a scope, which runs subtasks on the default executor
+     *  and takes the first error.
+     * @param errType expected type
+     * @return scope
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     * @see #open(Class, TakeFrom, Executor)
+     */
+    public static <E extends Exception> ResultScope<E> open(@NonNull Class<E> errType) {
+        return open(errType, TakeFrom.HEAD);
+    }
+
+    /**
+     * Opens a scope, which runs subtasks on the default executor:
+     *  a virtual thread per subtask if the runtime supports them,
+     *  or a shared cached pool of daemon threads otherwise.
+     * @param errType expected type
+     * @param rule fusing rule
+     * @return scope
+     * @param <E> error type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @see #open(Class, TakeFrom, Executor)
+     */
+    public static <E extends Exception> ResultScope<E> open(@NonNull Class<E> errType,
+                                                            @NonNull TakeFrom rule) {
+        return open(errType, rule, DefaultExecutor.get());
+    }
+
+    /**
+     * Opens a scope.
+     * @param errType expected type
+     * @param rule fusing rule
+     * @param executor executor to run subtasks in
+     * @return scope
+     * @param <E> error type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public static <E extends Exception> ResultScope<E> open(@NonNull Class<E> errType,
+                                                            @NonNull TakeFrom rule,
+                                                            @NonNull Executor executor) {
+        return new ResultScope<>(errType, rule, executor);
+    }
+
+    /**
+     * Starts a subtask.
+     * @param action fallible action
+     * @return subtask
+     * @param <V> item type
+     * @throws IllegalArgumentException if no argument provided
+     * @throws IllegalStateException if the scope is already joined
+     * @throws java.util.concurrent.RejectedExecutionException if the
+     *  executor rejects the subtask; the scope is left as it was
+     */
+    public <V> Subtask<V, E> fork(@NonNull Wrap.Supplier<V> action) {
+        if (outcome != null) {
+            throw new IllegalStateException("scope already joined");
+        }
+
+        Subtask<V, E> subtask = new Subtask<>(this, () -> Result.wrap(errType, action));
+        executor.execute(subtask.task);
+        subtasks.add(subtask);
+        return subtask;
+    }
+
+    /**
+     * Waits until the outcome of the subtasks is decided and cancels
+     *  the ones still running. Subsequent calls return the same outcome.
+     * @return {@code OK} if all subtasks succeeded; the error picked
+     *  as described by {@link TakeFrom} otherwise
+     * @throws IllegalStateException if a subtask threw an exception
+     *  of an unexpected type, same as {@code wrap} would
+     * @throws CancellationException if a subtask was cancelled before
+     *  the outcome was decided, e.g. by closing the scope early
+     * @throws Failure if interrupted while waiting; the subtasks
+     *  are cancelled and the interrupt flag is restored
+     */
+    public FlagResult<E> join() {
+        if (outcome != null) {
+            return outcome;
+        }
+
+        List<CompletableFuture<? extends Result<?, E>>> futures = new ArrayList<>(subtasks.size());
+        for (Subtask<?, E> subtask : subtasks) {
+            futures.add(subtask.completion);
+        }
+
+        try {
+            picked = new AsyncJoin<>(futures, rule).picked().get();
+        } catch (CancellationException ex) {
+            close();
+            throw ex;
+        } catch (InterruptedException ex) {
+            close();
+            Thread.currentThread().interrupt();
+            throw Failure.of(ex);
+        } catch (ExecutionException ex) {
+            close();
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw Failure.of(cause);
+            }
+        }
+
+        close();
+        outcome = picked == null ? FlagResult.ok() : FlagResult.errOf(picked);
+        return outcome;
+    }
+
+    /**
+     * Joins the scope and joins the specified subtasks into
+     *  a {@link Result} of {@link List} of items, same as
+     *  {@link Result#join(Collection, TakeFrom)}.
+     * @param subtasks subtasks to join, in the desired order
+     * @return joined results
+     * @param <V> item type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public <V> Result<List<V>, E> join(@NonNull Collection<Subtask<V, E>> subtasks) {
+        join();
+        List<Result<V, E>> results = new ArrayList<>(subtasks.size());
+        for (Subtask<V, E> subtask : subtasks) {
+            results.add(subtask.result());
+        }
+        return Result.join(results, rule);
+    }
+
+    /**
+     * Joins the scope and fuses 2 of its subtasks into
+     *  a {@link Result.Fuse}, same as {@link Result#fuse(Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @throws IllegalArgumentException if either of the arguments not provided
+     */
+    public <V1, V2> Result<Result.Fuse<V1, V2>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                        @NonNull Subtask<V2, E> s2) {
+        join();
+        return s1.result().fuse(s2.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 3 of its subtasks into a flat
+     *  {@link Result.Fuse3}, same as {@link Result#fuse(Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3> Result<Result.Fuse3<V1, V2, V3>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                 @NonNull Subtask<V2, E> s2,
+                                                                 @NonNull Subtask<V3, E> s3) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 4 of its subtasks into a flat
+     *  {@link Result.Fuse4}, same as {@link Result#fuse(Result, Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @param s4 fourth subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3, V4> Result<Result.Fuse4<V1, V2, V3, V4>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                         @NonNull Subtask<V2, E> s2,
+                                                                         @NonNull Subtask<V3, E> s3,
+                                                                         @NonNull Subtask<V4, E> s4) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), s4.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 5 of its subtasks into a flat
+     *  {@link Result.Fuse5}, same as {@link Result#fuse(Result, Result, Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @param s4 fourth subtask
+     * @param s5 fifth subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3, V4, V5> Result<Result.Fuse5<V1, V2, V3, V4, V5>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                                 @NonNull Subtask<V2, E> s2,
+                                                                                 @NonNull Subtask<V3, E> s3,
+                                                                                 @NonNull Subtask<V4, E> s4,
+                                                                                 @NonNull Subtask<V5, E> s5) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), s4.result(), s5.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 6 of its subtasks into a flat
+     *  {@link Result.Fuse6}, same as {@link Result#fuse(Result, Result, Result, Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @param s4 fourth subtask
+     * @param s5 fifth subtask
+     * @param s6 sixth subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3, V4, V5, V6> Result<Result.Fuse6<V1, V2, V3, V4, V5, V6>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                                         @NonNull Subtask<V2, E> s2,
+                                                                                         @NonNull Subtask<V3, E> s3,
+                                                                                         @NonNull Subtask<V4, E> s4,
+                                                                                         @NonNull Subtask<V5, E> s5,
+                                                                                         @NonNull Subtask<V6, E> s6) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), s4.result(), s5.result(), s6.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 7 of its subtasks into a flat
+     *  {@link Result.Fuse7}, same as {@link Result#fuse(Result, Result, Result, Result, Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @param s4 fourth subtask
+     * @param s5 fifth subtask
+     * @param s6 sixth subtask
+     * @param s7 seventh subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @param <V7> seventh item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3, V4, V5, V6, V7> Result<Result.Fuse7<V1, V2, V3, V4, V5, V6, V7>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                                                 @NonNull Subtask<V2, E> s2,
+                                                                                                 @NonNull Subtask<V3, E> s3,
+                                                                                                 @NonNull Subtask<V4, E> s4,
+                                                                                                 @NonNull Subtask<V5, E> s5,
+                                                                                                 @NonNull Subtask<V6, E> s6,
+                                                                                                 @NonNull Subtask<V7, E> s7) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), s4.result(), s5.result(), s6.result(), s7.result(), rule);
+    }
+
+    /**
+     * Joins the scope and fuses 8 of its subtasks into a flat
+     *  {@link Result.Fuse8}, same as {@link Result#fuse(Result, Result, Result, Result, Result, Result, Result, Result, TakeFrom)}.
+     * @param s1 first subtask
+     * @param s2 second subtask
+     * @param s3 third subtask
+     * @param s4 fourth subtask
+     * @param s5 fifth subtask
+     * @param s6 sixth subtask
+     * @param s7 seventh subtask
+     * @param s8 eighth subtask
+     * @return fused results
+     * @param <V1> first item type
+     * @param <V2> second item type
+     * @param <V3> third item type
+     * @param <V4> fourth item type
+     * @param <V5> fifth item type
+     * @param <V6> sixth item type
+     * @param <V7> seventh item type
+     * @param <V8> eighth item type
+     * @throws IllegalArgumentException if any of the arguments not provided
+     */
+    public <V1, V2, V3, V4, V5, V6, V7, V8> Result<Result.Fuse8<V1, V2, V3, V4, V5, V6, V7, V8>, E> fuse(@NonNull Subtask<V1, E> s1,
+                                                                                                         @NonNull Subtask<V2, E> s2,
+                                                                                                         @NonNull Subtask<V3, E> s3,
+                                                                                                         @NonNull Subtask<V4, E> s4,
+                                                                                                         @NonNull Subtask<V5, E> s5,
+                                                                                                         @NonNull Subtask<V6, E> s6,
+                                                                                                         @NonNull Subtask<V7, E> s7,
+                                                                                                         @NonNull Subtask<V8, E> s8) {
+        join();
+        return Result.fuse(s1.result(), s2.result(), s3.result(), s4.result(), s5.result(), s6.result(), s7.result(), s8.result(), rule);
+    }
+
+    /**
+     * Cancels subtasks that are still running.
+     */
+    @Override
+    public void close() {
+        for (Subtask<?, E> subtask : subtasks) {
+            subtask.task.cancel(true);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ResultScope[subtasks=" + subtasks.size() + ", outcome=" + (outcome == null ? "?" : outcome) + ']';
+    }
+
+    private ResultScope(Class<E> errType, TakeFrom rule, Executor executor) {
+        this.errType = errType;
+        this.rule = rule;
+        this.executor = executor;
+    }
+
+    /**
+     * A forked subtask of a {@link ResultScope}.
+     * @param <V> item type
+     * @param <E> error type
+     */
+    public static final class Subtask<V, E extends Exception> {
+
+        private final ResultScope<E> scope;
+
+        private final CompletableFuture<Result<V, E>> completion = new CompletableFuture<>();
+
+        private final FutureTask<Result<V, E>> task;
+
+        private Subtask(ResultScope<E> scope, Supplier<Result<V, E>> action) {
+            this.scope = scope;
+            this.task = new FutureTask<>(action::get) {
+                @Override
+                protected void done() {
+                    if (isCancelled()) {
+                        completion.completeExceptionally(new CancellationException());
+                        return;
+                    }
+
+                    try {
+                        completion.complete(get());
+                    } catch (ExecutionException ex) {
+                        completion.completeExceptionally(ex.getCause());
+                    } catch (InterruptedException ex) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            };
+        }
+
+        /**
+         * Returns the result of the subtask once the scope is joined.
+         *  A subtask that was cancelled because the outcome was decided
+         *  by a sibling resolves to the error of that sibling.
+         * @return result
+         * @throws IllegalStateException if the scope is not joined yet
+         */
+        public Result<V, E> result() {
+            if (scope.outcome == null) {
+                throw new IllegalStateException("scope not joined");
+            }
+
+            return completion.isDone() && !task.isCancelled() ? completion.join() : Result.errOf(scope.picked);
+        }
+
+        /**
+         * Returns the item of the subtask once the scope is joined.
+         * @return item
+         * @throws IllegalStateException if the scope is not joined
+         *  yet or the subtask did not succeed
+         */
+        public V get() {
+            return result().get();
+        }
+    }
+}
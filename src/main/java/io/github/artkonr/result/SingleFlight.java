@@ -0,0 +1,146 @@
+package io.github.artkonr.result;
+
+import lombok.NonNull;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent invocations of the same key: the first
+ *  caller runs the action the same way as {@link Result#wrap(Class,
+ *  Wrap.Supplier)} or {@link FlagResult#wrap(Class, Wrap.Runnable)}
+ *  do, while callers that arrive before it completes wait and
+ *  receive the very same result, {@code OK} or {@code ERR}.
+ * <p>Nothing is retained after completion: a call that arrives
+ *  once the in-flight one finished runs the action again. Joining
+ *  a flight in progress is a lock-free map lookup; waiting does
+ *  not hold monitors, so it is fit for virtual threads.
+ * <p>If the action throws an exception of an unexpected type, it
+ *  is rethrown to every caller of the flight.
+ * @param <K> key type
+ * @param <V> item type
+ * @param <E> error type
+ */
+public final class SingleFlight<K, V, E extends Exception> {
+
+    private final Class<E> errType;
+
+    private final Map<K, CompletableFuture<Result<V, E>>> results = new ConcurrentHashMap<>();
+
+    private final Map<K, CompletableFuture<FlagResult<E>>> flags = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a coordinator.
+     * @param errType expected error type of actions
+     * @return coordinator
+     * @param <K> key type
+     * @param <V> item type
+     * @param <E> error type
+     * @throws IllegalArgumentException if no argument provided
+     */
+    public static <K, V, E extends Exception> SingleFlight<K, V, E> create(@NonNull Class<E> errType) {
+        return new SingleFlight<>(errType);
+    }
+
+    /**
+     * Runs the supplier unless another call of the same key is
+     *  in flight, in which case waits for its result instead.
+     * @param key key
+     * @param action fallible supplier
+     * @return result shared by all callers of the flight
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws IllegalStateException if the supplier throws an exception
+     *  of an unexpected type
+     * @throws Failure if interrupted while waiting; the interrupt
+     *  flag is restored
+     */
+    public Result<V, E> wrap(@NonNull K key, @NonNull Wrap.Supplier<V> action) {
+        return execute(results, key, () -> Result.wrap(errType, action));
+    }
+
+    /**
+     * Runs the action unless another call of the same key is
+     *  in flight, in which case waits for its result instead.
+     *  Flights of {@link #wrap(Object, Wrap.Supplier)} and of
+     *  this method are separate, even for equal keys.
+     * @param key key
+     * @param action fallible action
+     * @return result shared by all callers of the flight
+     * @throws IllegalArgumentException if either of the arguments not provided
+     * @throws IllegalStateException if the action throws an exception
+     *  of an unexpected type
+     * @throws Failure if interrupted while waiting; the interrupt
+     *  flag is restored
+     */
+    public FlagResult<E> run(@NonNull K key, @NonNull Wrap.Runnable action) {
+        return execute(flags, key, () -> FlagResult.wrap(errType, action));
+    }
+
+    /**
+     * Returns the number of flights in progress.
+     * @return number of flights
+     */
+    public int inFlight() {
+        return results.size() + flags.size();
+    }
+
+    @Override
+    public String toString() {
+        return "SingleFlight[inFlight=" + inFlight() + ']';
+    }
+
+    private static <K, R> R execute(Map<K, CompletableFuture<R>> flights, K key, Supplier<R> action) {
+        CompletableFuture<R> flight = flights.get(key);
+        if (flight == null) {
+            CompletableFuture<R> own = new CompletableFuture<>();
+            flight = flights.putIfAbsent(key, own);
+            if (flight == null) {
+                return lead(flights, key, own, action);
+            }
+        }
+        return await(flight);
+    }
+
+    private static <K, R> R lead(Map<K, CompletableFuture<R>> flights,
+                                 K key,
+                                 CompletableFuture<R> flight,
+                                 Supplier<R> action) {
+        R result;
+        try {
+            result = action.get();
+        } catch (RuntimeException | Error ex) {
+            flights.remove(key, flight);
+            flight.completeExceptionally(ex);
+            throw ex;
+        }
+
+        flights.remove(key, flight);
+        flight.complete(result);
+        return result;
+    }
+
+    private static <R> R await(CompletableFuture<R> flight) {
+        try {
+            return flight.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw Failure.of(ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            } else if (cause instanceof Error error) {
+                throw error;
+            } else {
+                throw Failure.of(cause);
+            }
+        }
+    }
+
+    private SingleFlight(Class<E> errType) {
+        this.errType = errType;
+    }
+}
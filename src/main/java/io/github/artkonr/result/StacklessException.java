@@ -0,0 +1,58 @@
+package io.github.artkonr.result;
+
+import java.util.function.Supplier;
+
+/**
+ * A lightweight {@link RuntimeException} that does not capture
+ *  a stack trace. Suited for domain errors that are expected
+ *  and handled, rather than investigated, e.g. {@code ERR}
+ *  results produced by {@link Result#err(Exception)},
+ *  {@link Result#fork(Supplier)} or {@link Result#taint(Supplier)}.
+ * <p>Extend to declare a specific domain error:
+ * <pre>{@code
+ * class NotFound extends StacklessException {
+ *     NotFound(String key) { super("not found: " + key); }
+ * }
+ * }</pre>
+ */
+public class StacklessException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     * @param message error message
+     */
+    public StacklessException(String message) {
+        super(message, null, false, false);
+    }
+
+    /**
+     * Constructor with a cause.
+     * @param message error message
+     * @param cause cause
+     */
+    public StacklessException(String message, Throwable cause) {
+        super(message, cause, false, false);
+    }
+
+    /**
+     * Creates a new {@link StacklessException}.
+     * @param message error message
+     * @return created exception
+     */
+    public static StacklessException of(String message) {
+        return new StacklessException(message);
+    }
+
+    /**
+     * Creates a factory of {@link StacklessException}s to use
+     *  with {@code fork}/{@code taint}. Every call creates a new
+     *  instance.
+     * @param message error message
+     * @return exception factory
+     */
+    public static Supplier<StacklessException> factory(String message) {
+        return () -> new StacklessException(message);
+    }
+}
@@ -1,7 +1,5 @@
 package io.github.artkonr.result;
 
-import java.util.Optional;
-
 /**
  * A rule of how to combine results.
  */
@@ -19,33 +17,69 @@ public enum TakeFrom {
      * the first item in the collection or the the
      * right item in the fuse.
      */
-    TAIL;
+    TAIL,
+
+    /**
+     * Instructs to take any instance: whichever error
+     * is observed first. Allows to stop combining as
+     * soon as an error is found, regardless of its
+     * position, at the cost of determinism when
+     * combining in parallel.
+     */
+    ANY;
 
     /**
-     * Use the rule to derive which error is returned.
+     * Use the rule to derive which of the results passes
+     *  its error on.
      * @param head head
      * @param tail tail
-     * @return picked error or empty optional
+     * @return picked {@code ERR} result or {@code null}
+     *  if both results are {@code OK}
      * @param <E> error type
      */
-    <E extends Exception> Optional<E> takeError(BaseResult<E> head, BaseResult<E> tail) {
+    <E extends Exception> BaseResult<E> takeErrored(BaseResult<E> head, BaseResult<E> tail) {
         if (head.isErr() && tail.isErr()) {
-            E picked = switch (this) {
-                case HEAD -> head.error;
-                case TAIL -> tail.error;
+            return switch (this) {
+                case HEAD, ANY -> head;
+                case TAIL -> tail;
             };
-            return Optional.of(picked);
         }
 
         if (head.isErr()) {
-            return Optional.of(head.error);
+            return head;
         }
 
         if (tail.isErr()) {
-            return Optional.of(tail.error);
+            return tail;
         }
 
-        return Optional.empty();
+        return null;
+    }
+
+    /**
+     * Checks if the first observed error decides the outcome,
+     *  so that the rest of a sequence can be skipped.
+     * @return {@code true} unless the rule is {@link #TAIL}
+     */
+    boolean shortCircuits() {
+        return this != TAIL;
+    }
+
+    /**
+     * Use the rule to fold a sequence of results into the
+     *  one that passes its error on, one result at a time.
+     * @param picked result picked so far or {@code null}
+     * @param next next result in the sequence
+     * @return picked {@code ERR} result or {@code null}
+     *  if all results so far are {@code OK}
+     * @param <E> error type
+     */
+    <E extends Exception> BaseResult<E> pick(BaseResult<E> picked, BaseResult<E> next) {
+        if (next.isErr() && (picked == null || this == TAIL)) {
+            return next;
+        } else {
+            return picked;
+        }
     }
 
 }
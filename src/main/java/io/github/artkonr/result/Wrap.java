@@ -18,4 +18,22 @@ public interface Wrap {
      */
     @FunctionalInterface
     interface Supplier<V> extends Internal.Supplier<V, Exception> { }
+
+    /**
+     * A checked-exception-safe version of {@link java.util.function.IntSupplier}.
+     */
+    @FunctionalInterface
+    interface IntSupplier extends Internal.IntSupplier<Exception> { }
+
+    /**
+     * A checked-exception-safe version of {@link java.util.function.LongSupplier}.
+     */
+    @FunctionalInterface
+    interface LongSupplier extends Internal.LongSupplier<Exception> { }
+
+    /**
+     * A checked-exception-safe version of {@link java.util.function.DoubleSupplier}.
+     */
+    @FunctionalInterface
+    interface DoubleSupplier extends Internal.DoubleSupplier<Exception> { }
 }
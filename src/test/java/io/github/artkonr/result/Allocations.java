@@ -0,0 +1,41 @@
+package io.github.artkonr.result;
+
+import com.sun.management.ThreadMXBean;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Test helper that counts heap bytes allocated by the current thread.
+ */
+final class Allocations {
+
+    private static final ThreadMXBean THREADS = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final int WARMUP = 10_000;
+
+    private static final int ITERATIONS = 100_000;
+
+    /**
+     * Asserts that the action allocates nothing on average. A single
+     *  object is at least 16 bytes, so staying below one byte per call
+     *  means that no invocation allocated.
+     * @param action measured action
+     */
+    static void assertNoAllocation(Runnable action) {
+        for (int i = 0; i < WARMUP; i++) {
+            action.run();
+        }
+
+        long before = THREADS.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            action.run();
+        }
+        long allocated = THREADS.getCurrentThreadAllocatedBytes() - before;
+
+        assertTrue(allocated < ITERATIONS, "allocated " + allocated + " bytes in " + ITERATIONS + " calls");
+    }
+
+    private Allocations() { }
+}
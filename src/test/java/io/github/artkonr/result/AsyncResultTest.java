@@ -0,0 +1,237 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncResultTest {
+
+    @Test
+    void should_transform_without_blocking() {
+        var source = new CompletableFuture<Integer>();
+        var calls = new AtomicInteger();
+        var chained = AsyncResult.from(RuntimeException.class, source)
+                .map(item -> item + 1)
+                .flatMap(item -> Result.<Integer, RuntimeException>ok(item * 10))
+                .fork(item -> item > 100, item -> new IllegalStateException())
+                .peek(item -> calls.incrementAndGet());
+        assertFalse(chained.isDone());
+        assertEquals("AsyncResult[?]", chained.toString());
+        assertEquals(0, calls.get());
+
+        source.complete(1);
+        assertTrue(chained.isDone());
+        assertEquals(Result.ok(20), chained.toResult());
+        assertEquals("AsyncResult[Result[ok=20]]", chained.toString());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_map_stage_failure_onto_error() {
+        var source = new CompletableFuture<Integer>();
+        var async = AsyncResult.from(IOException.class, source);
+        var error = new IOException();
+        source.completeExceptionally(new CompletionException(error));
+        assertSame(error, async.toResult().getErr());
+
+        var unwrapped = AsyncResult.from(CompletableFuture.supplyAsync(() -> { throw new IllegalStateException(); }));
+        assertInstanceOf(IllegalStateException.class, unwrapped.toResult().getErr());
+    }
+
+    @Test
+    void should_fail_if_stage_fails_with_unexpected_error() {
+        var source = CompletableFuture.<Integer>failedFuture(new UncheckedIOException(new IOException()));
+        var async = AsyncResult.from(IOException.class, source);
+        var thrown = assertThrows(IllegalStateException.class, async::toResult);
+        assertTrue(thrown.getMessage().startsWith("unexpected wrapped exception"));
+    }
+
+    @Test
+    void should_recover_and_remap_errors() {
+        AsyncResult<Integer, RuntimeException> err = AsyncResult.err(new IllegalStateException());
+        assertEquals(1, err.recover(e -> 1).toResult().get());
+        assertEquals(2, err.recover(IllegalStateException.class, e -> 2).toResult().get());
+        assertTrue(err.recover(e -> false, e -> 3).toResult().isErr());
+        assertInstanceOf(IOException.class, err.mapErr(IOException::new).toResult().getErr());
+        assertInstanceOf(IOException.class, AsyncResult.ok(1).taint(i -> true, i -> new IOException()).toResult().getErr());
+
+        var peeked = new AtomicInteger();
+        err.peekErr(e -> peeked.incrementAndGet()).toResult();
+        assertEquals(1, peeked.get());
+    }
+
+    @Test
+    void should_flat_map_async_only_if_ok() {
+        var calls = new AtomicInteger();
+        AsyncResult<Integer, RuntimeException> err = AsyncResult.err(new IllegalStateException());
+        assertTrue(err.flatMapAsync(item -> AsyncResult.ok(calls.incrementAndGet())).toResult().isErr());
+        assertEquals(0, calls.get());
+
+        var next = new CompletableFuture<Result<Integer, RuntimeException>>();
+        var chained = AsyncResult.<Integer, RuntimeException>ok(1).flatMapAsync(item -> AsyncResult.of(next));
+        assertFalse(chained.isDone());
+        next.complete(Result.ok(2));
+        assertEquals(2, chained.toResult().get());
+    }
+
+    @Test
+    void should_wrap_action_in_executor() {
+        var executor = Executors.newSingleThreadExecutor();
+        try {
+            assertEquals(1, AsyncResult.wrap(() -> 1, executor).toResult().get());
+            var err = AsyncResult.wrap(IOException.class, () -> { throw new IOException(); }, executor);
+            assertInstanceOf(IOException.class, err.toResult().getErr());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_join_as_early_as_rule_allows() {
+        var first = new CompletableFuture<Result<Integer, RuntimeException>>();
+        var second = new CompletableFuture<Result<Integer, RuntimeException>>();
+        var third = new CompletableFuture<Result<Integer, RuntimeException>>();
+        List<AsyncResult<Integer, RuntimeException>> results = new ArrayList<>();
+        results.add(AsyncResult.of(first));
+        results.add(null);
+        results.add(AsyncResult.of(second));
+        results.add(AsyncResult.of(third));
+
+        var head = AsyncResult.join(results);
+        var tail = AsyncResult.join(results, TakeFrom.TAIL);
+        var any = AsyncResult.join(results, TakeFrom.ANY);
+        var error = new IllegalStateException();
+        second.complete(Result.err(error));
+        assertFalse(head.isDone());
+        assertFalse(tail.isDone());
+        assertSame(error, any.toResult().getErr());
+
+        first.complete(Result.ok(1));
+        assertSame(error, head.toResult().getErr());
+        assertFalse(tail.isDone());
+        third.complete(Result.ok(3));
+        assertSame(error, tail.toResult().getErr());
+    }
+
+    @Test
+    void should_join_sources_completing_concurrently() throws Exception {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 200; round++) {
+                List<CompletableFuture<Result<Integer, RuntimeException>>> sources = new ArrayList<>();
+                List<AsyncResult<Integer, RuntimeException>> results = new ArrayList<>();
+                for (int i = 0; i < 16; i++) {
+                    var source = new CompletableFuture<Result<Integer, RuntimeException>>();
+                    sources.add(source);
+                    results.add(AsyncResult.of(source));
+                }
+
+                var head = AsyncResult.join(results);
+                var tail = AsyncResult.join(results, TakeFrom.TAIL);
+                var first = new IllegalStateException();
+                var last = new IllegalStateException();
+                List<CompletableFuture<?>> completions = new ArrayList<>();
+                for (int i = 0; i < sources.size(); i++) {
+                    var source = sources.get(i);
+                    Result<Integer, RuntimeException> result = i == 5 ? Result.err(first)
+                            : i == 11 ? Result.err(last)
+                            : Result.ok(i);
+                    completions.add(CompletableFuture.runAsync(() -> source.complete(result), executor));
+                }
+                CompletableFuture.allOf(completions.toArray(CompletableFuture[]::new)).get();
+
+                assertSame(first, head.toResult().getErr());
+                assertSame(last, tail.toResult().getErr());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void should_join_into_ok_if_all_ok() {
+        var late = new CompletableFuture<Result<Integer, RuntimeException>>();
+        List<AsyncResult<Integer, RuntimeException>> results = List.of(AsyncResult.of(late), AsyncResult.ok(2));
+        var joined = AsyncResult.join(results);
+        assertFalse(joined.isDone());
+        late.complete(Result.ok(1));
+        assertEquals(List.of(1, 2), joined.toResult().get());
+        assertEquals(List.of(), AsyncResult.join(List.<AsyncResult<Integer, RuntimeException>>of()).toResult().get());
+    }
+
+    @Test
+    void should_fuse_async_results() {
+        AsyncResult<Integer, RuntimeException> left = AsyncResult.ok(1);
+        AsyncResult<String, RuntimeException> right = AsyncResult.ok("a");
+        assertEquals(new Result.Fuse<>(1, "a"), left.fuse(right).toResult().get());
+
+        var first = new IllegalStateException();
+        var second = new IllegalArgumentException();
+        AsyncResult<Integer, RuntimeException> leftErr = AsyncResult.err(first);
+        AsyncResult<String, RuntimeException> rightErr = AsyncResult.err(second);
+        assertSame(first, leftErr.fuse(rightErr).toResult().getErr());
+        assertSame(second, leftErr.fuse(rightErr, TakeFrom.TAIL).toResult().getErr());
+    }
+
+    @Test
+    void should_fork_taint_and_swap_once_completed() {
+        var source = new CompletableFuture<Result<Integer, RuntimeException>>();
+        var error = new IllegalStateException();
+        var forked = AsyncResult.of(source).fork(() -> error);
+        var tainted = AsyncResult.of(source).taint(IOException::new);
+        var swapped = AsyncResult.of(source).swap("a");
+        assertFalse(forked.isDone());
+        assertFalse(tainted.isDone());
+        assertFalse(swapped.isDone());
+
+        source.complete(Result.ok(1));
+        assertSame(error, forked.toResult().getErr());
+        assertTrue(tainted.toResult().isErrAnd(IOException.class));
+        assertEquals(Result.ok("a"), swapped.toResult());
+
+        AsyncResult<Integer, RuntimeException> err = AsyncResult.err(error);
+        assertSame(error, err.fork(IllegalArgumentException::new).toResult().getErr());
+        assertSame(error, err.taint(IOException::new).toResult().getErr());
+        assertSame(error, err.swap("a").toResult().getErr());
+    }
+
+    @Test
+    void should_fail_if_transformation_throws() {
+        var async = AsyncResult.<Integer, RuntimeException>ok(1).map(item -> {
+            throw new IllegalStateException("boom");
+        });
+        assertEquals("boom", assertThrows(IllegalStateException.class, async::toResult).getMessage());
+
+        var joined = AsyncResult.join(List.of(async, AsyncResult.ok(2)));
+        assertThrows(IllegalStateException.class, joined::toResult);
+    }
+
+    @Test
+    void should_not_expose_internal_future() {
+        var async = AsyncResult.<Integer, RuntimeException>ok(1);
+        async.toCompletableFuture().obtrudeValue(Result.ok(2));
+        assertEquals(1, async.toResult().get());
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.from((Result<Integer, RuntimeException>) null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.of(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.ok(1).map(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.join(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.ok(1).fuse(null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.ok(1).fork((Supplier<Exception>) null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.ok(1).taint((Supplier<Exception>) null));
+        assertThrows(IllegalArgumentException.class, () -> AsyncResult.ok(1).swap(null));
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeadlineTest {
+
+    @Test
+    void should_expire_after_timeout() {
+        var deadline = Deadline.after(Duration.ZERO);
+        assertTrue(deadline.isExpired());
+        assertFalse(deadline.isCancelled());
+        assertEquals(0, deadline.remainingNanos());
+
+        var later = Deadline.after(Duration.ofMinutes(1));
+        assertFalse(later.isExpired());
+        assertTrue(later.remainingNanos() > 0);
+        assertTrue(later.toString().startsWith("Deadline[remaining="));
+    }
+
+    @Test
+    void should_never_expire_unless_cancelled() {
+        var deadline = Deadline.never();
+        assertFalse(deadline.isExpired());
+        assertEquals(Long.MAX_VALUE, deadline.remainingNanos());
+        assertEquals("Deadline[never]", deadline.toString());
+
+        deadline.cancel();
+        assertTrue(deadline.isExpired());
+        assertTrue(deadline.isCancelled());
+        assertEquals(0, deadline.remainingNanos());
+        assertEquals("Deadline[cancelled]", deadline.toString());
+    }
+
+    @Test
+    void should_saturate_huge_and_negative_timeouts() {
+        assertEquals(Long.MAX_VALUE, Deadline.after(Duration.ofSeconds(Long.MAX_VALUE)).remainingNanos());
+        assertTrue(Deadline.after(Duration.ofDays(-1)).isExpired());
+        assertTrue(Deadline.after(Duration.ofSeconds(Long.MIN_VALUE)).isExpired());
+    }
+
+    @Test
+    void should_report_expiry_without_stack_trace() {
+        var exceeded = Deadline.never().exceeded();
+        assertEquals("deadline exceeded", exceeded.getMessage());
+        assertEquals(0, exceeded.getStackTrace().length);
+        assertFalse(exceeded.isCancelled());
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> Deadline.after(null));
+    }
+}
@@ -4,7 +4,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -12,6 +14,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -24,7 +27,7 @@ class FlagTest {
         var from = FlagResult.from(source);
 
         assertTrue(from.isErr());
-        assertSame(source.error, from.error);
+        assertSame(source.getErr(), from.getErr());
     }
 
     @Test
@@ -46,15 +49,26 @@ class FlagTest {
         assertFalse(viaMethod.isErr());
     }
 
+    @Test
+    void should_share_ok() {
+        assertSame(FlagResult.ok(), FlagResult.ok());
+        assertEquals(FlagResult.ok(), FlagResult.<IOException>ok());
+        assertEquals(FlagResult.ok().hashCode(), FlagResult.<IOException>ok().hashCode());
+    }
+
+    @Test
+    void should_not_allocate_when_creating_ok() {
+        Allocations.assertNoAllocation(FlagResult::ok);
+    }
+
     @Test
     void should_create_err() {
         RuntimeException ex = new RuntimeException();
-        var viaConstructor = new FlagResult<>(ex);
-        var viaMethod = FlagResult.err(ex);
+        var err = FlagResult.err(ex);
 
-        assertTrue(viaMethod.isErr());
-        assertFalse(viaMethod.isOk());
-        assertSame(viaConstructor.error, viaMethod.error);
+        assertTrue(err.isErr());
+        assertFalse(err.isOk());
+        assertSame(ex, err.getErr());
     }
 
     @Test
@@ -95,21 +109,21 @@ class FlagTest {
     void should_exact_wrap_known_error() {
         var wrapped = FlagResult.wrap(IllegalStateException.class, () -> { throw new IllegalStateException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IllegalStateException.class, wrapped.error);
+        assertInstanceOf(IllegalStateException.class, wrapped.getErr());
     }
 
     @Test
     void should_lossy_wrap_subclass_of_known_error() {
         FlagResult<RuntimeException> wrapped = FlagResult.wrap(RuntimeException.class, () -> { throw new IllegalStateException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IllegalStateException.class, wrapped.error);
+        assertInstanceOf(IllegalStateException.class, wrapped.getErr());
     }
 
     @Test
     void should_exact_wrap_checked_error() {
         var wrapped = FlagResult.wrap(IOException.class, () -> { throw new IOException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IOException.class, wrapped.error);
+        assertInstanceOf(IOException.class, wrapped.getErr());
     }
 
     @Test
@@ -170,12 +184,114 @@ class FlagTest {
         assertThrows(IllegalArgumentException.class, () -> FlagResult.chain(null));
     }
 
+    @Test
+    void should_chain_lazily_over_stream() {
+        var generated = new AtomicInteger();
+        Stream<Supplier<BaseResult<RuntimeException>>> steps = Stream.iterate(0, i -> i + 1)
+                .peek(i -> generated.incrementAndGet())
+                .map(i -> () -> i == 3 ? FlagResult.err(new RuntimeException("3")) : FlagResult.ok());
+        var chained = FlagResult.chainLazy(steps);
+        assertTrue(chained.isErrAnd(e -> e.getMessage().equals("3")));
+        assertEquals(4, generated.get());
+
+        List<Supplier<BaseResult<RuntimeException>>> ok = List.of(FlagResult::ok, () -> Result.ok(1));
+        Iterable<Supplier<BaseResult<RuntimeException>>> iterable = ok::iterator;
+        assertTrue(FlagResult.chainLazy(ok.iterator()).isOk());
+        assertTrue(FlagResult.chainLazy(iterable).isOk());
+    }
+
     @Test
     void should_chain_into_ok_if_empty_collection() {
         var ok = FlagResult.chain(List.of());
         assertTrue(ok.isOk());
     }
 
+    @Test
+    void should_join_map_values() {
+        Map<String, Result<Integer, RuntimeException>> results = new LinkedHashMap<>();
+        results.put("a", Result.ok(1));
+        results.put("x", null);
+        assertTrue(FlagResult.joinMap(results).isOk());
+
+        var first = new IllegalStateException();
+        var second = new IllegalArgumentException();
+        results.put("b", Result.err(first));
+        results.put("c", Result.err(second));
+        assertSame(first, FlagResult.joinMap(results).getErr());
+        assertSame(second, FlagResult.joinMap(results, TakeFrom.TAIL).getErr());
+        assertThrows(IllegalArgumentException.class, () -> FlagResult.joinMap(results, null));
+    }
+
+    @Test
+    void should_join_accumulating_errors() {
+        List<BaseResult<RuntimeException>> results = new ArrayList<>();
+        results.add(FlagResult.ok());
+        results.add(null);
+        results.add(Result.ok(1));
+        assertTrue(FlagResult.joinAll(results, 1).isOk());
+
+        var first = new IllegalStateException();
+        results.add(FlagResult.err(first));
+        results.add(Result.err(new IllegalArgumentException()));
+        AggregateException aggregated = FlagResult.joinAll(results, 1, 0).getErr();
+        assertEquals(2, aggregated.count());
+        assertEquals(List.of(first), aggregated.errors());
+        assertEquals(Map.of(IllegalArgumentException.class, 1), aggregated.omitted());
+        assertEquals(0, aggregated.getSuppressed().length);
+        assertThrows(IllegalArgumentException.class, () -> FlagResult.joinAll(results, 1, -1));
+    }
+
+    @Test
+    void should_chain_in_parallel_as_sequential() {
+        List<Supplier<BaseResult<RuntimeException>>> list = new ArrayList<>();
+        list.add(FlagResult::ok);
+        list.add(null);
+        list.add(() -> null);
+        list.add(() -> Result.ok(1));
+        assertTrue(FlagResult.chainParallel(list).isOk());
+
+        list.add(() -> FlagResult.err(new RuntimeException("1")));
+        list.add(() -> FlagResult.err(new RuntimeException("2")));
+        assertTrue(FlagResult.chainParallel(list).isErrAnd(e -> e.getMessage().equals("1")));
+        assertThrows(IllegalArgumentException.class, () -> FlagResult.chainParallel(null));
+    }
+
+    @Test
+    void should_stop_joining_at_first_error_with_head_rule() {
+        FlagResult<RuntimeException> err = newErr();
+        List<BaseResult<RuntimeException>> source = List.of(FlagResult.ok(), err, FlagResult.ok());
+        var results = ResultTest.failingAfter(2, source);
+        assertSame(err, FlagResult.join(results, TakeFrom.HEAD));
+        assertThrows(IllegalStateException.class, () -> FlagResult.join(results, TakeFrom.TAIL));
+    }
+
+    @Test
+    void should_join_in_parallel_as_sequential() {
+        int size = 50_000;
+        for (int errorAt : new int[] {-1, 0, 1_500, size / 2, size - 1}) {
+            List<BaseResult<RuntimeException>> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                boolean errored = errorAt >= 0 && (i == errorAt || i == errorAt + 7_000 || i == errorAt - 9_000);
+                results.add(errored ? FlagResult.err(new RuntimeException(String.valueOf(i))) : FlagResult.ok());
+            }
+            for (TakeFrom rule : List.of(TakeFrom.HEAD, TakeFrom.TAIL)) {
+                var sequential = FlagResult.join(results, rule);
+                var parallel = FlagResult.joinParallel(results, rule);
+                assertSame(sequential, parallel);
+            }
+        }
+    }
+
+    @Test
+    void should_join_and_fuse_with_any_rule() {
+        FlagResult<RuntimeException> err = newErr();
+        List<BaseResult<RuntimeException>> source = List.of(FlagResult.ok(), err, newErr());
+        assertSame(err, FlagResult.join(ResultTest.failingAfter(2, source), TakeFrom.ANY));
+        assertTrue(FlagResult.joinParallel(source, TakeFrom.ANY).isErr());
+        assertSame(err, FlagResult.<RuntimeException>ok().fuse(err, TakeFrom.ANY));
+        assertTrue(err.fuse(newErr(), TakeFrom.ANY).isErr());
+    }
+
     @Test
     void should_join_into_ok_if_all_ok() {
         List<BaseResult<RuntimeException>> results = List.of(FlagResult.ok(), FlagResult.ok());
@@ -194,7 +310,7 @@ class FlagTest {
         );
         FlagResult<?> joined = FlagResult.join(results);
         assertTrue(joined.isErr());
-        assertSame(ex1, joined.error);
+        assertSame(ex1, joined.getErr());
     }
 
     @Test
@@ -220,7 +336,7 @@ class FlagTest {
         List<BaseResult<RuntimeException>> results = List.of(r1, r2, r3);
         FlagResult<?> joined = FlagResult.join(results, TakeFrom.TAIL);
         assertTrue(joined.isErr());
-        assertSame(tailEx, joined.error);
+        assertSame(tailEx, joined.getErr());
     }
 
     @Test
@@ -235,7 +351,7 @@ class FlagTest {
         List<BaseResult<RuntimeException>> results = List.of(r1, r2, r3);
         FlagResult<?> joined = FlagResult.join(results, TakeFrom.HEAD);
         assertTrue(joined.isErr());
-        assertSame(headEx, joined.error);
+        assertSame(headEx, joined.getErr());
     }
 
     @Test
@@ -257,6 +373,16 @@ class FlagTest {
         }
     }
 
+    @Test
+    void should_throw_stackless_failure_if_err_unwrapped_as_requested() {
+        RuntimeException ex = new RuntimeException();
+        var err = FlagResult.err(ex);
+        Failure failure = assertThrows(Failure.class, err::unwrapStackless);
+        assertSame(ex, failure.getCause());
+        assertEquals(0, failure.getStackTrace().length);
+        assertDoesNotThrow(FlagResult.ok()::unwrapStackless);
+    }
+
     @Test
     void should_not_throw_if_ok_unwrapped_as_checked() {
         var ok = FlagResult.ok();
@@ -290,7 +416,7 @@ class FlagTest {
     void should_lose_specific_type_if_err() {
         FlagResult<RuntimeException> source = newErr();
         FlagResult<Exception> lossy = source.upcast();
-        assertInstanceOf(RuntimeException.class, lossy.error);
+        assertInstanceOf(RuntimeException.class, lossy.getErr());
     }
 
     @Test
@@ -305,7 +431,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var mapped = ok.mapErr(RuntimeException::new);
         assertTrue(mapped.isOk());
-        assertNotSame(ok, mapped);
+        assertSame(ok, mapped);
     }
 
     @Test
@@ -313,7 +439,7 @@ class FlagTest {
         var err = newErr();
         var mapped = err.mapErr(RuntimeException::new);
         assertTrue(mapped.isErr());
-        assertNotSame(err.error, mapped.error);
+        assertNotSame(err.getErr(), mapped.getErr());
     }
 
     @Test
@@ -362,7 +488,7 @@ class FlagTest {
         var flag = newErr();
         var populated = flag.populate("value");
         assertTrue(populated.isErr());
-        assertEquals(flag.error, populated.error);
+        assertEquals(flag.getErr(), populated.getErr());
     }
 
     @Test
@@ -387,7 +513,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var tainted = ok.taint(() -> ex);
         assertTrue(tainted.isErr());
-        assertEquals(ex, tainted.error);
+        assertEquals(ex, tainted.getErr());
     }
 
     @Test
@@ -397,7 +523,7 @@ class FlagTest {
         var err = FlagResult.err(ex1);
         var tainted = err.taint(() -> ex2);
         assertTrue(tainted.isErr());
-        assertNotSame(err, tainted);
+        assertSame(err, tainted);
         assertNotEquals(ex1, ex2);
     }
 
@@ -413,7 +539,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var tainted = ok.fork(() -> ex);
         assertTrue(tainted.isErr());
-        assertEquals(ex, tainted.error);
+        assertEquals(ex, tainted.getErr());
     }
 
     @Test
@@ -423,7 +549,7 @@ class FlagTest {
         var err = FlagResult.err(ex1);
         var tainted = err.fork(() -> ex2);
         assertTrue(tainted.isErr());
-        assertNotSame(err, tainted);
+        assertSame(err, tainted);
         assertNotEquals(ex1, ex2);
     }
 
@@ -443,7 +569,7 @@ class FlagTest {
         var fused = first.fuse(second);
 
         assertTrue(fused.isErr());
-        assertSame(ex1, fused.error);
+        assertSame(ex1, fused.getErr());
     }
 
     @Test
@@ -454,7 +580,7 @@ class FlagTest {
         var fused = first.fuse(second);
 
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
     }
 
     @Test
@@ -465,7 +591,7 @@ class FlagTest {
         var fused = first.fuse(second);
 
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
     }
 
     @Test
@@ -502,12 +628,12 @@ class FlagTest {
         var fused = first.fuse(second, TakeFrom.TAIL);
 
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
 
         fused = first.fuse(second, TakeFrom.HEAD);
 
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
     }
 
     @Test
@@ -518,11 +644,11 @@ class FlagTest {
         var fused = first.fuse(second, TakeFrom.TAIL);
 
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
 
         fused = first.fuse(second, TakeFrom.HEAD);
         assertTrue(fused.isErr());
-        assertSame(ex, fused.error);
+        assertSame(ex, fused.getErr());
     }
 
     @Test
@@ -534,7 +660,7 @@ class FlagTest {
         var fused = first.fuse(second, TakeFrom.TAIL);
 
         assertTrue(fused.isErr());
-        assertSame(ex2, fused.error);
+        assertSame(ex2, fused.getErr());
     }
 
     @Test
@@ -546,7 +672,7 @@ class FlagTest {
         var fused = first.fuse(second, TakeFrom.HEAD);
 
         assertTrue(fused.isErr());
-        assertSame(ex1, fused.error);
+        assertSame(ex1, fused.getErr());
     }
 
     @Test
@@ -620,7 +746,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var recover = ok.recover();
         assertTrue(recover.isOk());
-        assertNotSame(ok, recover);
+        assertSame(ok, recover);
     }
 
     @Test
@@ -635,7 +761,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var recover = ok.recover(Objects::nonNull);
         assertTrue(recover.isOk());
-        assertNotSame(ok, recover);
+        assertSame(ok, recover);
     }
 
     @Test
@@ -650,8 +776,8 @@ class FlagTest {
         var err = FlagResult.err(new NumberFormatException("nan"));
         var recover = err.recover(i -> i.getMessage().equals("number"));
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -664,7 +790,7 @@ class FlagTest {
         var ok = FlagResult.ok();
         var recover = ok.recover(RuntimeException.class);
         assertTrue(recover.isOk());
-        assertNotSame(ok, recover);
+        assertSame(ok, recover);
     }
 
     @Test
@@ -686,8 +812,8 @@ class FlagTest {
         FlagResult<Exception> err = FlagResult.err(new IOException("nan"));
         var recover = err.recover(RuntimeException.class);
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -695,8 +821,8 @@ class FlagTest {
         FlagResult<RuntimeException> err = FlagResult.err(new IllegalArgumentException("nan"));
         var recover = err.recover(IllegalStateException.class);
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -844,7 +970,75 @@ class FlagTest {
         assertThrows(IllegalArgumentException.class, () -> newErr().ifErr((Consumer<RuntimeException>) null));
     }
 
+    @Test
+    void should_return_same_err_on_pass_through() {
+        var err = newErr();
+        assertSame(err, FlagResult.from(err));
+        assertSame(err, err.flatMap(FlagResult::ok));
+        assertSame(err, err.upcast());
+        assertSame(err, err.taint(RuntimeException::new));
+        assertSame(err, err.fork(RuntimeException::new));
+        assertSame(err, err.recover(e -> false));
+        assertSame(err, err.recover(IllegalStateException.class));
+        assertSame(err, err.fuse(FlagResult.ok()));
+        assertSame(err, err.fuse(newErr(), TakeFrom.HEAD));
+        assertSame(err, FlagResult.<RuntimeException>ok().fuse(err));
+        assertSame(err, err.peek(() -> { }));
+        assertSame(err, err.peekErr(e -> { }));
+    }
+
+    @Test
+    void should_return_same_ok_on_pass_through() {
+        FlagResult<RuntimeException> ok = FlagResult.ok();
+        assertSame(ok, FlagResult.from(ok));
+        assertSame(ok, ok.mapErr(IllegalStateException::new));
+        assertSame(ok, ok.upcast());
+        assertSame(ok, ok.recover(e -> true));
+        assertSame(ok, ok.fuse(FlagResult.ok()));
+        assertSame(ok, ok.peek(() -> { }));
+    }
+
+    @Test
+    void should_not_allocate_on_pass_through() {
+        var err = newErr();
+        FlagResult<RuntimeException> ok = FlagResult.ok();
+        Allocations.assertNoAllocation(() -> FlagResult.from(err));
+        Allocations.assertNoAllocation(() -> err.flatMap(FlagResult::ok));
+        Allocations.assertNoAllocation(err::upcast);
+        Allocations.assertNoAllocation(() -> err.taint(RuntimeException::new));
+        Allocations.assertNoAllocation(() -> err.fork(RuntimeException::new));
+        Allocations.assertNoAllocation(() -> err.recover(e -> false));
+        Allocations.assertNoAllocation(() -> err.recover(IllegalStateException.class));
+        Allocations.assertNoAllocation(() -> err.fuse(ok));
+        Allocations.assertNoAllocation(() -> err.peekErr(e -> { }));
+        Allocations.assertNoAllocation(() -> ok.mapErr(IllegalStateException::new));
+        Allocations.assertNoAllocation(() -> ok.fuse(ok, TakeFrom.TAIL));
+        Allocations.assertNoAllocation(() -> ok.recover(e -> true));
+        Allocations.assertNoAllocation(Result.ok(1000)::drop);
+    }
+
+    @Test
+    void should_not_build_deferred_err_until_needed() {
+        var built = new AtomicInteger();
+        FlagResult<RuntimeException> err = FlagResult.err(IllegalStateException.class, (code, args) -> {
+            built.incrementAndGet();
+            return new IllegalStateException(code);
+        }, "code");
+
+        assertTrue(err.isErrAnd(IllegalStateException.class));
+        assertFalse(err.isErrAnd(IllegalArgumentException.class));
+        assertSame(err, err.recover(IllegalArgumentException.class));
+        assertTrue(err.populate(1).isErrAnd(IllegalStateException.class));
+        assertTrue(FlagResult.join(List.of(FlagResult.ok(), err)).isErr());
+        assertEquals(0, built.get());
+
+        assertEquals("code", err.getErr().getMessage());
+        assertSame(err.getErr(), err.populate(1).getErr());
+        assertThrows(IllegalStateException.class, err::unwrapChecked);
+        assertEquals(1, built.get());
+    }
+
     private static FlagResult<RuntimeException> newErr() {
-        return new FlagResult<>(new RuntimeException());
+        return FlagResult.err(new RuntimeException());
     }
 }
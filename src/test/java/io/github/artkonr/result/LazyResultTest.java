@@ -0,0 +1,254 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LazyResultTest {
+
+    @Test
+    void should_not_run_action_until_accessed() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.wrap(calls::incrementAndGet);
+        assertFalse(lazy.isEvaluated());
+        assertEquals(0, calls.get());
+        assertEquals("LazyResult[?]", lazy.toString());
+
+        assertTrue(lazy.isOk());
+        assertTrue(lazy.isEvaluated());
+        assertEquals(1, calls.get());
+        assertEquals("LazyResult[Result[ok=1]]", lazy.toString());
+    }
+
+    @Test
+    void should_run_action_once() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.wrap(calls::incrementAndGet);
+        assertEquals(1, lazy.unwrap());
+        assertEquals(1, lazy.unwrap());
+        assertSame(lazy.toResult(), lazy.toResult());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_stay_lazy_through_chain() {
+        var calls = new AtomicInteger();
+        var chained = LazyResult.wrap(calls::incrementAndGet)
+                .map(item -> item + 1)
+                .flatMap(item -> Result.<Integer, Exception>ok(item * 10))
+                .fork(item -> item > 100, item -> new IllegalStateException())
+                .mapErr(IllegalArgumentException::new)
+                .recover(err -> -1)
+                .peek(item -> calls.incrementAndGet());
+        assertEquals(0, calls.get());
+        assertEquals(Result.ok(20), chained.toResult());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void should_compute_parent_once_for_several_children() {
+        var calls = new AtomicInteger();
+        var parent = LazyResult.wrap(calls::incrementAndGet);
+        var left = parent.map(item -> item + 1);
+        var right = parent.map(item -> item + 2);
+        assertEquals(2, left.unwrap());
+        assertEquals(3, right.unwrap());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_wrap_error_lazily() {
+        var lazy = LazyResult.wrap(IOException.class, () -> { throw new IOException(); });
+        assertTrue(lazy.isErr());
+        assertInstanceOf(IOException.class, lazy.toResult().getErr());
+        assertThrows(IOException.class, lazy::unwrapChecked);
+        assertEquals(5, lazy.unwrapOr(5));
+        assertEquals(5, lazy.unwrapOr(() -> 5));
+    }
+
+    @Test
+    void should_throw_on_access_if_exact_wrap_catches_unexpected_error() {
+        var lazy = LazyResult.wrap(IOException.class, () -> { throw new IllegalStateException(); });
+        assertThrows(IllegalStateException.class, lazy::toResult);
+        assertFalse(lazy.isEvaluated());
+    }
+
+    @Test
+    void should_not_compute_untaken_branch() {
+        var calls = new AtomicInteger();
+        var fallback = LazyResult.wrap(calls::incrementAndGet);
+        assertEquals(10, Result.ok(10).unwrapOr(fallback::unwrap));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void should_flat_map_lazy_only_if_ok() {
+        var calls = new AtomicInteger();
+        LazyResult<Integer, RuntimeException> err = LazyResult.err(new IllegalStateException());
+        var chained = err.flatMapLazy(item -> LazyResult.of(() -> Result.ok(calls.incrementAndGet())));
+        assertTrue(chained.isErr());
+        assertEquals(0, calls.get());
+
+        LazyResult<Integer, RuntimeException> ok = LazyResult.ok(1);
+        assertEquals(1, ok.flatMapLazy(item -> LazyResult.of(() -> Result.ok(calls.incrementAndGet()))).unwrap());
+    }
+
+    @Test
+    void should_recover_lazily() {
+        LazyResult<Integer, RuntimeException> err = LazyResult.err(new IllegalStateException());
+        assertEquals(1, err.recover(IllegalStateException.class, e -> 1).unwrap());
+        assertEquals(2, err.recover(e -> true, e -> 2).unwrap());
+        assertTrue(err.recover(IllegalArgumentException.class, e -> 1).isErr());
+        assertTrue(LazyResult.ok(1).taint(i -> true, i -> new IOException()).isErr());
+    }
+
+    @Test
+    void should_mirror_strict_operators() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.wrap(calls::incrementAndGet);
+        var swapped = lazy.swap("one");
+        var upcast = lazy.upcast();
+        var forked = lazy.fork(IllegalStateException::new);
+        var tainted = lazy.taint(IOException::new);
+        assertEquals(0, calls.get());
+
+        assertEquals("one", swapped.get());
+        assertTrue(upcast.isOkAnd(i -> i == 1));
+        assertTrue(forked.isErrAnd(IllegalStateException.class));
+        assertInstanceOf(IOException.class, tainted.getErr());
+        assertThrows(IllegalStateException.class, lazy::getErr);
+        assertTrue(lazy.drop().isOk());
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void should_run_callbacks_by_state() {
+        List<Object> seen = new ArrayList<>();
+        LazyResult<Integer, RuntimeException> ok = LazyResult.ok(1);
+        LazyResult<Integer, RuntimeException> err = LazyResult.err(new IllegalStateException());
+        ok.ifOk(seen::add);
+        ok.ifOk(() -> seen.add("ok"));
+        ok.ifErr(seen::add);
+        err.ifOk(seen::add);
+        err.ifErr(() -> seen.add("err"));
+        err.ifErr(e -> seen.add(e.getClass()));
+        assertEquals(List.of(1, "ok", "err", IllegalStateException.class), seen);
+        assertThrows(IllegalStateException.class, err::get);
+        assertTrue(err.isErrAnd(e -> e instanceof IllegalStateException));
+        assertThrows(Failure.class, err::unwrapStackless);
+    }
+
+    @Test
+    void should_retry_after_failed_computation() {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.wrap(IOException.class, () -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException();
+            }
+            return calls.get();
+        });
+        assertThrows(IllegalStateException.class, lazy::toResult);
+        assertEquals(2, lazy.unwrap());
+        assertEquals(2, lazy.unwrap());
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void should_throw_if_accessed_from_own_computation() {
+        var self = new AtomicReference<LazyResult<Integer, RuntimeException>>();
+        LazyResult<Integer, RuntimeException> lazy = LazyResult.of(() -> self.get().map(item -> item + 1).toResult());
+        self.set(lazy);
+        assertThrows(IllegalStateException.class, lazy::toResult);
+        assertFalse(lazy.isEvaluated());
+    }
+
+    @Test
+    void should_throw_if_interrupted_while_waiting() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        var lazy = LazyResult.wrap(() -> {
+            started.countDown();
+            release.await();
+            return 1;
+        });
+        var computing = new Thread(lazy::unwrap);
+        computing.start();
+        started.await();
+
+        var failure = new AtomicReference<Throwable>();
+        var interrupted = new AtomicReference<Boolean>();
+        var waiting = new Thread(() -> {
+            try {
+                lazy.toResult();
+            } catch (Failure ex) {
+                failure.set(ex.getCause());
+                interrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiting.start();
+        waiting.interrupt();
+        waiting.join();
+        assertInstanceOf(InterruptedException.class, failure.get());
+        assertTrue(interrupted.get());
+
+        release.countDown();
+        computing.join();
+        assertEquals(1, lazy.unwrap());
+    }
+
+    @Test
+    void should_create_evaluated_instances() {
+        assertTrue(LazyResult.ok(1).isEvaluated());
+        assertTrue(LazyResult.err(new RuntimeException()).isEvaluated());
+        var strict = Result.ok(1);
+        assertSame(strict, LazyResult.from(strict).toResult());
+    }
+
+    @Test
+    void should_throw_if_computed_to_null() {
+        LazyResult<Integer, RuntimeException> lazy = LazyResult.of(() -> null);
+        assertThrows(IllegalArgumentException.class, lazy::toResult);
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> LazyResult.wrap(null));
+        assertThrows(IllegalArgumentException.class, () -> LazyResult.wrap(null, () -> 1));
+        assertThrows(IllegalArgumentException.class, () -> LazyResult.of(null));
+        assertThrows(IllegalArgumentException.class, () -> LazyResult.ok(1).map(null));
+        assertThrows(IllegalArgumentException.class, () -> LazyResult.ok(1).recover(null));
+    }
+
+    @Test
+    void should_compute_once_under_contention() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var lazy = LazyResult.wrap(calls::incrementAndGet);
+        var start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                lazy.unwrap();
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,519 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.function.Executable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PrimitiveResultTest {
+
+    static Stream<Kind<?>> kinds() {
+        return Stream.of(new IntKind(), new LongKind(), new DoubleKind());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_wrap_as_ok_if_action_does_not_throw(Kind<R> kind) {
+        var wrapped = kind.wrap(() -> 1);
+        assertTrue(wrapped.isOk());
+        assertEquals(kind.of(1), wrapped.get());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_lossy_wrap_unknown_error(Kind<R> kind) {
+        var wrapped = kind.wrap(() -> { throw new IOException(); });
+        assertTrue(wrapped.isErr());
+        assertInstanceOf(IOException.class, wrapped.getErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_exact_wrap_known_error(Kind<R> kind) {
+        var wrapped = kind.wrap(IOException.class, () -> { throw new IOException(); });
+        assertTrue(wrapped.isErr());
+        assertInstanceOf(IOException.class, wrapped.getErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_throw_if_exact_wrap_catches_unexpected_error(Kind<R> kind) {
+        assertThrows(IllegalStateException.class, () -> kind.wrap(
+                IOException.class,
+                () -> { throw new IllegalStateException(); }
+        ));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_throw_when_wrapping_if_null_arguments_provided(Kind<R> kind) {
+        assertThrows(IllegalArgumentException.class, () -> kind.wrap(null));
+        assertThrows(IllegalArgumentException.class, () -> kind.wrap(IOException.class, null));
+        assertThrows(IllegalArgumentException.class, () -> kind.wrap(null, () -> 1));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_convert_from_and_to_boxed(Kind<R> kind) {
+        assertEquals(Result.ok(kind.of(1)), kind.wrap(() -> 1));
+        var ok = kind.ok(1);
+        assertEquals(ok, kind.reboxed(ok));
+
+        var err = kind.err(new RuntimeException());
+        assertSame(err.getErr(), kind.reboxed(err).getErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_not_build_deferred_err_when_converting(Kind<R> kind) {
+        var built = new AtomicInteger();
+        R err = kind.from(Result.err(IllegalStateException.class, (code, args) -> {
+            built.incrementAndGet();
+            return new IllegalStateException(String.format(code, args));
+        }, "code %d", 1));
+
+        assertTrue(err.isErrAnd(IllegalStateException.class));
+        assertFalse(err.isErrAnd(IOException.class));
+        assertTrue(kind.reboxed(err).isErrAnd(IllegalStateException.class));
+        assertTrue(err.drop().isErrAnd(IllegalStateException.class));
+        assertEquals(kind.of(5), kind.unwrapOr(err, 5));
+        assertEquals(0, built.get());
+
+        assertEquals("code 1", err.getErr().getMessage());
+        assertEquals(1, built.get());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_map_if_ok(Kind<R> kind) {
+        assertEquals(kind.of(1 + 1), kind.get(kind.add(kind.ok(1), 1)));
+        assertEquals(Result.ok(String.valueOf(kind.of(1))), kind.mapToString(kind.ok(1)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_not_map_if_err(Kind<R> kind) {
+        var err = kind.err(new RuntimeException());
+        assertSame(err, kind.add(err, 1));
+        assertTrue(kind.mapToString(err).isErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_flat_map_if_ok(Kind<R> kind) {
+        assertEquals(kind.of(1 + 1), kind.get(kind.flatAdd(kind.ok(1), 1)));
+        var err = kind.err(new RuntimeException());
+        assertSame(err, kind.flatAdd(err, 1));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_fuse_into_ok_if_both_ok(Kind<R> kind) {
+        var fused = kind.sum(kind.ok(1), kind.ok(2), TakeFrom.HEAD);
+        assertEquals(kind.of(1 + 2), kind.get(fused));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_fuse_into_err_with_rule(Kind<R> kind) {
+        var head = kind.err(new RuntimeException());
+        var tail = kind.err(new RuntimeException());
+        assertSame(head, kind.sum(head, tail, TakeFrom.HEAD));
+        assertSame(tail, kind.sum(head, tail, TakeFrom.TAIL));
+        assertSame(tail, kind.sum(kind.ok(1), tail, TakeFrom.HEAD));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_unwrap_or_fallback(Kind<R> kind) {
+        var err = kind.err(new RuntimeException());
+        assertEquals(kind.of(1), kind.unwrapOr(kind.ok(1), 2));
+        assertEquals(kind.of(2), kind.unwrapOr(err, 2));
+        assertEquals(kind.of(1), kind.unwrapOrGet(kind.ok(1), 2));
+        assertEquals(kind.of(2), kind.unwrapOrGet(err, 2));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_unwrap(Kind<R> kind) {
+        var err = kind.err(new RuntimeException());
+        assertEquals(kind.of(1), kind.unwrap(kind.ok(1)));
+        assertThrows(Failure.class, () -> kind.unwrap(err));
+        assertThrows(RuntimeException.class, () -> kind.unwrapChecked(err));
+        assertThrows(IllegalStateException.class, () -> kind.get(err));
+        assertThrows(IllegalStateException.class, () -> kind.ok(1).getErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_recover_if_err(Kind<R> kind) {
+        var ok = kind.ok(1);
+        var err = kind.err(new RuntimeException());
+        assertEquals(kind.of(2), kind.get(kind.recover(err, 2)));
+        assertSame(ok, kind.recover(ok, 2));
+        assertSame(err, kind.recoverIf(err, false, 2));
+        assertEquals(kind.of(2), kind.get(kind.recoverIf(err, true, 2)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_taint_and_fork_if_ok(Kind<R> kind) {
+        assertTrue(kind.ok(1).taint(IOException::new).isErrAnd(IOException.class));
+        assertTrue(kind.ok(1).fork(IllegalStateException::new).isErrAnd(IllegalStateException.class));
+        var err = kind.err(new RuntimeException());
+        assertSame(err, err.fork(IllegalStateException::new));
+        assertSame(err, err.taint(IOException::new));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_map_err_if_err(Kind<R> kind) {
+        var ok = kind.ok(1);
+        assertSame(ok, ok.mapErr(IllegalStateException::new));
+        var err = kind.err(new RuntimeException());
+        assertTrue(err.mapErr(IllegalStateException::new).isErrAnd(IllegalStateException.class));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_peek_and_consume(Kind<R> kind) {
+        AtomicReference<Object> seen = new AtomicReference<>();
+        kind.peek(kind.ok(1), seen::set);
+        assertEquals(kind.of(1), seen.get());
+        kind.peek(kind.err(new RuntimeException()), seen::set).peekErr(seen::set);
+        assertInstanceOf(RuntimeException.class, seen.get());
+        kind.ifOk(kind.ok(1).peekErr(seen::set), seen::set);
+        assertEquals(kind.of(1), seen.get());
+        kind.ifOk(kind.err(new RuntimeException()), seen::set);
+        assertInstanceOf(Number.class, seen.get());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_evaluate_as_ok(Kind<R> kind) {
+        assertTrue(kind.isPositive(kind.ok(1)));
+        assertFalse(kind.isPositive(kind.ok(-1)));
+        assertFalse(kind.isPositive(kind.err(new RuntimeException())));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_drop(Kind<R> kind) {
+        assertTrue(kind.ok(1).drop().isOk());
+        var err = kind.err(new RuntimeException());
+        assertSame(err.getErr(), err.drop().getErr());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_compare_and_show(Kind<R> kind) {
+        assertEquals(kind.ok(1), kind.ok(1));
+        assertEquals(kind.ok(1).hashCode(), kind.ok(1).hashCode());
+        assertNotEquals(kind.ok(1), kind.ok(2));
+        assertNotEquals(kind.ok(1), Result.ok(kind.of(1)));
+        assertEquals(kind + "[ok=" + kind.of(1) + "]", kind.ok(1).toString());
+
+        var ex = new RuntimeException();
+        assertEquals(kind.err(ex), kind.err(ex));
+        assertEquals(kind.err(ex).hashCode(), kind.err(ex).hashCode());
+        assertNotEquals(kind.err(ex), kind.ok(0));
+        assertNotEquals(kind.err(ex), Result.err(ex));
+        assertEquals(kind + "[err=" + ex + "]", kind.err(ex).toString());
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_throw_if_null_arguments_provided(Kind<R> kind) {
+        assertThrows(IllegalArgumentException.class, () -> kind.err(null));
+        assertThrows(IllegalArgumentException.class, () -> kind.ok(1).peekErr(null));
+        assertThrows(IllegalArgumentException.class, () -> kind.ok(1).fork(null));
+        for (Executable call : kind.nullArguments(kind.ok(1), kind.err(new RuntimeException()))) {
+            assertThrows(IllegalArgumentException.class, call);
+        }
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("kinds")
+    <R extends PrimitiveResult<RuntimeException, R>> void should_not_allocate_on_primitive_path(Kind<R> kind) {
+        for (Runnable call : kind.primitivePath(kind.ok(1))) {
+            Allocations.assertNoAllocation(call);
+        }
+    }
+
+    /**
+     * Adapts a primitive specialization to the shared tests. Items
+     *  are given as {@code int} and widened to the specialized type;
+     *  items read back are boxed for comparison.
+     * @param <R> specialization type
+     */
+    interface Kind<R extends PrimitiveResult<RuntimeException, R>> {
+
+        Number of(int item);
+
+        R ok(int item);
+
+        R err(RuntimeException error);
+
+        Result<? extends Number, Exception> wrap(Wrap.Supplier<Integer> action);
+
+        <X extends Exception> Result<? extends Number, X> wrap(Class<X> type, Wrap.Supplier<Integer> action);
+
+        R reboxed(R result);
+
+        R from(Result<Integer, RuntimeException> source);
+
+        Number get(R result);
+
+        boolean isPositive(R result);
+
+        R add(R result, int delta);
+
+        R flatAdd(R result, int delta);
+
+        Result<String, RuntimeException> mapToString(R result);
+
+        R sum(R left, R right, TakeFrom rule);
+
+        R recover(R result, int item);
+
+        R recoverIf(R result, boolean condition, int item);
+
+        R peek(R result, Consumer<Object> consumer);
+
+        void ifOk(R result, Consumer<Object> consumer);
+
+        Number unwrapOr(R result, int fallback);
+
+        Number unwrapOrGet(R result, int fallback);
+
+        Number unwrap(R result);
+
+        Number unwrapChecked(R result);
+
+        List<Executable> nullArguments(R ok, R err);
+
+        List<Runnable> primitivePath(R ok);
+    }
+
+    static final class IntKind implements Kind<IntResult<RuntimeException>> {
+
+        @Override public Number of(int item) { return item; }
+        @Override public IntResult<RuntimeException> ok(int item) { return IntResult.ok(item); }
+        @Override public IntResult<RuntimeException> err(RuntimeException error) { return IntResult.err(error); }
+        @Override public Result<Integer, Exception> wrap(Wrap.Supplier<Integer> action) {
+            return IntResult.wrap(action == null ? null : action::get).boxed();
+        }
+        @Override public <X extends Exception> Result<Integer, X> wrap(Class<X> type, Wrap.Supplier<Integer> action) {
+            return IntResult.wrap(type, action == null ? null : action::get).boxed();
+        }
+        @Override public IntResult<RuntimeException> reboxed(IntResult<RuntimeException> result) { return IntResult.from(result.boxed()); }
+        @Override public IntResult<RuntimeException> from(Result<Integer, RuntimeException> source) { return IntResult.from(source); }
+        @Override public Number get(IntResult<RuntimeException> result) { return result.get(); }
+        @Override public boolean isPositive(IntResult<RuntimeException> result) { return result.isOkAnd(item -> item > 0); }
+        @Override public IntResult<RuntimeException> add(IntResult<RuntimeException> result, int delta) { return result.map(item -> item + delta); }
+        @Override public IntResult<RuntimeException> flatAdd(IntResult<RuntimeException> result, int delta) {
+            return result.flatMap(item -> IntResult.ok(item + delta));
+        }
+        @Override public Result<String, RuntimeException> mapToString(IntResult<RuntimeException> result) {
+            return result.mapToObj(String::valueOf);
+        }
+        @Override public IntResult<RuntimeException> sum(IntResult<RuntimeException> left, IntResult<RuntimeException> right, TakeFrom rule) {
+            return left.fuse(right, Integer::sum, rule);
+        }
+        @Override public IntResult<RuntimeException> recover(IntResult<RuntimeException> result, int item) { return result.recover(err -> item); }
+        @Override public IntResult<RuntimeException> recoverIf(IntResult<RuntimeException> result, boolean condition, int item) {
+            return result.recover(err -> condition, err -> item);
+        }
+        @Override public IntResult<RuntimeException> peek(IntResult<RuntimeException> result, Consumer<Object> consumer) {
+            return result.peek(consumer::accept);
+        }
+        @Override public void ifOk(IntResult<RuntimeException> result, Consumer<Object> consumer) {
+            result.ifOk((int item) -> consumer.accept(item));
+        }
+        @Override public Number unwrapOr(IntResult<RuntimeException> result, int fallback) { return result.unwrapOr(fallback); }
+        @Override public Number unwrapOrGet(IntResult<RuntimeException> result, int fallback) { return result.unwrapOr(() -> fallback); }
+        @Override public Number unwrap(IntResult<RuntimeException> result) { return result.unwrap(); }
+        @Override public Number unwrapChecked(IntResult<RuntimeException> result) { return result.unwrapChecked(); }
+
+        @Override
+        public List<Executable> nullArguments(IntResult<RuntimeException> ok, IntResult<RuntimeException> err) {
+            return List.of(
+                    () -> IntResult.from(null),
+                    () -> ok.map(null),
+                    () -> err.map(null),
+                    () -> ok.mapToObj(item -> null),
+                    () -> ok.flatMap(item -> null),
+                    () -> ok.fuse(null, null),
+                    () -> err.recover(null)
+            );
+        }
+
+        @Override
+        public List<Runnable> primitivePath(IntResult<RuntimeException> ok) {
+            return List.of(
+                    () -> ok.unwrapOr(2),
+                    () -> ok.isOkAnd(item -> item > 0),
+                    () -> ok.recover(err -> 2)
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "IntResult";
+        }
+    }
+
+    static final class LongKind implements Kind<LongResult<RuntimeException>> {
+
+        @Override public Number of(int item) { return (long) item; }
+        @Override public LongResult<RuntimeException> ok(int item) { return LongResult.ok(item); }
+        @Override public LongResult<RuntimeException> err(RuntimeException error) { return LongResult.err(error); }
+        @Override public Result<Long, Exception> wrap(Wrap.Supplier<Integer> action) {
+            return LongResult.wrap(action == null ? null : action::get).boxed();
+        }
+        @Override public <X extends Exception> Result<Long, X> wrap(Class<X> type, Wrap.Supplier<Integer> action) {
+            return LongResult.wrap(type, action == null ? null : action::get).boxed();
+        }
+        @Override public LongResult<RuntimeException> reboxed(LongResult<RuntimeException> result) { return LongResult.from(result.boxed()); }
+        @Override public LongResult<RuntimeException> from(Result<Integer, RuntimeException> source) {
+            return LongResult.from(source.map(Integer::longValue));
+        }
+        @Override public Number get(LongResult<RuntimeException> result) { return result.get(); }
+        @Override public boolean isPositive(LongResult<RuntimeException> result) { return result.isOkAnd(item -> item > 0); }
+        @Override public LongResult<RuntimeException> add(LongResult<RuntimeException> result, int delta) {
+            return result.map(item -> item + delta);
+        }
+        @Override public LongResult<RuntimeException> flatAdd(LongResult<RuntimeException> result, int delta) {
+            return result.flatMap(item -> LongResult.ok(item + delta));
+        }
+        @Override public Result<String, RuntimeException> mapToString(LongResult<RuntimeException> result) {
+            return result.mapToObj(String::valueOf);
+        }
+        @Override public LongResult<RuntimeException> sum(LongResult<RuntimeException> left, LongResult<RuntimeException> right, TakeFrom rule) {
+            return left.fuse(right, Long::sum, rule);
+        }
+        @Override public LongResult<RuntimeException> recover(LongResult<RuntimeException> result, int item) { return result.recover(err -> item); }
+        @Override public LongResult<RuntimeException> recoverIf(LongResult<RuntimeException> result, boolean condition, int item) {
+            return result.recover(err -> condition, err -> item);
+        }
+        @Override public LongResult<RuntimeException> peek(LongResult<RuntimeException> result, Consumer<Object> consumer) {
+            return result.peek(consumer::accept);
+        }
+        @Override public void ifOk(LongResult<RuntimeException> result, Consumer<Object> consumer) {
+            result.ifOk((long item) -> consumer.accept(item));
+        }
+        @Override public Number unwrapOr(LongResult<RuntimeException> result, int fallback) { return result.unwrapOr(fallback); }
+        @Override public Number unwrapOrGet(LongResult<RuntimeException> result, int fallback) { return result.unwrapOr(() -> fallback); }
+        @Override public Number unwrap(LongResult<RuntimeException> result) { return result.unwrap(); }
+        @Override public Number unwrapChecked(LongResult<RuntimeException> result) { return result.unwrapChecked(); }
+
+        @Override
+        public List<Executable> nullArguments(LongResult<RuntimeException> ok, LongResult<RuntimeException> err) {
+            return List.of(
+                    () -> LongResult.from(null),
+                    () -> ok.map(null),
+                    () -> err.map(null),
+                    () -> ok.mapToObj(item -> null),
+                    () -> ok.flatMap(item -> null),
+                    () -> ok.fuse(null, null),
+                    () -> err.recover(null)
+            );
+        }
+
+        @Override
+        public List<Runnable> primitivePath(LongResult<RuntimeException> ok) {
+            return List.of(
+                    () -> ok.unwrapOr(2),
+                    () -> ok.isOkAnd(item -> item > 0),
+                    () -> ok.recover(err -> 2)
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "LongResult";
+        }
+    }
+
+    static final class DoubleKind implements Kind<DoubleResult<RuntimeException>> {
+
+        @Override public Number of(int item) { return (double) item; }
+        @Override public DoubleResult<RuntimeException> ok(int item) { return DoubleResult.ok(item); }
+        @Override public DoubleResult<RuntimeException> err(RuntimeException error) { return DoubleResult.err(error); }
+        @Override public Result<Double, Exception> wrap(Wrap.Supplier<Integer> action) {
+            return DoubleResult.wrap(action == null ? null : action::get).boxed();
+        }
+        @Override public <X extends Exception> Result<Double, X> wrap(Class<X> type, Wrap.Supplier<Integer> action) {
+            return DoubleResult.wrap(type, action == null ? null : action::get).boxed();
+        }
+        @Override public DoubleResult<RuntimeException> reboxed(DoubleResult<RuntimeException> result) { return DoubleResult.from(result.boxed()); }
+        @Override public DoubleResult<RuntimeException> from(Result<Integer, RuntimeException> source) {
+            return DoubleResult.from(source.map(Integer::doubleValue));
+        }
+        @Override public Number get(DoubleResult<RuntimeException> result) { return result.get(); }
+        @Override public boolean isPositive(DoubleResult<RuntimeException> result) { return result.isOkAnd(item -> item > 0); }
+        @Override public DoubleResult<RuntimeException> add(DoubleResult<RuntimeException> result, int delta) {
+            return result.map(item -> item + delta);
+        }
+        @Override public DoubleResult<RuntimeException> flatAdd(DoubleResult<RuntimeException> result, int delta) {
+            return result.flatMap(item -> DoubleResult.ok(item + delta));
+        }
+        @Override public Result<String, RuntimeException> mapToString(DoubleResult<RuntimeException> result) {
+            return result.mapToObj(String::valueOf);
+        }
+        @Override public DoubleResult<RuntimeException> sum(DoubleResult<RuntimeException> left, DoubleResult<RuntimeException> right, TakeFrom rule) {
+            return left.fuse(right, Double::sum, rule);
+        }
+        @Override public DoubleResult<RuntimeException> recover(DoubleResult<RuntimeException> result, int item) {
+            return result.recover(err -> item);
+        }
+        @Override public DoubleResult<RuntimeException> recoverIf(DoubleResult<RuntimeException> result, boolean condition, int item) {
+            return result.recover(err -> condition, err -> item);
+        }
+        @Override public DoubleResult<RuntimeException> peek(DoubleResult<RuntimeException> result, Consumer<Object> consumer) {
+            return result.peek(consumer::accept);
+        }
+        @Override public void ifOk(DoubleResult<RuntimeException> result, Consumer<Object> consumer) {
+            result.ifOk((double item) -> consumer.accept(item));
+        }
+        @Override public Number unwrapOr(DoubleResult<RuntimeException> result, int fallback) { return result.unwrapOr(fallback); }
+        @Override public Number unwrapOrGet(DoubleResult<RuntimeException> result, int fallback) { return result.unwrapOr(() -> fallback); }
+        @Override public Number unwrap(DoubleResult<RuntimeException> result) { return result.unwrap(); }
+        @Override public Number unwrapChecked(DoubleResult<RuntimeException> result) { return result.unwrapChecked(); }
+
+        @Override
+        public List<Executable> nullArguments(DoubleResult<RuntimeException> ok, DoubleResult<RuntimeException> err) {
+            return List.of(
+                    () -> DoubleResult.from(null),
+                    () -> ok.map(null),
+                    () -> err.map(null),
+                    () -> ok.mapToObj(item -> null),
+                    () -> ok.flatMap(item -> null),
+                    () -> ok.fuse(null, null),
+                    () -> err.recover(null)
+            );
+        }
+
+        @Override
+        public List<Runnable> primitivePath(DoubleResult<RuntimeException> ok) {
+            return List.of(
+                    () -> ok.unwrapOr(2),
+                    () -> ok.isOkAnd(item -> item > 0),
+                    () -> ok.recover(err -> 2)
+            );
+        }
+
+        @Override
+        public String toString() {
+            return "DoubleResult";
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultAccumulatorTest {
+
+    @Test
+    void should_accumulate_into_ok_if_all_ok() {
+        ResultAccumulator<Integer, RuntimeException> accumulator = ResultAccumulator.create();
+        assertTrue(accumulator.add(ok(1)));
+        assertTrue(accumulator.add(null));
+        assertTrue(accumulator.add(ok(2)));
+        assertFalse(accumulator.isDecided());
+
+        var result = accumulator.toResult();
+        assertEquals(List.of(1, 2), result.get());
+        assertThrows(UnsupportedOperationException.class, () -> result.get().add(3));
+        assertTrue(accumulator.toFlagResult().isOk());
+        assertEquals(2, accumulator.okCount());
+        assertEquals("ResultAccumulator[ok=2, err=0]", accumulator.toString());
+    }
+
+    @Test
+    void should_refuse_results_once_decided() {
+        ResultAccumulator<Integer, RuntimeException> accumulator = ResultAccumulator.create(TakeFrom.HEAD);
+        var first = err("1");
+        assertTrue(accumulator.add(ok(1)));
+        assertTrue(accumulator.add(first));
+        assertTrue(accumulator.isDecided());
+        assertFalse(accumulator.add(ok(2)));
+        assertFalse(accumulator.add(err("2")));
+
+        assertSame(first.getErr(), accumulator.toResult().getErr());
+        assertSame(first.getErr(), accumulator.toFlagResult().getErr());
+        assertEquals(1, accumulator.okCount());
+        assertEquals(1, accumulator.errCount());
+    }
+
+    @Test
+    void should_take_last_error_with_tail_rule() {
+        ResultAccumulator<Integer, RuntimeException> accumulator = ResultAccumulator.create(TakeFrom.TAIL);
+        var second = err("2");
+        assertTrue(accumulator.add(err("1")));
+        assertTrue(accumulator.add(ok(1)));
+        assertTrue(accumulator.add(second));
+        assertFalse(accumulator.isDecided());
+        assertSame(second.getErr(), accumulator.toResult().getErr());
+        assertEquals(2, accumulator.errCount());
+    }
+
+    @Test
+    void should_release_items_once_error_seen() {
+        for (TakeFrom rule : TakeFrom.values()) {
+            for (ResultAccumulator<Integer, RuntimeException> accumulator : List.of(
+                    ResultAccumulator.<Integer, RuntimeException>create(rule),
+                    ResultAccumulator.<Integer, RuntimeException>concurrent(rule))) {
+                accumulator.add(ok(1));
+                assertEquals(List.of(1), accumulator.items());
+                accumulator.add(err("1"));
+                accumulator.add(ok(2));
+                assertNull(accumulator.items());
+                assertTrue(accumulator.toResult().isErr());
+            }
+        }
+    }
+
+    @Test
+    void should_accumulate_as_join() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        IntStream.range(0, 100).forEach(i -> results.add(i % 10 == 7 ? err(String.valueOf(i)) : ok(i)));
+        for (TakeFrom rule : TakeFrom.values()) {
+            ResultAccumulator<Integer, RuntimeException> accumulator = ResultAccumulator.create(rule);
+            results.forEach(accumulator::add);
+            assertSame(Result.join(results, rule).getErr(), accumulator.toResult().getErr());
+        }
+    }
+
+    @Test
+    void should_accumulate_from_concurrent_producers() throws InterruptedException {
+        ResultAccumulator<Integer, RuntimeException> accumulator = ResultAccumulator.concurrent(TakeFrom.HEAD);
+        var start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    accumulator.add(ok(i));
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(4_000, accumulator.okCount());
+        assertEquals(4_000, accumulator.toResult().get().size());
+
+        var first = err("1");
+        assertTrue(accumulator.add(first));
+        assertFalse(accumulator.add(err("2")));
+        assertTrue(accumulator.isDecided());
+        assertSame(first.getErr(), accumulator.toResult().getErr());
+        assertEquals(1, accumulator.errCount());
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> ResultAccumulator.create(null));
+        assertThrows(IllegalArgumentException.class, () -> ResultAccumulator.concurrent(null));
+    }
+
+    private Result<Integer, RuntimeException> ok(int item) {
+        return Result.ok(item);
+    }
+
+    private Result<Integer, RuntimeException> err(String message) {
+        return Result.err(new RuntimeException(message));
+    }
+}
@@ -0,0 +1,281 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void should_load_once_and_serve_hits() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder().build();
+        var first = cache.get("a", calls::incrementAndGet);
+        assertEquals(1, first.get());
+        assertSame(first, cache.get("a", calls::incrementAndGet));
+        assertEquals(1, calls.get());
+        assertEquals(new ResultCache.Stats(1, 1, 0, 0, 0), cache.stats());
+        assertEquals(0.5, cache.stats().hitRate());
+    }
+
+    @Test
+    void should_expire_ok_entries() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder().okTtl(Duration.ofSeconds(1)).build();
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        advance(Duration.ofMillis(999));
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        advance(Duration.ofMillis(1));
+        assertTrue(cache.getIfPresent("a").isEmpty());
+        assertEquals(2, cache.get("a", calls::incrementAndGet).get());
+    }
+
+    @Test
+    void should_not_cache_errors_by_default() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder().build();
+        Wrap.Supplier<Integer> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        };
+        assertTrue(cache.get("a", failing).isErr());
+        assertTrue(cache.get("a", failing).isErr());
+        assertEquals(2, calls.get());
+        assertEquals(0, cache.size());
+        assertEquals(2, cache.stats().loadErrors());
+    }
+
+    @Test
+    void should_cache_errors_for_their_own_ttl() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder()
+                .errTtl(Duration.ofSeconds(1))
+                .build();
+        Wrap.Supplier<Integer> failing = () -> {
+            calls.incrementAndGet();
+            throw new IOException();
+        };
+        var err = cache.get("a", failing);
+        assertSame(err, cache.get("a", failing));
+        assertEquals(1, calls.get());
+
+        advance(Duration.ofSeconds(1));
+        assertEquals(1, cache.get("a", () -> 1).get());
+    }
+
+    @Test
+    void should_not_cache_unexpected_errors() {
+        ResultCache<String, Integer, IOException> cache = builder().errTtl(Duration.ofSeconds(1)).build();
+        assertThrows(IllegalStateException.class, () -> cache.get("a", () -> { throw new IllegalStateException(); }));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.get("a", () -> 1).get());
+    }
+
+    @Test
+    void should_refresh_ahead_of_expiry() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder()
+                .okTtl(Duration.ofSeconds(10))
+                .refreshAfter(Duration.ofSeconds(5))
+                .executor(Runnable::run)
+                .build();
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        advance(Duration.ofSeconds(5));
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        assertEquals(2, cache.get("a", calls::incrementAndGet).get());
+        assertEquals(1, cache.stats().refreshes());
+
+        advance(Duration.ofSeconds(9));
+        assertEquals(2, cache.get("a", calls::incrementAndGet).get());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    void should_keep_old_result_if_refresh_fails() {
+        var fail = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder()
+                .refreshAfter(Duration.ofSeconds(5))
+                .executor(Runnable::run)
+                .build();
+        Wrap.Supplier<Integer> loader = () -> {
+            if (fail.getAndIncrement() > 0) {
+                throw new IOException();
+            }
+            return 1;
+        };
+        assertEquals(1, cache.get("a", loader).get());
+        advance(Duration.ofSeconds(5));
+        assertEquals(1, cache.get("a", loader).get());
+        assertEquals(1, cache.get("a", loader).get());
+        assertEquals(0, cache.stats().refreshes());
+        assertTrue(cache.stats().loadErrors() > 0);
+    }
+
+    @Test
+    void should_retry_refresh_rejected_by_executor() {
+        var calls = new AtomicInteger();
+        var reject = new AtomicBoolean(true);
+        ResultCache<String, Integer, IOException> cache = builder()
+                .refreshAfter(Duration.ofSeconds(5))
+                .executor(task -> {
+                    if (reject.get()) {
+                        throw new RejectedExecutionException();
+                    }
+                    task.run();
+                })
+                .build();
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        advance(Duration.ofSeconds(5));
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        reject.set(false);
+        assertEquals(1, cache.get("a", calls::incrementAndGet).get());
+        assertEquals(2, cache.get("a", calls::incrementAndGet).get());
+    }
+
+    @Test
+    void should_evict_under_concurrent_access() throws InterruptedException {
+        ResultCache<String, Integer, IOException> cache = ResultCache.<String, Integer, IOException>builder(IOException.class)
+                .maximumSize(64)
+                .build();
+        var failures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    for (int i = 0; i < 5_000; i++) {
+                        int item = i;
+                        cache.get(String.valueOf((i * 7 + offset) % 512), () -> item);
+                    }
+                } catch (RuntimeException ex) {
+                    failures.incrementAndGet();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, failures.get());
+        assertTrue(cache.size() <= 64 + threads.size());
+    }
+
+    @Test
+    void should_evict_least_recently_used() {
+        ResultCache<String, Integer, IOException> cache = builder().maximumSize(10).build();
+        for (int i = 0; i < 10; i++) {
+            int item = i;
+            advance(Duration.ofMillis(1));
+            cache.get("k" + i, () -> item);
+        }
+        advance(Duration.ofMillis(1));
+        cache.get("k0", () -> -1);
+
+        advance(Duration.ofMillis(1));
+        cache.get("k10", () -> 10);
+        assertEquals(9, cache.size());
+        assertEquals(2, cache.stats().evictions());
+        assertTrue(cache.getIfPresent("k0").isPresent());
+        assertTrue(cache.getIfPresent("k1").isEmpty());
+        assertTrue(cache.getIfPresent("k2").isEmpty());
+        assertTrue(cache.getIfPresent("k10").isPresent());
+    }
+
+    @Test
+    void should_evict_expired_first() {
+        ResultCache<String, Integer, IOException> cache = builder()
+                .okTtl(Duration.ofSeconds(1))
+                .maximumSize(2)
+                .build();
+        cache.get("k0", () -> 0);
+        advance(Duration.ofSeconds(1));
+        cache.get("k1", () -> 1);
+        cache.get("k2", () -> 2);
+        assertEquals(2, cache.size());
+        assertTrue(cache.getIfPresent("k1").isPresent());
+    }
+
+    @Test
+    void should_invalidate() {
+        var calls = new AtomicInteger();
+        ResultCache<String, Integer, IOException> cache = builder().build();
+        cache.get("a", calls::incrementAndGet);
+        cache.get("b", calls::incrementAndGet);
+        cache.invalidate("a");
+        assertEquals(3, cache.get("a", calls::incrementAndGet).get());
+        cache.invalidateAll();
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void should_share_load_under_contention() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var loading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ResultCache<String, Integer, IOException> cache = ResultCache.<String, Integer, IOException>builder(IOException.class).build();
+        Wrap.Supplier<Integer> loader = () -> {
+            calls.incrementAndGet();
+            loading.countDown();
+            awaitQuietly(release);
+            return 1;
+        };
+
+        List<Thread> threads = new ArrayList<>();
+        var results = new AtomicInteger();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> results.addAndGet(cache.get("a", loader).get()));
+            thread.start();
+            threads.add(thread);
+        }
+
+        loading.await();
+        release.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(8, results.get());
+        assertTrue(calls.get() <= 8);
+        assertEquals(1, cache.get("a", loader).get());
+    }
+
+    @Test
+    void should_throw_if_invalid_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> ResultCache.builder(null));
+        var builder = builder();
+        assertThrows(IllegalArgumentException.class, () -> builder.okTtl(null));
+        assertThrows(IllegalArgumentException.class, () -> builder.errTtl(Duration.ofSeconds(-1)));
+        assertThrows(IllegalArgumentException.class, () -> builder.maximumSize(0));
+        ResultCache<String, Integer, IOException> cache = ResultCache.<String, Integer, IOException>builder(IOException.class).build();
+        assertThrows(IllegalArgumentException.class, () -> cache.get(null, () -> 1));
+        assertThrows(IllegalArgumentException.class, () -> cache.get("a", null));
+    }
+
+    private ResultCache.Builder<String, Integer, IOException> builder() {
+        return ResultCache.<String, Integer, IOException>builder(IOException.class).ticker(clock::get);
+    }
+
+    private void advance(Duration duration) {
+        clock.addAndGet(duration.toNanos());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
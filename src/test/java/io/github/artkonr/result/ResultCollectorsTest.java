@@ -0,0 +1,154 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultCollectorsTest {
+
+    @Test
+    void should_join_into_ok_if_all_ok() {
+        Result<List<Integer>, RuntimeException> joined = Stream.of(ok(1), null, ok(2))
+                .collect(ResultCollectors.join());
+        assertEquals(List.of(1, 2), joined.get());
+        assertThrows(UnsupportedOperationException.class, () -> joined.get().add(3));
+    }
+
+    @Test
+    void should_join_into_ok_if_empty() {
+        Stream<Result<Integer, RuntimeException>> empty = Stream.empty();
+        assertEquals(List.of(), empty.collect(ResultCollectors.join()).get());
+    }
+
+    @Test
+    void should_join_into_err_with_rule() {
+        var first = err("1");
+        var second = err("2");
+        assertSame(first, Stream.of(ok(1), first, ok(2), second).collect(ResultCollectors.join()));
+        assertSame(first, Stream.of(ok(1), first, ok(2), second).collect(ResultCollectors.join(TakeFrom.HEAD)));
+        assertSame(second, Stream.of(ok(1), first, ok(2), second).collect(ResultCollectors.join(TakeFrom.TAIL)));
+    }
+
+    @Test
+    void should_join_into_downstream_collector() {
+        Result<Integer, RuntimeException> summed = Stream.of(ok(1), ok(2), ok(3))
+                .collect(ResultCollectors.join(Collectors.summingInt(Integer::intValue), TakeFrom.HEAD));
+        assertEquals(6, summed.get());
+
+        var err = err("1");
+        assertSame(err.getErr(), Stream.of(ok(1), err)
+                .collect(ResultCollectors.join(Collectors.summingInt(Integer::intValue), TakeFrom.HEAD))
+                .getErr());
+    }
+
+    @Test
+    void should_stop_accumulating_once_decided() {
+        var accumulated = new AtomicInteger();
+        Stream.of(ok(1), err("1"), ok(2), ok(3))
+                .collect(ResultCollectors.join(Collectors.summingInt(accumulated::addAndGet), TakeFrom.TAIL));
+        assertEquals(1, accumulated.get());
+    }
+
+    @Test
+    void should_join_in_parallel_as_sequential() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> results.add(i % 1_000 == 999 ? err(String.valueOf(i)) : ok(i)));
+        for (TakeFrom rule : List.of(TakeFrom.HEAD, TakeFrom.TAIL)) {
+            var sequential = results.stream().collect(ResultCollectors.join(rule));
+            var parallel = results.parallelStream().collect(ResultCollectors.join(rule));
+            assertSame(sequential, parallel);
+        }
+
+        List<Result<Integer, RuntimeException>> allOk = IntStream.range(0, 10_000).mapToObj(this::ok).toList();
+        assertEquals(
+                allOk.stream().collect(ResultCollectors.join()),
+                allOk.parallelStream().collect(ResultCollectors.join())
+        );
+    }
+
+    @Test
+    void should_join_with_any_rule() {
+        var accumulated = new AtomicInteger();
+        var first = err("1");
+        var joined = Stream.of(ok(1), first, ok(2), err("2"))
+                .collect(ResultCollectors.join(Collectors.summingInt(accumulated::addAndGet), TakeFrom.ANY));
+        assertSame(first.getErr(), joined.getErr());
+        assertEquals(1, accumulated.get());
+
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> results.add(i % 1_000 == 999 ? err(String.valueOf(i)) : ok(i)));
+        assertTrue(results.parallelStream().collect(ResultCollectors.join(TakeFrom.ANY)).isErr());
+        Stream<BaseResult<RuntimeException>> flags = Stream.of(ok(1), first, err("2"));
+        assertSame(first.getErr(), flags.collect(ResultCollectors.fold(TakeFrom.ANY)).getErr());
+    }
+
+    @Test
+    void should_fold_into_flag() {
+        Stream<BaseResult<RuntimeException>> allOk = Stream.of(ok(1), FlagResult.ok(), null);
+        assertTrue(allOk.collect(ResultCollectors.fold()).isOk());
+
+        var first = err("1");
+        var second = FlagResult.<RuntimeException>err(new RuntimeException("2"));
+        Stream<BaseResult<RuntimeException>> head = Stream.of(ok(1), first, second);
+        assertSame(first.getErr(), head.collect(ResultCollectors.fold()).getErr());
+        Stream<BaseResult<RuntimeException>> tail = Stream.of(ok(1), first, second);
+        assertSame(second, tail.collect(ResultCollectors.fold(TakeFrom.TAIL)));
+    }
+
+    @Test
+    void should_fold_in_parallel_as_sequential() {
+        List<BaseResult<RuntimeException>> results = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> results.add(i % 1_000 == 999 ? err(String.valueOf(i)) : ok(i)));
+        for (TakeFrom rule : List.of(TakeFrom.HEAD, TakeFrom.TAIL)) {
+            var sequential = results.stream().collect(ResultCollectors.fold(rule));
+            var parallel = results.parallelStream().collect(ResultCollectors.fold(rule));
+            assertSame(sequential.getErr(), parallel.getErr());
+        }
+    }
+
+    @Test
+    void should_partition_stream() {
+        Partition<Integer, RuntimeException> partition = Stream.of(ok(1), err("1"), null, ok(2), err("2"))
+                .collect(ResultCollectors.partition());
+        assertEquals(List.of(1, 2), partition.ok());
+        assertEquals("2", partition.errors().get(1).getMessage());
+        assertArrayEquals(new int[] {1, 4}, partition.errorIndices());
+    }
+
+    @Test
+    void should_partition_in_parallel_as_sequential() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        IntStream.range(0, 10_000).forEach(i -> results.add(i % 7 == 3 ? err(String.valueOf(i)) : ok(i)));
+        var sequential = Result.partition(results);
+        var parallel = results.parallelStream().collect(ResultCollectors.partition());
+        assertEquals(sequential.ok(), parallel.ok());
+        assertEquals(sequential.errors(), parallel.errors());
+        assertArrayEquals(sequential.errorIndices(), parallel.errorIndices());
+        for (int i = 0; i < parallel.errors().size(); i++) {
+            assertEquals(String.valueOf(parallel.errorIndex(i)), parallel.errors().get(i).getMessage());
+        }
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> ResultCollectors.join(null));
+        assertThrows(IllegalArgumentException.class, () -> ResultCollectors.join(null, TakeFrom.HEAD));
+        assertThrows(IllegalArgumentException.class, () -> ResultCollectors.join(Collectors.toList(), null));
+        assertThrows(IllegalArgumentException.class, () -> ResultCollectors.fold(null));
+    }
+
+    private Result<Integer, RuntimeException> ok(int item) {
+        return Result.ok(item);
+    }
+
+    private Result<Integer, RuntimeException> err(String message) {
+        return Result.err(new RuntimeException(message));
+    }
+}
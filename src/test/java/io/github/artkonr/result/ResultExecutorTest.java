@@ -0,0 +1,124 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultExecutorTest {
+
+    @Test
+    void should_resolve_tasks_to_results() {
+        var executor = ResultExecutor.create();
+        assertEquals(1, executor.submit(() -> 1).join().get());
+        assertInstanceOf(IOException.class, executor.submit(IOException.class, () -> { throw new IOException(); }).join().getErr());
+        assertTrue(executor.run(() -> { }).join().isOk());
+        assertTrue(executor.run(IOException.class, () -> { throw new IOException(); }).join().isErr());
+
+        var stats = executor.stats();
+        assertEquals(2, stats.ok());
+        assertEquals(2, stats.err());
+        assertEquals(4, stats.started());
+        assertTrue(stats.maxQueuedNanos() >= stats.averageQueuedNanos());
+    }
+
+    @Test
+    void should_throw_if_task_throws_unexpected_error() {
+        var executor = ResultExecutor.create();
+        var handle = executor.submit(IOException.class, () -> { throw new IllegalArgumentException(); });
+        assertThrows(IllegalStateException.class, handle::join);
+        assertTrue(handle.poll().isEmpty());
+        assertEquals(1, executor.stats().failed());
+    }
+
+    @Test
+    void should_poll_and_cancel_handle() throws InterruptedException {
+        var pool = Executors.newSingleThreadExecutor();
+        try {
+            var executor = ResultExecutor.of(pool);
+            var release = new CountDownLatch(1);
+            var blocking = executor.submit(() -> {
+                release.await();
+                return 1;
+            });
+            var queued = executor.submit(() -> 2);
+            assertTrue(blocking.poll().isEmpty());
+            assertTrue(queued.cancel());
+            assertThrows(CancellationException.class, queued::join);
+            assertTrue(queued.poll().isEmpty());
+
+            release.countDown();
+            assertEquals(1, blocking.join().get());
+            assertEquals(Result.ok(1), blocking.poll().orElseThrow());
+            assertTrue(blocking.isDone());
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+            assertEquals(1, executor.stats().started());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_invoke_all_with_join_semantics() {
+        var executor = ResultExecutor.create();
+        List<Wrap.Supplier<Integer>> ok = new ArrayList<>();
+        ok.add(() -> 1);
+        ok.add(null);
+        ok.add(() -> 2);
+        assertEquals(List.of(1, 2), executor.invokeAll(IOException.class, ok).get());
+
+        List<Wrap.Supplier<Integer>> failing = List.of(
+                () -> 1,
+                () -> { throw new IOException("1"); },
+                () -> { throw new IOException("2"); }
+        );
+        assertEquals("1", executor.invokeAll(IOException.class, failing).getErr().getMessage());
+        assertEquals("2", executor.invokeAll(IOException.class, failing, TakeFrom.TAIL).getErr().getMessage());
+    }
+
+    @Test
+    void should_cancel_remaining_tasks_once_decided() throws InterruptedException {
+        var pool = Executors.newCachedThreadPool();
+        try {
+            var executor = ResultExecutor.of(pool);
+            var started = new CountDownLatch(1);
+            var interrupted = new CountDownLatch(1);
+            List<Wrap.Supplier<Integer>> actions = List.of(
+                    () -> {
+                        started.await();
+                        throw new IOException();
+                    },
+                    () -> {
+                        started.countDown();
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException ex) {
+                            interrupted.countDown();
+                        }
+                        return 1;
+                    }
+            );
+            assertTrue(executor.invokeAll(IOException.class, actions).isErr());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        var executor = ResultExecutor.create();
+        assertThrows(IllegalArgumentException.class, () -> ResultExecutor.of(null));
+        assertThrows(IllegalArgumentException.class, () -> executor.submit(null));
+        assertThrows(IllegalArgumentException.class, () -> executor.run(null));
+        assertThrows(IllegalArgumentException.class, () -> executor.invokeAll(IOException.class, null));
+    }
+}
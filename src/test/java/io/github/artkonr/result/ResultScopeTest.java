@@ -0,0 +1,154 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ResultScopeTest {
+
+    @Test
+    void should_join_subtasks_into_ok() {
+        try (var scope = ResultScope.open(IOException.class)) {
+            var first = scope.fork(() -> 1);
+            var second = scope.fork(() -> "a");
+            var third = scope.fork(() -> 2);
+            assertTrue(scope.join().isOk());
+            assertEquals(1, first.get());
+            assertEquals(new Result.Fuse<>(1, "a"), scope.fuse(first, second).get());
+            assertEquals(new Result.Fuse3<>(1, "a", 2), scope.fuse(first, second, third).get());
+            assertEquals(List.of(1, 2), scope.join(List.of(first, third)).get());
+        }
+    }
+
+    @Test
+    void should_cancel_siblings_once_decided() throws InterruptedException {
+        var started = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+        var pool = Executors.newCachedThreadPool();
+        try (var scope = ResultScope.open(IOException.class, TakeFrom.HEAD, pool)) {
+            ResultScope.Subtask<Integer, IOException> failing = scope.fork(() -> {
+                started.await();
+                throw new IOException("1");
+            });
+            var slow = scope.fork(() -> {
+                started.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException ex) {
+                    interrupted.countDown();
+                    throw ex;
+                }
+                return 1;
+            });
+
+            assertEquals("1", scope.join().getErr().getMessage());
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+            assertSame(failing.result().getErr(), slow.result().getErr());
+            assertSame(failing.result().getErr(), scope.fuse(failing, slow).getErr());
+            assertThrows(IllegalStateException.class, slow::get);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_not_register_rejected_subtask() {
+        var pool = Executors.newSingleThreadExecutor();
+        try (var scope = ResultScope.open(IOException.class, TakeFrom.TAIL, pool)) {
+            var first = scope.fork(() -> 1);
+            pool.shutdown();
+            assertThrows(RejectedExecutionException.class, () -> scope.fork(() -> 2));
+            assertTrue(scope.join().isOk());
+            assertEquals(1, first.get());
+        }
+    }
+
+    @Test
+    void should_not_hang_if_closed_before_join() {
+        var release = new CountDownLatch(1);
+        var pool = Executors.newCachedThreadPool();
+        try (var scope = ResultScope.open(IOException.class, TakeFrom.TAIL, pool)) {
+            var slow = scope.fork(() -> {
+                release.await();
+                return 1;
+            });
+            scope.close();
+            assertThrows(CancellationException.class, scope::join);
+            assertThrows(IllegalStateException.class, slow::result);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_pick_error_by_rule() {
+        var pool = Executors.newCachedThreadPool();
+        try {
+            for (TakeFrom rule : List.of(TakeFrom.HEAD, TakeFrom.TAIL)) {
+                try (var scope = ResultScope.open(IOException.class, rule, pool)) {
+                    var ok = scope.fork(() -> 1);
+                    ResultScope.Subtask<Integer, IOException> first = scope.fork(() -> { throw new IOException("1"); });
+                    ResultScope.Subtask<Integer, IOException> second = scope.fork(() -> { throw new IOException("2"); });
+                    String expected = rule == TakeFrom.HEAD ? "1" : "2";
+                    assertEquals(expected, scope.join().getErr().getMessage());
+                    assertEquals(expected, scope.join(List.of(ok, first, second)).getErr().getMessage());
+                    assertEquals(expected, scope.fuse(ok, first, second).getErr().getMessage());
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_wait_only_for_decided_prefix() {
+        var release = new CountDownLatch(1);
+        try (var scope = ResultScope.open(IOException.class, TakeFrom.ANY)) {
+            scope.fork(() -> {
+                release.await();
+                return 1;
+            });
+            scope.fork(() -> { throw new IOException(); });
+            assertTrue(scope.join().isErr());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    void should_throw_if_subtask_throws_unexpected_error() {
+        try (var scope = ResultScope.open(IOException.class)) {
+            scope.fork(() -> { throw new IllegalArgumentException(); });
+            assertThrows(IllegalStateException.class, scope::join);
+        }
+    }
+
+    @Test
+    void should_refuse_to_fork_after_join_and_to_read_before() {
+        try (var scope = ResultScope.open(IOException.class)) {
+            var subtask = scope.fork(() -> 1);
+            assertThrows(IllegalStateException.class, subtask::result);
+            scope.join();
+            assertThrows(IllegalStateException.class, () -> scope.fork(() -> 2));
+            assertSame(scope.join(), scope.join());
+            assertEquals("ResultScope[subtasks=1, outcome=FlagResult[ok]]", scope.toString());
+        }
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> ResultScope.open(null));
+        assertThrows(IllegalArgumentException.class, () -> ResultScope.open(IOException.class, null));
+        try (var scope = ResultScope.open(IOException.class)) {
+            assertThrows(IllegalArgumentException.class, () -> scope.fork(null));
+        }
+    }
+}
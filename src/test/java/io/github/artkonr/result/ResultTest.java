@@ -3,11 +3,17 @@ package io.github.artkonr.result;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -23,35 +29,35 @@ class ResultTest {
     void should_exact_wrap_known_error() {
         var wrapped = Result.wrap(IllegalStateException.class, () -> { throw new IllegalStateException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IllegalStateException.class, wrapped.error);
+        assertInstanceOf(IllegalStateException.class, wrapped.getErr());
     }
 
     @Test
     void should_exact_wrap_checked_error() {
         var wrapped = Result.wrap(IOException.class, () -> { throw new IOException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IOException.class, wrapped.error);
+        assertInstanceOf(IOException.class, wrapped.getErr());
     }
 
     @Test
     void should_lossy_wrap_subclass_of_known_error() {
         Result<Integer, RuntimeException> wrapped = Result.wrap(RuntimeException.class, () -> { throw new IllegalStateException(); });
         assertTrue(wrapped.isErr());
-        assertInstanceOf(IllegalStateException.class, wrapped.error);
+        assertInstanceOf(IllegalStateException.class, wrapped.getErr());
     }
 
     @Test
     void should_lossy_wrap_as_ok_if_action_does_not_throw() {
         Result<Integer, Exception> wrapped = Result.wrap(() -> 1);
         assertTrue(wrapped.isOk());
-        assertEquals(1, wrapped.item);
+        assertEquals(1, wrapped.get());
     }
 
     @Test
     void should_exact_wrap_as_ok_if_action_does_not_throw() {
         Result<Integer, IllegalStateException> wrapped = Result.wrap(IllegalStateException.class, () -> 1);
         assertTrue(wrapped.isOk());
-        assertEquals(1, wrapped.item);
+        assertEquals(1, wrapped.get());
     }
 
     @Test
@@ -76,7 +82,7 @@ class ResultTest {
         var source = newErr();
         var copy = Result.from(source);
         assertTrue(copy.isErr());
-        assertSame(source.error, copy.error);
+        assertSame(source.getErr(), copy.getErr());
     }
 
     @Test
@@ -84,7 +90,7 @@ class ResultTest {
         var source = newOk();
         var copy = Result.from(source);
         assertTrue(copy.isOk());
-        assertSame(source.item, copy.item);
+        assertSame(source.get(), copy.get());
     }
 
     @Test
@@ -97,7 +103,45 @@ class ResultTest {
         var ok = newOk();
         assertTrue(ok.isOk());
         assertFalse(ok.isErr());
-        assertEquals(1, ok.item);
+        assertEquals(1, ok.get());
+    }
+
+    @Test
+    void should_share_ok_for_common_items() {
+        assertSame(Result.ok(true), Result.ok(Boolean.TRUE));
+        assertSame(Result.ok(false), Result.ok(Boolean.FALSE));
+        assertSame(Result.ok(-128), Result.ok(-128));
+        assertSame(Result.ok(127), Result.ok(127));
+        assertSame(Result.ok(List.of()), Result.ok(List.of()));
+        assertSame(Result.ok(Set.of()), Result.ok(Set.of()));
+        assertSame(Result.ok(Map.of()), Result.ok(Map.of()));
+        assertSame(Result.ok(Collections.emptyList()), Result.ok(Collections.emptyList()));
+        assertSame(Result.ok(Optional.empty()), Result.ok(Optional.empty()));
+    }
+
+    @Test
+    void should_not_share_ok_for_other_items() {
+        assertNotSame(Result.ok(128), Result.ok(128));
+        assertNotSame(Result.ok("item"), Result.ok("item"));
+        assertNotSame(Result.ok(new ArrayList<>()), Result.ok(new ArrayList<>()));
+        assertNotSame(Result.ok(Optional.of(1)), Result.ok(Optional.of(1)));
+    }
+
+    @Test
+    void should_keep_equality_for_shared_ok() {
+        Result<List<Integer>, RuntimeException> shared = Result.ok(List.of());
+        Result<List<Integer>, RuntimeException> created = Result.ok(new ArrayList<>());
+        assertNotSame(shared, created);
+        assertEquals(shared, created);
+        assertEquals(shared.hashCode(), created.hashCode());
+    }
+
+    @Test
+    void should_not_allocate_when_creating_shared_ok() {
+        Allocations.assertNoAllocation(() -> Result.ok(Boolean.TRUE));
+        Allocations.assertNoAllocation(() -> Result.ok(42));
+        Allocations.assertNoAllocation(() -> Result.ok(List.of()));
+        Allocations.assertNoAllocation(() -> Result.ok(Optional.empty()));
     }
 
     @Test
@@ -143,7 +187,7 @@ class ResultTest {
         );
         Result<List<Integer>, RuntimeException> joined = Result.join(results);
         assertTrue(joined.isOk());
-        assertEquals(List.of(1, 1), joined.item);
+        assertEquals(List.of(1, 1), joined.get());
     }
 
     @Test
@@ -179,7 +223,7 @@ class ResultTest {
         List<Result<Integer, RuntimeException>> results = List.of(r1, r2, r3);
         Result<List<Integer>, RuntimeException> joined = Result.join(results, TakeFrom.HEAD);
         assertTrue(joined.isErr());
-        assertSame(headEx, joined.error);
+        assertSame(headEx, joined.getErr());
     }
 
     @Test
@@ -194,7 +238,7 @@ class ResultTest {
         List<Result<Integer, RuntimeException>> results = List.of(r1, r2, r3);
         Result<List<Integer>, RuntimeException> joined = Result.join(results, TakeFrom.TAIL);
         assertTrue(joined.isErr());
-        assertSame(tailEx, joined.error);
+        assertSame(tailEx, joined.getErr());
     }
 
     @Test
@@ -205,7 +249,257 @@ class ResultTest {
         results.add(newOk());
         Result<List<Integer>, RuntimeException> joined = Result.join(results);
         assertTrue(joined.isOk());
-        assertEquals(2, joined.item.size());
+        assertEquals(2, joined.get().size());
+    }
+
+    @Test
+    void should_join_into_unmodifiable_list_in_source_order() {
+        List<Result<Integer, RuntimeException>> results = List.of(Result.ok(3), Result.ok(1), Result.ok(2));
+        Result<List<Integer>, RuntimeException> joined = Result.join(results);
+        assertEquals(List.of(3, 1, 2), joined.get());
+        assertThrows(UnsupportedOperationException.class, () -> joined.get().add(4));
+    }
+
+    @Test
+    void should_stop_joining_at_first_error_with_head_rule() {
+        Result<Integer, RuntimeException> err = newErr();
+        var results = failingAfter(2, List.of(newOk(), err, newOk()));
+        assertSame(err, Result.join(results, TakeFrom.HEAD));
+        assertThrows(IllegalStateException.class, () -> Result.join(results, TakeFrom.TAIL));
+    }
+
+    @Test
+    void should_join_in_parallel_as_sequential() {
+        int size = 50_000;
+        for (int errorAt : new int[] {-1, 0, 1_500, size / 2, size - 1}) {
+            List<Result<Integer, RuntimeException>> results = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                boolean errored = errorAt >= 0 && (i == errorAt || i == errorAt + 7_000 || i == errorAt - 9_000);
+                results.add(errored ? Result.err(new RuntimeException(String.valueOf(i))) : Result.ok(i));
+            }
+            for (TakeFrom rule : List.of(TakeFrom.HEAD, TakeFrom.TAIL)) {
+                var sequential = Result.join(results, rule);
+                var parallel = Result.joinParallel(results, rule);
+                if (sequential.isOk()) {
+                    assertEquals(sequential.get(), parallel.get());
+                } else {
+                    assertSame(sequential, parallel);
+                }
+            }
+        }
+    }
+
+    @Test
+    void should_join_in_parallel_with_any_rule() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            results.add(i % 10_000 == 5 ? Result.err(new RuntimeException(String.valueOf(i))) : Result.ok(i));
+        }
+        var joined = Result.joinParallel(results, TakeFrom.ANY);
+        assertTrue(joined.isErr());
+        assertTrue(results.stream().anyMatch(result -> result.isErr() && result.getErr() == joined.getErr()));
+
+        var allOk = results.stream().filter(Result::isOk).toList();
+        assertEquals(Result.join(allOk).get(), Result.joinParallel(allOk, TakeFrom.ANY).get());
+    }
+
+    @Test
+    void should_join_with_any_rule_stopping_at_first_error() {
+        Result<Integer, RuntimeException> err = newErr();
+        var results = failingAfter(2, List.of(newOk(), err, newErr()));
+        assertSame(err, Result.join(results, TakeFrom.ANY));
+    }
+
+    @Test
+    void should_fuse_with_any_rule() {
+        Result<Integer, RuntimeException> first = newErr();
+        Result<Integer, RuntimeException> second = newErr();
+        assertTrue(first.fuse(second, TakeFrom.ANY).isErr());
+        assertSame(second.getErr(), newOk().fuse(second, TakeFrom.ANY).getErr());
+        assertTrue(Result.fuse(newOk(), first, second, TakeFrom.ANY).isErr());
+        assertTrue(Result.fuse(newOk(), newOk(), newOk(), TakeFrom.ANY).isOk());
+    }
+
+    @Test
+    void should_join_in_parallel_skipping_null_elements() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            results.add(i % 3 == 0 ? null : Result.ok(i));
+        }
+        var pool = new ForkJoinPool(3);
+        try {
+            var parallel = Result.joinParallel(results, TakeFrom.HEAD, pool);
+            assertEquals(Result.join(results).get(), parallel.get());
+            assertThrows(UnsupportedOperationException.class, () -> parallel.get().add(1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void should_throw_if_joining_in_parallel_with_null_arguments() {
+        assertThrows(IllegalArgumentException.class, () -> Result.joinParallel(null, TakeFrom.HEAD));
+        assertThrows(IllegalArgumentException.class, () -> Result.joinParallel(List.of(), null));
+        assertThrows(IllegalArgumentException.class, () -> Result.joinParallel(List.of(), TakeFrom.HEAD, null));
+    }
+
+    @Test
+    void should_partition_into_items_and_errors() {
+        Result<Integer, RuntimeException> first = newErr();
+        Result<Integer, RuntimeException> second = newErr();
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        results.add(Result.ok(1));
+        results.add(first);
+        results.add(null);
+        results.add(Result.ok(2));
+        results.add(second);
+
+        Partition<Integer, RuntimeException> partition = Result.partition(results);
+        assertEquals(List.of(1, 2), partition.ok());
+        assertEquals(List.of(first.getErr(), second.getErr()), partition.errors());
+        assertArrayEquals(new int[] {1, 4}, partition.errorIndices());
+        assertEquals(4, partition.errorIndex(1));
+        assertTrue(partition.hasErrors());
+        assertThrows(UnsupportedOperationException.class, () -> partition.ok().add(3));
+    }
+
+    @Test
+    void should_partition_into_items_only_if_all_ok() {
+        Partition<Integer, RuntimeException> partition = Result.partition(List.of(newOk(), newOk()));
+        assertEquals(List.of(1, 1), partition.ok());
+        assertFalse(partition.hasErrors());
+        assertEquals(0, partition.errorIndices().length);
+        assertThrows(IllegalArgumentException.class, () -> Result.partition(null));
+    }
+
+    @Test
+    void should_join_map_keeping_order() {
+        Map<String, Result<Integer, RuntimeException>> results = new LinkedHashMap<>();
+        results.put("b", Result.ok(2));
+        results.put("x", null);
+        results.put("a", Result.ok(1));
+        Map<String, Integer> joined = Result.joinMap(results).get();
+        assertEquals(Map.of("b", 2, "a", 1), joined);
+        assertEquals(List.of("b", "a"), new ArrayList<>(joined.keySet()));
+        assertThrows(UnsupportedOperationException.class, () -> joined.put("c", 3));
+
+        var first = Result.<Integer, RuntimeException>err(new RuntimeException("1"));
+        var second = Result.<Integer, RuntimeException>err(new RuntimeException("2"));
+        results.put("c", first);
+        results.put("d", Result.ok(4));
+        results.put("e", second);
+        assertSame(first.getErr(), Result.joinMap(results).getErr());
+        assertSame(second.getErr(), Result.joinMap(results, TakeFrom.TAIL).getErr());
+        assertThrows(IllegalArgumentException.class, () -> Result.joinMap(null));
+    }
+
+    @Test
+    void should_join_map_into_map_factory() {
+        Map<TakeFrom, Result<String, RuntimeException>> results = new EnumMap<>(TakeFrom.class);
+        results.put(TakeFrom.TAIL, Result.ok("tail"));
+        results.put(TakeFrom.HEAD, Result.ok("head"));
+        EnumMap<TakeFrom, String> joined = Result.joinMap(results, size -> new EnumMap<>(TakeFrom.class), TakeFrom.HEAD).get();
+        assertEquals(List.of(TakeFrom.HEAD, TakeFrom.TAIL), new ArrayList<>(joined.keySet()));
+        assertEquals("tail", joined.get(TakeFrom.TAIL));
+
+        TreeMap<TakeFrom, String> sorted = Result.joinMap(results, size -> new TreeMap<>(), TakeFrom.HEAD).get();
+        assertEquals(2, sorted.size());
+        assertThrows(IllegalArgumentException.class, () -> Result.joinMap(results, null, TakeFrom.HEAD));
+    }
+
+    @Test
+    void should_join_to_array() {
+        List<Result<Integer, RuntimeException>> results = new ArrayList<>();
+        results.add(Result.ok(1));
+        results.add(null);
+        results.add(Result.ok(2));
+        assertArrayEquals(new Integer[] {1, 2}, Result.joinToArray(results, Integer[]::new).get());
+
+        Integer[] target = {0, 0, 0, 0};
+        assertSame(target, Result.joinToArray(results, target, TakeFrom.HEAD).get());
+        assertArrayEquals(new Integer[] {1, 2, null, 0}, target);
+        Integer[] small = Result.joinToArray(results, new Integer[0], TakeFrom.HEAD).get();
+        assertArrayEquals(new Integer[] {1, 2}, small);
+        Integer[] generated = Result.joinToArray(results, size -> new Integer[0]).get();
+        assertArrayEquals(new Integer[] {1, 2}, generated);
+        assertEquals(Integer[].class, generated.getClass());
+
+        var first = Result.<Integer, RuntimeException>err(new RuntimeException("1"));
+        var second = Result.<Integer, RuntimeException>err(new RuntimeException("2"));
+        results.add(first);
+        results.add(second);
+        assertSame(first.getErr(), Result.joinToArray(results, Integer[]::new).getErr());
+        assertSame(second.getErr(), Result.joinToArray(results, Integer[]::new, TakeFrom.TAIL).getErr());
+        assertThrows(IllegalArgumentException.class, () -> Result.joinToArray(null, Integer[]::new));
+        assertThrows(IllegalArgumentException.class, () -> Result.joinToArray(results, (Integer[]) null, TakeFrom.HEAD));
+    }
+
+    @Test
+    void should_join_accumulating_errors() {
+        List<Result<Integer, Exception>> results = new ArrayList<>();
+        results.add(Result.ok(1));
+        results.add(null);
+        results.add(Result.ok(2));
+        assertEquals(List.of(1, 2), Result.joinAll(results, 2).get());
+
+        var first = new IllegalStateException("1");
+        var second = new IOException("2");
+        results.add(Result.err(first));
+        results.add(Result.ok(3));
+        results.add(Result.err(second));
+        for (int i = 0; i < 3; i++) {
+            results.add(Result.err(new IllegalStateException()));
+        }
+        results.add(Result.err(new IOException()));
+
+        AggregateException aggregated = Result.joinAll(results, 2, 1).getErr();
+        assertEquals(6, aggregated.count());
+        assertEquals(List.of(first, second), aggregated.errors());
+        assertEquals(Map.of(IllegalStateException.class, 3, IOException.class, 1), aggregated.omitted());
+        assertArrayEquals(new Throwable[] {second}, aggregated.getSuppressed());
+        assertSame(first, aggregated.getCause());
+        assertEquals(
+                "6 errors, 4 omitted: java.lang.IllegalStateException x3, java.io.IOException x1",
+                aggregated.getMessage()
+        );
+
+        AggregateException unbounded = Result.joinAll(results, 100).getErr();
+        assertEquals(6, unbounded.errors().size());
+        assertEquals(5, unbounded.getSuppressed().length);
+        assertSame(first, unbounded.getCause());
+        assertFalse(List.of(unbounded.getSuppressed()).contains(first));
+        assertTrue(unbounded.omitted().isEmpty());
+        assertEquals("6 errors", unbounded.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> Result.joinAll(results, -1));
+        assertThrows(IllegalArgumentException.class, () -> Result.joinAll(null, 1));
+    }
+
+    @Test
+    void should_join_into_view() {
+        List<Result<Integer, RuntimeException>> results = List.of(Result.ok(1), Result.ok(2), Result.ok(3));
+        List<Integer> view = Result.joinView(results).get();
+        assertEquals(List.of(1, 2, 3), view);
+        assertEquals(2, view.get(1));
+        assertInstanceOf(RandomAccess.class, view);
+        assertThrows(UnsupportedOperationException.class, () -> view.add(4));
+        assertThrows(UnsupportedOperationException.class, () -> view.set(0, 4));
+
+        List<Integer> sequential = Result.joinView(new LinkedList<>(results)).get();
+        assertEquals(List.of(1, 2, 3), sequential);
+        assertFalse(sequential instanceof RandomAccess);
+
+        List<Result<Integer, RuntimeException>> sparse = new ArrayList<>(results);
+        sparse.add(1, null);
+        assertEquals(List.of(1, 2, 3), Result.joinView(sparse).get());
+
+        var first = Result.<Integer, RuntimeException>err(new RuntimeException("1"));
+        var second = Result.<Integer, RuntimeException>err(new RuntimeException("2"));
+        sparse.add(first);
+        sparse.add(second);
+        assertSame(first.getErr(), Result.joinView(sparse).getErr());
+        assertSame(second.getErr(), Result.joinView(sparse, TakeFrom.TAIL).getErr());
+        assertThrows(IllegalArgumentException.class, () -> Result.joinView(null));
     }
 
     @Test
@@ -250,6 +544,197 @@ class ResultTest {
         assertTrue(ok.isOk());
     }
 
+    @Test
+    void should_chain_lazily_over_stream() {
+        var generated = new AtomicInteger();
+        Stream<Supplier<Result<Integer, RuntimeException>>> steps = Stream.iterate(0, i -> i + 1)
+                .peek(i -> generated.incrementAndGet())
+                .map(i -> () -> i == 3 ? Result.err(new RuntimeException("3")) : Result.ok(i));
+        var chained = Result.chainLazy(steps);
+        assertTrue(chained.isErrAnd(e -> e.getMessage().equals("3")));
+        assertEquals(4, generated.get());
+    }
+
+    @Test
+    void should_chain_over_iterator_and_iterable() {
+        List<Supplier<Result<Integer, RuntimeException>>> steps = new ArrayList<>();
+        steps.add(() -> Result.ok(1));
+        steps.add(null);
+        steps.add(() -> null);
+        steps.add(() -> Result.ok(2));
+        Iterable<Supplier<Result<Integer, RuntimeException>>> iterable = steps::iterator;
+
+        assertEquals(List.of(1, 2), Result.chainLazy(steps.iterator()).get());
+        assertEquals(List.of(1, 2), Result.chainLazy(iterable).get());
+        assertThrows(IllegalArgumentException.class, () -> Result.chainLazy((Iterator<Supplier<Result<Integer, RuntimeException>>>) null));
+    }
+
+    @Test
+    void should_chain_into_consumer() {
+        List<Integer> consumed = new ArrayList<>();
+        Iterator<Supplier<Result<Integer, RuntimeException>>> steps = List.<Supplier<Result<Integer, RuntimeException>>>of(
+                () -> Result.ok(1),
+                () -> Result.ok(2),
+                () -> Result.err(new IllegalStateException()),
+                () -> Result.ok(3)
+        ).iterator();
+
+        FlagResult<RuntimeException> chained = Result.chainLazy(steps, consumed::add);
+        assertTrue(chained.isErrAnd(IllegalStateException.class));
+        assertEquals(List.of(1, 2), consumed);
+        assertTrue(steps.hasNext());
+
+        consumed.clear();
+        Stream<Supplier<Result<Integer, RuntimeException>>> ok = Stream.of(() -> Result.ok(1), () -> Result.ok(2));
+        assertTrue(Result.chainLazy(ok, consumed::add).isOk());
+        assertEquals(List.of(1, 2), consumed);
+        assertThrows(IllegalArgumentException.class, () -> Result.chainLazy(steps, null));
+    }
+
+    @Test
+    void should_wrap_within_deadline() {
+        assertEquals(Result.ok(1), Result.wrapWithin(Deadline.after(Duration.ofSeconds(5)), () -> 1));
+        var err = Result.wrapWithin(IOException.class, Deadline.never(), () -> { throw new IOException(); });
+        assertInstanceOf(IOException.class, err.getErr());
+        assertThrows(IllegalStateException.class, () -> Result.wrapWithin(
+                IOException.class,
+                Deadline.never(),
+                () -> { throw new IllegalArgumentException(); }
+        ));
+    }
+
+    @Test
+    void should_interrupt_wrapped_action_on_expiry() throws InterruptedException {
+        var interrupted = new CountDownLatch(1);
+        var expired = Result.wrapWithin(Deadline.after(Duration.ofMillis(50)), () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+                throw ex;
+            }
+            return 1;
+        });
+        var error = assertInstanceOf(DeadlineExceededException.class, expired.getErr());
+        assertFalse(error.isCancelled());
+        assertEquals(0, error.getStackTrace().length);
+        assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void should_interrupt_wrapped_action_on_cancel() {
+        var deadline = Deadline.never();
+        var started = new CountDownLatch(1);
+        new Thread(() -> {
+            awaitQuietly(started);
+            deadline.cancel();
+        }).start();
+
+        var cancelled = Result.wrapWithin(deadline, () -> {
+            started.countDown();
+            new CountDownLatch(1).await();
+            return 1;
+        });
+        assertTrue(assertInstanceOf(DeadlineExceededException.class, cancelled.getErr()).isCancelled());
+        assertTrue(deadline.isExpired());
+
+        var calls = new AtomicInteger();
+        assertTrue(Result.wrapWithin(deadline, calls::incrementAndGet).isErrAnd(DeadlineExceededException.class));
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void should_stop_chain_once_deadline_expires() {
+        var deadline = Deadline.never();
+        var calls = new AtomicInteger();
+        List<Supplier<Result<Integer, RuntimeException>>> steps = List.of(
+                () -> Result.ok(calls.incrementAndGet()),
+                () -> {
+                    deadline.cancel();
+                    return Result.ok(calls.incrementAndGet());
+                },
+                () -> Result.ok(calls.incrementAndGet())
+        );
+        assertTrue(Result.chainWithin(steps, deadline).isErrAnd(DeadlineExceededException.class));
+        assertEquals(2, calls.get());
+
+        calls.set(0);
+        assertEquals(List.of(1, 2, 3), Result.chainWithin(steps, Deadline.after(Duration.ofMinutes(1))).get());
+        List<Supplier<Result<Integer, RuntimeException>>> failing = List.of(
+                () -> Result.ok(1),
+                () -> Result.err(new IllegalStateException())
+        );
+        assertTrue(Result.chainWithin(failing, Deadline.never()).isErrAnd(IllegalStateException.class));
+        assertThrows(IllegalArgumentException.class, () -> Result.chainWithin(steps, null));
+    }
+
+    @Test
+    void should_chain_in_parallel_as_sequential() {
+        List<Supplier<Result<Integer, RuntimeException>>> list = new ArrayList<>();
+        list.add(() -> Result.ok(1));
+        list.add(null);
+        list.add(() -> null);
+        list.add(() -> Result.ok(2));
+        assertEquals(Result.chain(list), Result.chainParallel(list));
+
+        var later = new CountDownLatch(1);
+        List<Supplier<Result<Integer, RuntimeException>>> failing = new ArrayList<>();
+        failing.add(() -> Result.ok(1));
+        failing.add(() -> {
+            awaitQuietly(later);
+            return Result.err(new RuntimeException("1"));
+        });
+        failing.add(() -> {
+            later.countDown();
+            return Result.err(new RuntimeException("2"));
+        });
+        var executor = Executors.newCachedThreadPool();
+        try {
+            assertTrue(Result.chainParallel(failing, executor).isErrAnd(e -> e.getMessage().equals("1")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_interrupt_parallel_chain_after_first_error() throws InterruptedException {
+        var blocked = new CountDownLatch(1);
+        var interrupted = new CountDownLatch(1);
+        List<Supplier<Result<Integer, RuntimeException>>> list = new ArrayList<>();
+        list.add(() -> {
+            awaitQuietly(blocked);
+            return Result.err(new IllegalStateException());
+        });
+        list.add(() -> {
+            blocked.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException ex) {
+                interrupted.countDown();
+            }
+            return Result.ok(1);
+        });
+
+        var executor = Executors.newCachedThreadPool();
+        try {
+            assertTrue(Result.chainParallel(list, executor).isErrAnd(IllegalStateException.class));
+            assertTrue(interrupted.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void should_rethrow_if_parallel_chain_step_throws() {
+        List<Supplier<Result<Integer, RuntimeException>>> list = List.of(
+                () -> Result.ok(1),
+                () -> { throw new IllegalStateException(); }
+        );
+        assertThrows(IllegalStateException.class, () -> Result.chainParallel(list));
+        assertThrows(IllegalArgumentException.class, () -> Result.chainParallel(null));
+        assertThrows(IllegalArgumentException.class, () -> Result.chainParallel(list, null));
+    }
+
     @Test
     void should_elevate_non_empty_into_ok_if_ok() {
         var item = Result.ok(Optional.of(10));
@@ -297,7 +782,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, second.error);
+        assertSame(fused.getErr(), second.getErr());
     }
 
     @Test
@@ -307,7 +792,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -317,8 +802,8 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isOk());
-        assertSame(fused.item.left(), first.item);
-        assertSame(fused.item.right(), second.item);
+        assertSame(fused.get().left(), first.get());
+        assertSame(fused.get().right(), second.get());
     }
 
     @Test
@@ -328,7 +813,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -338,7 +823,7 @@ class ResultTest {
 
         var fused = first.fuse(second, TakeFrom.HEAD);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -348,7 +833,7 @@ class ResultTest {
 
         var fused = first.fuse(second, TakeFrom.TAIL);
         assertTrue(fused.isErr());
-        assertSame(fused.error, second.error);
+        assertSame(fused.getErr(), second.getErr());
     }
 
     @Test
@@ -369,7 +854,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, second.error);
+        assertSame(fused.getErr(), second.getErr());
     }
 
     @Test
@@ -379,7 +864,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -389,7 +874,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isOk());
-        assertSame(fused.item, first.item);
+        assertSame(fused.get(), first.get());
     }
 
     @Test
@@ -399,7 +884,7 @@ class ResultTest {
 
         var fused = first.fuse(second);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -409,7 +894,7 @@ class ResultTest {
 
         var fused = first.fuse(second, TakeFrom.HEAD);
         assertTrue(fused.isErr());
-        assertSame(fused.error, first.error);
+        assertSame(fused.getErr(), first.getErr());
     }
 
     @Test
@@ -419,7 +904,7 @@ class ResultTest {
 
         var fused = first.fuse(second, TakeFrom.TAIL);
         assertTrue(fused.isErr());
-        assertSame(fused.error, second.error);
+        assertSame(fused.getErr(), second.getErr());
     }
 
     @Test
@@ -429,7 +914,7 @@ class ResultTest {
 
         var fused = first.fuse(second, TakeFrom.TAIL);
         assertTrue(fused.isOk());
-        assertEquals(first.item, fused.item);
+        assertEquals(first.get(), fused.get());
     }
 
     @Test
@@ -521,7 +1006,7 @@ class ResultTest {
         var err = newErr();
         FlagResult<RuntimeException> dropped = err.drop();
         assertTrue(dropped.isErr());
-        assertSame(err.error, dropped.error);
+        assertSame(err.getErr(), dropped.getErr());
     }
 
     @Test
@@ -529,7 +1014,7 @@ class ResultTest {
         var ok = newOk();
         var swap = ok.swap("abc");
         assertTrue(swap.isOk());
-        assertEquals("abc", swap.item);
+        assertEquals("abc", swap.get());
     }
 
     @Test
@@ -549,7 +1034,7 @@ class ResultTest {
         var ok = Result.ok(2);
         var mapped = ok.map("a"::repeat);
         assertTrue(mapped.isOk());
-        assertEquals("aa", mapped.item);
+        assertEquals("aa", mapped.get());
     }
 
     @Test
@@ -570,7 +1055,7 @@ class ResultTest {
         Result<Integer, RuntimeException> ok = Result.ok(2);
         Result<String, RuntimeException> mapped = ok.flatMap(counter -> Result.ok("abc"));
         assertTrue(mapped.isOk());
-        assertEquals("abc", mapped.item);
+        assertEquals("abc", mapped.get());
     }
 
     @Test
@@ -610,7 +1095,7 @@ class ResultTest {
     void should_lose_specific_type_if_err() {
         Result<Integer, RuntimeException> source = newErr();
         Result<Integer, Exception> lossy = source.upcast();
-        assertInstanceOf(RuntimeException.class, lossy.error);
+        assertInstanceOf(RuntimeException.class, lossy.getErr());
     }
 
     @Test
@@ -625,7 +1110,7 @@ class ResultTest {
         var ok = newOk();
         var mapped = ok.mapErr(exception -> new IllegalStateException());
         assertTrue(mapped.isOk());
-        assertEquals(1, ok.item);
+        assertEquals(1, ok.get());
     }
 
     @Test
@@ -633,7 +1118,7 @@ class ResultTest {
         Result<Integer, RuntimeException> err = newErr();
         Result<Integer, IllegalStateException> mapped = err.mapErr(ex -> new IllegalStateException());
         assertTrue(mapped.isErr());
-        assertNotSame(err.error, mapped.error);
+        assertNotSame(err.getErr(), mapped.getErr());
     }
 
     @Test
@@ -654,7 +1139,7 @@ class ResultTest {
         Result<Integer, RuntimeException> err = newErr();
         Result<Integer, Exception> tainted = err.taint(IllegalStateException::new);
         assertTrue(err.isErr());
-        assertSame(err.error, tainted.error);
+        assertSame(err.getErr(), tainted.getErr());
     }
 
     @Test
@@ -675,7 +1160,7 @@ class ResultTest {
         Result<Integer, RuntimeException> err = newErr();
         Result<Integer, RuntimeException> tainted = err.fork(RuntimeException::new);
         assertTrue(err.isErr());
-        assertSame(err.error, tainted.error);
+        assertSame(err.getErr(), tainted.getErr());
     }
 
     @Test
@@ -689,7 +1174,7 @@ class ResultTest {
         var ok = newOk();
         var tainted = ok.taint(val -> val > 0, val -> new NumberFormatException());
         assertTrue(tainted.isErr());
-        assertInstanceOf(NumberFormatException.class, tainted.error);
+        assertInstanceOf(NumberFormatException.class, tainted.getErr());
     }
 
     @Test
@@ -697,7 +1182,7 @@ class ResultTest {
         var ok = newOk();
         var tainted = ok.taint(val -> val < 0, val -> new NumberFormatException());
         assertTrue(tainted.isOk());
-        assertEquals(ok.item, tainted.item);
+        assertEquals(ok.get(), tainted.get());
     }
 
     @Test
@@ -705,7 +1190,7 @@ class ResultTest {
         var err = newErr();
         var tainted = err.taint(val -> val > 0, val -> new NumberFormatException());
         assertTrue(tainted.isErr());
-        assertSame(err.error, tainted.error);
+        assertSame(err.getErr(), tainted.getErr());
     }
 
     @Test
@@ -720,7 +1205,7 @@ class ResultTest {
         var ok = newOk();
         var tainted = ok.fork(val -> val > 0, val -> new NumberFormatException());
         assertTrue(tainted.isErr());
-        assertInstanceOf(NumberFormatException.class, tainted.error);
+        assertInstanceOf(NumberFormatException.class, tainted.getErr());
     }
 
     @Test
@@ -728,7 +1213,7 @@ class ResultTest {
         var ok = newOk();
         var tainted = ok.fork(val -> val < 0, val -> new NumberFormatException());
         assertTrue(tainted.isOk());
-        assertEquals(ok.item, tainted.item);
+        assertEquals(ok.get(), tainted.get());
     }
 
     @Test
@@ -736,7 +1221,7 @@ class ResultTest {
         var err = newErr();
         var tainted = err.fork(val -> val > 0, val -> new NumberFormatException());
         assertTrue(tainted.isErr());
-        assertSame(err.error, tainted.error);
+        assertSame(err.getErr(), tainted.getErr());
     }
 
     @Test
@@ -754,8 +1239,8 @@ class ResultTest {
     void should_not_recover_if_ok() {
         var ok = newOk();
         var recover = ok.recover(err -> -19);
-        assertNotSame(ok, recover);
-        assertEquals(ok.item, recover.item);
+        assertSame(ok, recover);
+        assertEquals(ok.get(), recover.get());
     }
 
     @Test
@@ -763,7 +1248,7 @@ class ResultTest {
         var err = newErr();
         var recover = err.recover(e -> -19);
         assertTrue(recover.isOk());
-        assertEquals(-19, recover.item);
+        assertEquals(-19, recover.get());
     }
 
     @Test
@@ -776,8 +1261,8 @@ class ResultTest {
     void should_not_recover_with_predicate_if_ok() {
         var ok = newOk();
         var recover = ok.recover(Objects::nonNull, err -> -19);
-        assertNotSame(ok, recover);
-        assertEquals(ok.item, recover.item);
+        assertSame(ok, recover);
+        assertEquals(ok.get(), recover.get());
     }
 
     @Test
@@ -785,7 +1270,7 @@ class ResultTest {
         var err = Result.err(new NumberFormatException("nan"));
         var recover = err.recover(i -> i.getMessage().equals("nan"), er -> -19);
         assertTrue(recover.isOk());
-        assertEquals(-19, recover.item);
+        assertEquals(-19, recover.get());
     }
 
     @Test
@@ -793,8 +1278,8 @@ class ResultTest {
         var err = Result.err(new NumberFormatException("nan"));
         var recover = err.recover(i -> i.getMessage().equals("number"), er -> -19);
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -813,8 +1298,8 @@ class ResultTest {
     void should_not_recover_with_type_if_ok() {
         var ok = newOk();
         var recover = ok.recover(RuntimeException.class, err -> -19);
-        assertNotSame(ok, recover);
-        assertEquals(ok.item, recover.item);
+        assertSame(ok, recover);
+        assertEquals(ok.get(), recover.get());
     }
 
     @Test
@@ -822,7 +1307,7 @@ class ResultTest {
         var err = Result.err(new NumberFormatException("nan"));
         var recover = err.recover(NumberFormatException.class, er -> -19);
         assertTrue(recover.isOk());
-        assertEquals(-19, recover.item);
+        assertEquals(-19, recover.get());
     }
 
     @Test
@@ -830,7 +1315,7 @@ class ResultTest {
         Result<Integer, RuntimeException> err = Result.err(new IllegalArgumentException("nan"));
         var recover = err.recover(IllegalArgumentException.class, er -> -19);
         assertTrue(recover.isOk());
-        assertEquals(-19, recover.item);
+        assertEquals(-19, recover.get());
     }
 
     @Test
@@ -838,8 +1323,8 @@ class ResultTest {
         Result<Integer, Exception> err = Result.err(new IOException("nan"));
         var recover = err.recover(RuntimeException.class, er -> -19);
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -847,8 +1332,8 @@ class ResultTest {
         Result<Integer, RuntimeException> err = Result.err(new IllegalArgumentException("nan"));
         var recover = err.recover(IllegalStateException.class, er -> -19);
         assertTrue(recover.isErr());
-        assertNotSame(err, recover);
-        assertSame(err.error, recover.error);
+        assertSame(err, recover);
+        assertSame(err.getErr(), recover.getErr());
     }
 
     @Test
@@ -931,7 +1416,7 @@ class ResultTest {
     void should_unwrap_with_fallback_into_value_if_ok() {
         var ok = newOk();
         var or = ok.unwrapOr(5);
-        assertEquals(ok.item, or);
+        assertEquals(ok.get(), or);
     }
 
     @Test
@@ -957,7 +1442,7 @@ class ResultTest {
     void should_unwrap_with_factory_into_value_if_ok() {
         var ok = newOk();
         var or = ok.unwrapOr(() -> 5);
-        assertEquals(ok.item, or);
+        assertEquals(ok.get(), or);
     }
 
     @Test
@@ -984,6 +1469,64 @@ class ResultTest {
         }
     }
 
+    @Test
+    void should_throw_stackless_failure_when_unwrapping_if_requested() {
+        var ex = new NoSuchElementException();
+        Failure failure = assertThrows(Failure.class, () -> Result.err(ex).unwrapStackless());
+        assertSame(ex, failure.getCause());
+        assertEquals(0, failure.getStackTrace().length);
+        assertEquals(1, newOk().unwrapStackless());
+    }
+
+    @Test
+    void should_throw_stackless_failure_when_unwrapping_if_globally_disabled() {
+        var err = Result.err(new NoSuchElementException());
+        assertTrue(Failure.isStackTraceEnabled());
+        assertNotEquals(0, assertThrows(Failure.class, err::unwrap).getStackTrace().length);
+        Failure.setStackTraceEnabled(false);
+        try {
+            Failure failure = assertThrows(Failure.class, err::unwrap);
+            assertEquals(0, failure.getStackTrace().length);
+            assertInstanceOf(NoSuchElementException.class, failure.getCause());
+        } finally {
+            Failure.setStackTraceEnabled(true);
+        }
+    }
+
+    @Test
+    void should_throw_stackless_failure_when_interrupted_if_globally_disabled() {
+        Failure.setStackTraceEnabled(false);
+        try {
+            Thread.currentThread().interrupt();
+            Failure failure = assertThrows(Failure.class, () -> Result.wrapWithin(Deadline.never(), () -> {
+                new CountDownLatch(1).await();
+                return 1;
+            }));
+            assertEquals(0, failure.getStackTrace().length);
+            assertInstanceOf(InterruptedException.class, failure.getCause());
+            assertTrue(Thread.interrupted());
+        } finally {
+            Thread.interrupted();
+            Failure.setStackTraceEnabled(true);
+        }
+    }
+
+    @Test
+    void should_create_stackless_domain_errors() {
+        var err = Result.err(StacklessException.of("boom"));
+        assertEquals("boom", err.getErr().getMessage());
+        assertEquals(0, err.getErr().getStackTrace().length);
+
+        Result<Integer, StacklessException> ok = Result.ok(1);
+        var forked = ok.fork(StacklessException.factory("forked"));
+        assertTrue(forked.isErrAnd(StacklessException.class));
+        assertEquals(0, forked.getErr().getStackTrace().length);
+        assertNotSame(forked.getErr(), ok.fork(StacklessException.factory("forked")).getErr());
+
+        var tainted = newOk().taint(StacklessException.factory("tainted"));
+        assertTrue(tainted.isErrAnd(StacklessException.class));
+    }
+
     @Test
     void should_checked_unwrap_into_value_if_ok() {
         var ok = newOk();
@@ -1089,6 +1632,267 @@ class ResultTest {
         assertThrows(IllegalArgumentException.class, () -> new Result.Fuse<>(new Object(), null));
     }
 
+    @Test
+    void should_return_same_err_on_pass_through() {
+        Result<Integer, RuntimeException> err = newErr();
+        assertSame(err, Result.from(err));
+        assertSame(err, err.map(i -> i + 1));
+        assertSame(err, err.flatMap(Result::ok));
+        assertSame(err, err.swap("item"));
+        assertSame(err, err.upcast());
+        assertSame(err, err.taint(RuntimeException::new));
+        assertSame(err, err.taint(i -> true, i -> new RuntimeException()));
+        assertSame(err, err.fork(RuntimeException::new));
+        assertSame(err, err.fork(i -> true, i -> new RuntimeException()));
+        assertSame(err, err.recover(e -> false, e -> 1));
+        assertSame(err, err.recover(IllegalStateException.class, e -> 1));
+        assertSame(err, err.fuse(Result.ok(2)));
+        assertSame(err, err.fuse(FlagResult.ok()));
+        assertSame(err, err.fuse(newErr(), TakeFrom.HEAD));
+        assertSame(err, err.peek(i -> { }));
+        assertSame(err, err.peekErr(e -> { }));
+
+        Result<Optional<Integer>, RuntimeException> errOpt = Result.err(new RuntimeException());
+        assertSame(errOpt, Result.elevate(errOpt).orElseThrow());
+    }
+
+    @Test
+    void should_return_same_ok_on_pass_through() {
+        Result<Integer, RuntimeException> ok = Result.ok(1000);
+        assertSame(ok, Result.from(ok));
+        assertSame(ok, ok.mapErr(IllegalStateException::new));
+        assertSame(ok, ok.upcast());
+        assertSame(ok, ok.taint(i -> false, i -> new RuntimeException()));
+        assertSame(ok, ok.fork(i -> false, i -> new RuntimeException()));
+        assertSame(ok, ok.recover(e -> 1));
+        assertSame(ok, ok.recover(e -> true, e -> 1));
+        assertSame(ok, ok.recover(RuntimeException.class, e -> 1));
+        assertSame(ok, ok.fuse(FlagResult.ok()));
+        assertSame(ok, ok.fuse(FlagResult.ok(), TakeFrom.TAIL));
+        assertSame(ok, ok.peek(i -> { }));
+        assertSame(ok, ok.peekErr(e -> { }));
+    }
+
+    @Test
+    void should_return_other_err_when_fusing_with_err() {
+        Result<Integer, RuntimeException> ok = Result.ok(1000);
+        Result<Integer, RuntimeException> err = newErr();
+        assertSame(err, ok.fuse(err));
+        assertSame(err, newErr().fuse(err, TakeFrom.TAIL));
+    }
+
+    @Test
+    void should_not_allocate_on_err_pass_through() {
+        Result<Integer, RuntimeException> err = newErr();
+        Allocations.assertNoAllocation(() -> Result.from(err));
+        Allocations.assertNoAllocation(() -> err.map(i -> i + 1));
+        Allocations.assertNoAllocation(() -> err.flatMap(Result::ok));
+        Allocations.assertNoAllocation(() -> err.swap("item"));
+        Allocations.assertNoAllocation(err::upcast);
+        Allocations.assertNoAllocation(() -> err.taint(RuntimeException::new));
+        Allocations.assertNoAllocation(() -> err.taint(i -> true, i -> new RuntimeException()));
+        Allocations.assertNoAllocation(() -> err.fork(RuntimeException::new));
+        Allocations.assertNoAllocation(() -> err.fork(i -> true, i -> new RuntimeException()));
+        Allocations.assertNoAllocation(() -> err.recover(e -> false, e -> 1));
+        Allocations.assertNoAllocation(() -> err.recover(IllegalStateException.class, e -> 1));
+        Allocations.assertNoAllocation(() -> err.fuse(FlagResult.ok()));
+        Allocations.assertNoAllocation(() -> err.peek(i -> { }));
+        Allocations.assertNoAllocation(() -> err.peekErr(e -> { }));
+    }
+
+    @Test
+    void should_not_allocate_on_ok_pass_through() {
+        Result<Integer, RuntimeException> ok = Result.ok(1000);
+        Allocations.assertNoAllocation(() -> Result.from(ok));
+        Allocations.assertNoAllocation(() -> ok.mapErr(IllegalStateException::new));
+        Allocations.assertNoAllocation(ok::upcast);
+        Allocations.assertNoAllocation(() -> ok.taint(i -> false, i -> new RuntimeException()));
+        Allocations.assertNoAllocation(() -> ok.fork(i -> false, i -> new RuntimeException()));
+        Allocations.assertNoAllocation(() -> ok.recover(e -> 1));
+        Allocations.assertNoAllocation(() -> ok.recover(e -> true, e -> 1));
+        Allocations.assertNoAllocation(() -> ok.recover(RuntimeException.class, e -> 1));
+        Allocations.assertNoAllocation(() -> ok.fuse(FlagResult.ok()));
+        Allocations.assertNoAllocation(() -> ok.peek(i -> { }));
+        Allocations.assertNoAllocation(() -> ok.peekErr(e -> { }));
+    }
+
+    @Test
+    void should_fuse_flat_if_all_ok() {
+        Result<Integer, RuntimeException> ok = newOk();
+        Result<String, RuntimeException> text = Result.ok("a");
+        Result<Boolean, RuntimeException> flag = Result.ok(true);
+
+        assertEquals(Result.ok(new Result.Fuse3<>(1, "a", true)), Result.fuse(ok, text, flag, TakeFrom.HEAD));
+        assertEquals(
+                Result.ok(new Result.Fuse8<>(1, "a", true, 1, "a", true, 1, "a")),
+                Result.fuse(ok, text, flag, ok, text, flag, ok, text, TakeFrom.TAIL)
+        );
+        var fuse5 = Result.fuse(ok, text, flag, ok, text, TakeFrom.HEAD).get();
+        assertEquals(1, fuse5.first());
+        assertEquals("a", fuse5.fifth());
+    }
+
+    @Test
+    void should_fuse_flat_into_single_err() {
+        Result<Integer, RuntimeException> ok = newOk();
+        Result<Integer, RuntimeException> first = newErr();
+        Result<Integer, RuntimeException> second = newErr();
+
+        assertSame(first.getErr(), Result.fuse(ok, first, ok, TakeFrom.HEAD).getErr());
+        assertSame(first.getErr(), Result.fuse(ok, first, ok, second, TakeFrom.HEAD).getErr());
+        assertSame(second.getErr(), Result.fuse(ok, first, ok, second, TakeFrom.TAIL).getErr());
+        assertSame(second.getErr(), Result.fuse(first, ok, ok, ok, ok, ok, ok, second, TakeFrom.TAIL).getErr());
+        assertSame(first.getErr(), Result.fuse(first, ok, ok, ok, ok, ok, second, TakeFrom.HEAD).getErr());
+        assertSame(first.getErr(), Result.fuse(ok, ok, ok, ok, ok, first, TakeFrom.HEAD).getErr());
+    }
+
+    @Test
+    void should_fuse_flat_consistently_with_nested_fuse() {
+        Result<Integer, RuntimeException> ok = newOk();
+        Result<Integer, RuntimeException> first = newErr();
+        Result<Integer, RuntimeException> second = newErr();
+        for (TakeFrom rule : TakeFrom.values()) {
+            var nested = first.fuse(ok, rule).fuse(second, rule);
+            var flat = Result.fuse(first, ok, second, rule);
+            assertSame(nested.getErr(), flat.getErr());
+        }
+    }
+
+    @Test
+    void should_throw_if_flat_fusing_null() {
+        assertThrows(IllegalArgumentException.class, () -> Result.fuse(newOk(), newOk(), null, TakeFrom.HEAD));
+        assertThrows(IllegalArgumentException.class, () -> Result.fuse(newOk(), newOk(), newOk(), null));
+    }
+
+    @Test
+    void should_not_build_deferred_err_until_needed() {
+        var built = new AtomicInteger();
+        Result<Integer, RuntimeException> err = newDeferredErr(built);
+
+        assertTrue(err.isErr());
+        assertFalse(err.isOk());
+        assertTrue(err.isErrAnd(IllegalStateException.class));
+        assertTrue(err.isErrAnd(RuntimeException.class));
+        assertFalse(err.isErrAnd(IOException.class));
+        assertEquals(5, err.unwrapOr(5));
+        assertTrue(err.map(i -> i + 1).isErr());
+        assertTrue(err.drop().isErrAnd(IllegalStateException.class));
+        assertSame(err, err.fork(IllegalArgumentException::new));
+        assertSame(err, err.recover(IllegalArgumentException.class, e -> 1));
+        assertSame(err, err.peekErr(IOException.class, e -> fail()));
+        assertTrue(Result.join(List.of(newOk(), err)).isErr());
+        assertEquals(0, built.get());
+
+        assertEquals("code 1", err.getErr().getMessage());
+        assertSame(err.getErr(), err.getErr());
+        assertSame(err.getErr(), err.drop().getErr());
+        assertEquals(1, built.get());
+    }
+
+    @Test
+    void should_build_deferred_err_on_access() {
+        var built = new AtomicInteger();
+        assertThrows(IllegalStateException.class, () -> newDeferredErr(built).unwrapChecked());
+        newDeferredErr(built).peekErr(e -> assertEquals("code 1", e.getMessage()));
+        assertTrue(newDeferredErr(built).mapErr(IOException::new).isErrAnd(IOException.class));
+        assertThrows(Failure.class, () -> newDeferredErr(built).unwrap());
+        assertEquals(4, built.get());
+    }
+
+    @Test
+    void should_compare_deferred_err_by_built_error() {
+        Result<Integer, RuntimeException> deferred = newDeferredErr(new AtomicInteger());
+        Result<Integer, RuntimeException> eager = Result.err(deferred.getErr());
+        assertEquals(eager, deferred);
+        assertEquals(deferred, eager);
+        assertEquals(eager.hashCode(), deferred.hashCode());
+    }
+
+    @Test
+    void should_check_deferred_err_subtype_by_building() {
+        Result<Integer, RuntimeException> err = Result.err(
+                RuntimeException.class,
+                (code, args) -> new IllegalStateException(code),
+                "code"
+        );
+        assertTrue(err.isErrAnd(IllegalStateException.class));
+        assertFalse(err.isErrAnd(IllegalArgumentException.class));
+    }
+
+    @Test
+    void should_throw_if_deferred_err_built_wrong() {
+        Result<Integer, RuntimeException> nullErr = Result.err(RuntimeException.class, (code, args) -> null, "code");
+        assertThrows(IllegalArgumentException.class, nullErr::getErr);
+
+        Result<Integer, RuntimeException> wrongErr = Result.err(
+                IllegalStateException.class,
+                (code, args) -> cast(new IllegalArgumentException()),
+                "code"
+        );
+        assertThrows(IllegalStateException.class, wrongErr::getErr);
+    }
+
+    @Test
+    void should_throw_if_deferred_err_arguments_not_provided() {
+        assertThrows(IllegalArgumentException.class, () -> Result.err(null, (code, args) -> new RuntimeException(), "code"));
+        assertThrows(IllegalArgumentException.class, () -> Result.err(RuntimeException.class, null, "code"));
+        assertThrows(IllegalArgumentException.class, () -> Result.err(RuntimeException.class, (code, args) -> new RuntimeException(), null));
+    }
+
+    /**
+     * Wraps a list into a collection, which throws when iterated
+     *  past the specified number of elements.
+     */
+    static <T> Collection<T> failingAfter(int limit, List<T> source) {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<T> iterator() {
+                Iterator<T> delegate = source.iterator();
+                return new Iterator<>() {
+                    private int visited;
+
+                    @Override
+                    public boolean hasNext() {
+                        return delegate.hasNext();
+                    }
+
+                    @Override
+                    public T next() {
+                        if (visited++ == limit) {
+                            throw new IllegalStateException("iterated past " + limit);
+                        }
+                        return delegate.next();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return source.size();
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T cast(Object value) {
+        return (T) value;
+    }
+
+    private static Result<Integer, RuntimeException> newDeferredErr(AtomicInteger built) {
+        return Result.err(IllegalStateException.class, (code, args) -> {
+            built.incrementAndGet();
+            return new IllegalStateException(String.format(code, args));
+        }, "code %d", 1);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
     private static Result<Integer, RuntimeException> newOk() {
         return Result.ok(1);
     }
@@ -0,0 +1,151 @@
+package io.github.artkonr.result;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    void should_share_result_of_concurrent_calls() throws InterruptedException {
+        var calls = new AtomicInteger();
+        var release = new CountDownLatch(1);
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        List<Result<Integer, IOException>> results = new CopyOnWriteArrayList<>();
+        List<Thread> threads = startAll(8, () -> results.add(flight.wrap("a", () -> {
+            calls.incrementAndGet();
+            awaitQuietly(release);
+            return 1;
+        })));
+
+        awaitWaiting(threads);
+        release.countDown();
+        joinAll(threads);
+
+        assertEquals(8, results.size());
+        assertEquals(1, results.get(0).get());
+        assertEquals(1, calls.get());
+        results.forEach(result -> assertSame(results.get(0), result));
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_share_error_of_concurrent_calls() throws InterruptedException {
+        var leading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        List<FlagResult<IOException>> results = new CopyOnWriteArrayList<>();
+        Thread leader = startAll(1, () -> results.add(flight.run("a", () -> {
+            leading.countDown();
+            awaitQuietly(release);
+            throw new IOException();
+        }))).get(0);
+
+        leading.await();
+        List<Thread> followers = startAll(4, () -> results.add(flight.run("a", () -> { })));
+        awaitWaiting(followers);
+        release.countDown();
+        leader.join();
+        joinAll(followers);
+
+        assertEquals(5, results.size());
+        results.forEach(result -> assertSame(results.get(0), result));
+        assertTrue(results.get(0).isErr());
+    }
+
+    @Test
+    void should_not_retain_completed_flights() {
+        var calls = new AtomicInteger();
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        assertEquals(1, flight.wrap("a", calls::incrementAndGet).get());
+        assertEquals(2, flight.wrap("a", calls::incrementAndGet).get());
+        assertEquals(0, flight.inFlight());
+        assertEquals("SingleFlight[inFlight=0]", flight.toString());
+    }
+
+    @Test
+    void should_not_coalesce_different_keys() {
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        var inner = new AtomicInteger();
+        var outer = flight.wrap("a", () -> flight.wrap("b", () -> inner.incrementAndGet() + 1).get());
+        assertEquals(2, outer.get());
+        assertEquals(1, inner.get());
+    }
+
+    @Test
+    void should_rethrow_unexpected_error_to_all_callers() throws InterruptedException {
+        var leading = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        List<Throwable> thrown = new CopyOnWriteArrayList<>();
+        Runnable call = () -> {
+            try {
+                flight.wrap("a", () -> {
+                    leading.countDown();
+                    awaitQuietly(release);
+                    throw new UnsupportedOperationException();
+                });
+            } catch (RuntimeException ex) {
+                thrown.add(ex);
+            }
+        };
+        List<Thread> threads = startAll(1, call);
+        leading.await();
+        threads.addAll(startAll(3, call));
+        release.countDown();
+        joinAll(threads);
+
+        assertEquals(4, thrown.size());
+        thrown.forEach(ex -> assertInstanceOf(IllegalStateException.class, ex));
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    void should_throw_if_null_arguments_provided() {
+        assertThrows(IllegalArgumentException.class, () -> SingleFlight.create(null));
+        SingleFlight<String, Integer, IOException> flight = SingleFlight.create(IOException.class);
+        assertThrows(IllegalArgumentException.class, () -> flight.wrap(null, () -> 1));
+        assertThrows(IllegalArgumentException.class, () -> flight.wrap("a", null));
+        assertThrows(IllegalArgumentException.class, () -> flight.run(null, () -> { }));
+        assertThrows(IllegalArgumentException.class, () -> flight.run("a", null));
+    }
+
+    private static List<Thread> startAll(int count, Runnable action) {
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Thread thread = new Thread(action);
+            thread.start();
+            threads.add(thread);
+        }
+        return threads;
+    }
+
+    private static void joinAll(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    private static void awaitWaiting(List<Thread> threads) throws InterruptedException {
+        for (Thread thread : threads) {
+            while (thread.getState() != Thread.State.WAITING) {
+                Thread.sleep(1);
+            }
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}